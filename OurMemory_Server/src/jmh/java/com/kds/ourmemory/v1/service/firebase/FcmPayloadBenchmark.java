@@ -0,0 +1,63 @@
+package com.kds.ourmemory.v1.service.firebase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kds.ourmemory.v1.controller.firebase.dto.FcmDto;
+import com.kds.ourmemory.v1.entity.user.DeviceOs;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payload serialization, ObjectMapper with dto(before) vs FcmPayloadWriter
+ * <p>
+ * ./gradlew jmh (allocation is reported by the gc profiler)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FcmPayloadBenchmark {
+
+    @Param({"AOS", "IOS"})
+    private DeviceOs deviceOs;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final FcmPayloadWriter fcmPayloadWriter = new FcmPayloadWriter();
+
+    private FcmDto.Request request;
+
+    @Setup
+    public void setUp() {
+        request = new FcmDto.Request(
+                "exj2fhjwRjafyiNH5y_pHF:APA91bGr3ol9N3WtFR_4ad9z7eP6VLDxeB0pN8rBp7TOgfW1lFTDQ514S9xCysxUCPdL4m1jFdA5",
+                deviceOs, "OurMemory - 일정 공유", "테스트 일정 일정이 공유되었습니다.", false, "MEMORY", "1"
+        );
+    }
+
+    @Benchmark
+    public Buffer objectMapper() throws IOException {
+        Object pushData = DeviceOs.IOS.equals(request.getDeviceOs()) ?
+                new FcmDto.RequestiOS(request)
+                : new FcmDto.RequestAndroid(request);
+
+        return writeTo(RequestBody.create(objectMapper.writeValueAsString(pushData), FcmPayloadWriter.JSON));
+    }
+
+    @Benchmark
+    public Buffer payloadWriter() throws IOException {
+        return writeTo(fcmPayloadWriter.requestBody(request));
+    }
+
+    // Request body is written to the okio buffer by okhttp.
+    private Buffer writeTo(RequestBody requestBody) throws IOException {
+        var buffer = new Buffer();
+        requestBody.writeTo(buffer);
+        return buffer;
+    }
+}
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Component
@@ -13,4 +15,168 @@ public class CustomConfig {
 
     private String fcmKey;
 
+    private final Fcm fcm = new Fcm();
+
+    private final S3 s3 = new S3();
+
+    private final MonthCache monthCache = new MonthCache();
+
+    private final Ics ics = new Ics();
+
+    private final Alarm alarm = new Alarm();
+
+    private final Sync sync = new Sync();
+
+    /**
+     * FCM transport option (custom.fcm.*)
+     * <p>
+     * The http client and access token are shared by every push, so these values are read once on startup.
+     */
+    @Getter
+    @Setter
+    public static class Fcm {
+        // FCM send endpoint, can be changed to the local emulator for load test.
+        private String url = "https://fcm.googleapis.com/v1/projects/our-memory-ed357/messages:send";
+
+        // Static access token used instead of service account key(custom.fcm-key), for emulator only.
+        private String accessToken;
+
+        private Duration connectTimeout = Duration.ofSeconds(3);
+
+        private Duration readTimeout = Duration.ofSeconds(5);
+
+        private Duration writeTimeout = Duration.ofSeconds(5);
+
+        private int maxIdleConnections = 5;
+
+        private Duration keepAlive = Duration.ofMinutes(5);
+
+        // Access token is refreshed in background when the remaining time is less than this value.
+        private Duration tokenRefreshMargin = Duration.ofMinutes(5);
+
+        // Outbox: number of messages claimed at once by the dispatcher
+        private int outboxBatchSize = 100;
+
+        private int outboxMaxRetryCount = 3;
+
+        // Outbox: message kept in SENDING longer than this value is returned to WAIT.(server restarted while sending)
+        private Duration outboxSendingTimeout = Duration.ofMinutes(5);
+
+        // Outbox: sent message is deleted after this value.
+        private Duration outboxRetention = Duration.ofDays(7);
+
+        // Number of FCM requests sent concurrently by the fan-out stage
+        private int fanOutParallelism = 8;
+
+        // Messages to the same device in this window are merged into one notification.(0: not merged)
+        private Duration coalesceWindow = Duration.ofSeconds(3);
+
+        // FCM quota: messages per second, message over the rate is deferred.
+        private double rateLimitPerSecond = 500;
+
+        private Duration rateLimitWait = Duration.ofMillis(100);
+
+        // FCM quota exceeded(429) without Retry-After: FCM is not called for this value.
+        private Duration quotaRetryAfter = Duration.ofSeconds(60);
+
+        // Number of FCM calls at the same time(fan-out and controller)
+        private int bulkheadMaxConcurrent = 16;
+
+        // Circuit is opened when the failure rate of recent calls is over this value, and FCM is not called for a while.
+        private float circuitFailureRate = 50;
+
+        private Duration circuitOpenDuration = Duration.ofSeconds(30);
+    }
+
+    /**
+     * S3 client option (custom.s3.*)
+     * <p>
+     * Upload is called on the request thread, so it is limited not to hold every worker thread when S3 is slow.
+     */
+    @Getter
+    @Setter
+    public static class S3 {
+        private Duration connectTimeout = Duration.ofSeconds(3);
+
+        private Duration socketTimeout = Duration.ofSeconds(10);
+
+        // Whole request including retries
+        private Duration requestTimeout = Duration.ofSeconds(30);
+
+        private int maxConnections = 20;
+
+        private int bulkheadMaxConcurrent = 10;
+
+        private float circuitFailureRate = 50;
+
+        private Duration circuitOpenDuration = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Calendar month view cache (custom.month-cache.*)
+     * <p>
+     * Entries are removed by memory/room changes, expiration only bounds a missed invalidation.
+     */
+    @Getter
+    @Setter
+    public static class MonthCache {
+        // Number of (user, month) views, least recently used view is evicted first.
+        private long maximumSize = 10_000;
+
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+    }
+
+    /**
+     * iCalendar import option (custom.ics.*)
+     * <p>
+     * Upload size is limited by spring.servlet.multipart.max-file-size.
+     */
+    @Getter
+    @Setter
+    public static class Ics {
+        // Number of events inserted and committed in one transaction
+        private int importChunkSize = 1_000;
+
+        // Background color of imported memories, calendar files have no color of the app.
+        private String importBgColor = "#FFFFFF";
+    }
+
+    /**
+     * Memory alarm scheduler (custom.alarm.*)
+     * <p>
+     * Alarms due in the load window are kept in memory, so the window bounds the memory use.
+     * Pushes of alarms are reserved in the outbox, and every enabled server reserves pushes of every alarm.
+     * So the scheduler is disabled by default, enable it(custom.alarm.enabled=true) on only one server.
+     */
+    @Getter
+    @Setter
+    public static class Alarm {
+        private boolean enabled = false;
+
+        // Wheel tick and period of the scheduler, an alarm is fired in the tick of the alarm date.
+        private long tickMillis = 1_000;
+
+        // Buckets of each wheel level, the next level has buckets of tick * wheelSize.
+        private int wheelSize = 60;
+
+        // Alarms due until now + window are loaded, loaded by custom.alarm.load-millis.
+        private Duration loadWindow = Duration.ofMinutes(10);
+
+        // Alarms missed by restart in this duration are fired on startup.
+        private Duration missedGrace = Duration.ofMinutes(1);
+
+        // Alarms fired by one transaction
+        private int fireBatchSize = 500;
+    }
+
+    /**
+     * Delta sync (custom.sync.*)
+     */
+    @Getter
+    @Setter
+    public static class Sync {
+        // mod_date is set on flush before commit, so the next watermark is moved back by this for late commits.
+        private Duration commitLag = Duration.ofSeconds(10);
+    }
+
 }
@@ -0,0 +1,49 @@
+package com.kds.ourmemory.v1.config;
+
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+@Configuration
+public class FcmConfig {
+
+    private final CustomConfig customConfig;
+
+    /**
+     * Shared http client for FCM
+     * <p>
+     * Building a client per message creates a new connection pool and TLS handshake every time.
+     * One client keeps the connection alive and multiplexes messages on HTTP/2.
+     */
+    @Bean
+    public OkHttpClient fcmHttpClient() {
+        var fcm = customConfig.getFcm();
+
+        return new OkHttpClient.Builder()
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .connectionPool(new ConnectionPool(
+                        fcm.getMaxIdleConnections(), fcm.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS)
+                )
+                .connectTimeout(fcm.getConnectTimeout())
+                .readTimeout(fcm.getReadTimeout())
+                .writeTimeout(fcm.getWriteTimeout())
+                .build();
+    }
+
+    /**
+     * Token bucket for FCM quota
+     */
+    @Bean
+    public RateLimiter fcmRateLimiter() {
+        return RateLimiter.create(customConfig.getFcm().getRateLimitPerSecond());
+    }
+
+}
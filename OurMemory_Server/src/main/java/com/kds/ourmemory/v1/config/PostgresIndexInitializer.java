@@ -0,0 +1,104 @@
+package com.kds.ourmemory.v1.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+
+/**
+ * Index that can't be declared by JPA(partial index) and data fill of new columns are applied on PostgreSQL.
+ * <p>
+ * Schema is made by hibernate ddl, so scripts in db/postgresql are applied after the entity manager is made,
+ * before the server takes requests. Each script is applied once in version order, and recorded in schema_script_history.
+ * A failed script stops the server, it is applied again on the next startup.
+ * <p>
+ * Statements are not in a transaction, so indexes are made concurrently without blocking writes.
+ * Every statement must be safe to run again after a partial failure(if not exists, fill only unfilled rows).
+ * A concurrent index failed in the middle is left invalid, drop it before the next startup.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostgresIndexInitializer implements SmartInitializingSingleton {
+
+    private static final String SCRIPT_LOCATION = "classpath:db/postgresql/V*__*.sql";
+
+    private static final String HISTORY_TABLE_SQL = """
+            create table if not exists schema_script_history (
+                version integer primary key,
+                script varchar(255) not null,
+                applied_date timestamp not null default now()
+            )
+            """;
+
+    private final DataSource dataSource;
+
+    private final ResourcePatternResolver resourcePatternResolver;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!isPostgres()) {
+            return;
+        }
+
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(HISTORY_TABLE_SQL);
+        var applied = new HashSet<>(jdbcTemplate.queryForList("select version from schema_script_history", Integer.class));
+
+        var scripts = scripts();
+        var count = 0;
+        for (var script : scripts) {
+            var version = version(script);
+            if (applied.contains(version)) {
+                continue;
+            }
+
+            // ScriptException is thrown on the first failed statement.
+            log.info("PostgreSQL script applying. script: {}", script.getFilename());
+            new ResourceDatabasePopulator(script).execute(dataSource);
+            jdbcTemplate.update("insert into schema_script_history (version, script) values (?, ?)",
+                    version, script.getFilename());
+            count++;
+        }
+        log.info("PostgreSQL scripts applied. applied: {}, total: {}", count, scripts.length);
+    }
+
+    private Resource[] scripts() {
+        try {
+            var scripts = resourcePatternResolver.getResources(SCRIPT_LOCATION);
+            Arrays.sort(scripts, Comparator.comparingInt(PostgresIndexInitializer::version));
+            return scripts;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isPostgres() {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, "getDatabaseProductName");
+            return "PostgreSQL".equalsIgnoreCase(productName);
+        } catch (MetaDataAccessException e) {
+            log.warn("Database product check failed. {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // V{version}__{description}.sql
+    private static int version(Resource script) {
+        var fileName = script.getFilename();
+        return fileName == null ? 0 : Integer.parseInt(fileName.substring(1, fileName.indexOf("__")));
+    }
+}
@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingResponseWrapper;
@@ -13,16 +14,21 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
 
 @Slf4j
 @Component
 public class RequestResponseWrapperFilter extends OncePerRequestFilter {
 
+    private static final List<String> STREAMING_PATHS = List.of("/v1/memories/export/**");
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
     @Override
     protected void doFilterInternal(
             @NotNull HttpServletRequest request, @NotNull HttpServletResponse response, @NotNull FilterChain filterChain
     ) throws ServletException, IOException {
-        if(isAsyncDispatch(request)) {
+        if(isAsyncDispatch(request) || isStreaming(request)) {
             filterChain.doFilter(request, response);
         } else {
             /**
@@ -65,4 +71,13 @@ public class RequestResponseWrapperFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * 파일을 스트리밍하는 응답은 래핑하지 않음.
+     * ContentCachingResponseWrapper 는 응답 전체를 메모리에 복사하기 때문에 큰 파일의 경우 힙을 모두 사용하게 된다.
+     */
+    private boolean isStreaming(HttpServletRequest request) {
+        var path = request.getRequestURI().substring(request.getContextPath().length());
+        return STREAMING_PATHS.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
 }
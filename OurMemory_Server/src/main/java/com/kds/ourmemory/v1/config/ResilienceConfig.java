@@ -0,0 +1,73 @@
+package com.kds.ourmemory.v1.config;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker and bulkhead for external services(FCM, S3)
+ * <p>
+ * Circuit breaker: when the service fails continuously, calls fail fast without waiting for timeouts.
+ * Bulkhead: calls to a service use only limited number of threads, so other apis are not stalled.
+ */
+@RequiredArgsConstructor
+@Configuration
+public class ResilienceConfig {
+
+    public static final String FCM = "fcm";
+
+    public static final String S3 = "s3";
+
+    private final CustomConfig customConfig;
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        var registry = CircuitBreakerRegistry.ofDefaults();
+        registry.circuitBreaker(FCM, circuitBreakerConfig(
+                customConfig.getFcm().getCircuitFailureRate(), customConfig.getFcm().getCircuitOpenDuration()
+        ));
+        registry.circuitBreaker(S3, circuitBreakerConfig(
+                customConfig.getS3().getCircuitFailureRate(), customConfig.getS3().getCircuitOpenDuration()
+        ));
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(MeterRegistry meterRegistry) {
+        var registry = BulkheadRegistry.ofDefaults();
+        registry.bulkhead(FCM, bulkheadConfig(customConfig.getFcm().getBulkheadMaxConcurrent()));
+        registry.bulkhead(S3, bulkheadConfig(customConfig.getS3().getBulkheadMaxConcurrent()));
+
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    private CircuitBreakerConfig circuitBreakerConfig(float failureRate, Duration openDuration) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(failureRate)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .build();
+    }
+
+    // Full bulkhead rejects right away, caller doesn't wait for a slot.
+    private BulkheadConfig bulkheadConfig(int maxConcurrentCalls) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.kds.ourmemory.v1.config;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3Client;
@@ -29,12 +30,23 @@ public class S3Config {
     private String profileImageDir; // 프로필이미지 저장 위치
 
     @Bean
-    public AmazonS3Client amazonS3Client() {
+    public AmazonS3Client amazonS3Client(CustomConfig customConfig) {
         var basicAWSCredentials = new BasicAWSCredentials(accessKey, secretKey);
         return (AmazonS3Client) AmazonS3ClientBuilder.standard()
                 .withRegion(region)
                 .withCredentials(new AWSStaticCredentialsProvider(basicAWSCredentials))
+                .withClientConfiguration(clientConfiguration(customConfig.getS3()))
                 .build();
     }
 
+    // Default timeouts of sdk are too long(socket 50s, no request timeout) for the request thread.
+    private ClientConfiguration clientConfiguration(CustomConfig.S3 s3) {
+        return new ClientConfiguration()
+                .withConnectionTimeout((int) s3.getConnectTimeout().toMillis())
+                .withSocketTimeout((int) s3.getSocketTimeout().toMillis())
+                .withRequestTimeout((int) s3.getRequestTimeout().toMillis())
+                .withClientExecutionTimeout((int) s3.getRequestTimeout().toMillis())
+                .withMaxConnections(s3.getMaxConnections());
+    }
+
 }
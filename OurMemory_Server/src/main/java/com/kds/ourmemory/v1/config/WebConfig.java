@@ -17,7 +17,8 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addMapping("/**")
             .allowedOrigins("*")
             .allowedMethods("*")
-            .allowedHeaders("Content-Type")
+            .allowedHeaders("Content-Type", "If-None-Match")
+            .exposedHeaders("ETag")
             .maxAge(3000);
     }
 
@@ -41,4 +41,16 @@ public class FriendRspDto {
         friendStatus = friend.getStatus();
     }
 
+    // JPQL constructor projection(FriendRepository), no entity is loaded.
+    public FriendRspDto(Long friendId, String name, String birthday, boolean solar, boolean birthdayOpen,
+                        String profileImageUrl, FriendStatus friendStatus) {
+        this.friendId = friendId;
+        this.name = name;
+        this.birthday = birthday;
+        this.solar = solar;
+        this.birthdayOpen = birthdayOpen;
+        this.profileImageUrl = profileImageUrl;
+        this.friendStatus = friendStatus;
+    }
+
 }
@@ -1,15 +1,30 @@
 package com.kds.ourmemory.v1.controller.memory;
 
 import com.kds.ourmemory.v1.controller.ApiResult;
+import com.kds.ourmemory.v1.controller.memory.dto.MemoryImportRspDto;
+import com.kds.ourmemory.v1.controller.memory.dto.MemoryPageRspDto;
 import com.kds.ourmemory.v1.controller.memory.dto.MemoryReqDto;
 import com.kds.ourmemory.v1.controller.memory.dto.MemoryRspDto;
+import com.kds.ourmemory.v1.controller.memory.dto.MemorySearchRspDto;
+import com.kds.ourmemory.v1.service.memory.MemoryExportService;
+import com.kds.ourmemory.v1.service.memory.MemoryImportService;
 import com.kds.ourmemory.v1.service.memory.MemoryService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.List;
 
@@ -22,18 +37,68 @@ import static com.kds.ourmemory.v1.controller.ApiResult.ok;
 public class MemoryController {
     private final MemoryService memoryService;
 
+    private final MemoryImportService memoryImportService;
+
+    private final MemoryExportService memoryExportService;
+
     @ApiOperation(value = "일정 추가", notes = "일정을 개인방에 추가한 뒤 추가할 방에 공유한다. 추가/공유 둘다 동일한 기능으로 일정-방 관계데이터를 만들어준다.")
     @PostMapping
     public ApiResult<MemoryRspDto> insert(@RequestBody MemoryReqDto reqDto) {
         return ok(memoryService.insert(reqDto));
     }
 
-    @ApiOperation(value = "일정 개별 조회", notes = "하나의 일정이 여러 방에 포함될 수 있기 때문에 어떤 방에서 일정을 조회하는지 확인하기 위해 방 번호를 받음.")
+    @ApiOperation(value = "일정 가져오기", notes = """
+            다른 캘린더에서 내보낸 iCalendar(.ics) 파일의 일정을 사용자의 개인방에 추가한다.
+            1. 가져오는 값 - SUMMARY(제목), DESCRIPTION(내용), LOCATION(장소), DTSTART/DTEND/DURATION(시작/종료시간)
+            2. 제목 또는 시작시간이 없는 일정은 제외한다.
+            3. 일정은 묶음 단위로 저장되며, 오류가 발생한 경우 이전 묶음까지 저장된 일정은 유지된다.""")
+    @PostMapping(value = "/import/users/{userId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResult<MemoryImportRspDto> importIcs(
+            @ApiParam(value = "사용자 번호", required = true) @PathVariable long userId,
+            @ApiParam(value = "iCalendar(.ics) 파일", required = true) @RequestPart MultipartFile file
+    ) {
+        return ok(memoryImportService.importIcs(userId, file));
+    }
+
+    @ApiOperation(value = "사용자 일정 내보내기", notes = """
+            사용자가 작성한 일정을 iCalendar(.ics) 파일로 내려받는다.
+            1. 응답은 ApiResult 가 아닌 text/calendar 파일이다.
+            2. 사용자를 찾을 수 없는 경우, 파일 대신 ApiResult 오류를 응답한다.""")
+    @GetMapping("/export/users/{userId}")
+    public void exportUserMemories(
+            @ApiParam(value = "사용자 번호", required = true) @PathVariable long userId,
+            HttpServletResponse response
+    ) throws IOException {
+        writeCalendar(response, "ourmemory-user-" + userId, memoryExportService.exportUserMemories(userId));
+    }
+
+    @ApiOperation(value = "방 일정 내보내기", notes = """
+            방에 공유된 일정을 iCalendar(.ics) 파일로 내려받는다.
+            1. 응답은 ApiResult 가 아닌 text/calendar 파일이다.
+            2. 방을 찾을 수 없는 경우, 파일 대신 ApiResult 오류를 응답한다.""")
+    @GetMapping("/export/rooms/{roomId}")
+    public void exportRoomMemories(
+            @ApiParam(value = "방 번호", required = true) @PathVariable long roomId,
+            HttpServletResponse response
+    ) throws IOException {
+        writeCalendar(response, "ourmemory-room-" + roomId, memoryExportService.exportRoomMemories(roomId));
+    }
+
+    @ApiOperation(value = "일정 개별 조회", notes = """
+            하나의 일정이 여러 방에 포함될 수 있기 때문에 어떤 방에서 일정을 조회하는지 확인하기 위해 방 번호를 받음.
+            응답의 ETag 를 If-None-Match 로 전달한 경우, 변경이 없으면 304 를 응답한다.""")
     @GetMapping("/{memoryId}/room/{roomId}")
     public ApiResult<MemoryRspDto> findMemory(
             @PathVariable long memoryId,
-            @PathVariable long roomId
+            @PathVariable long roomId,
+            WebRequest request
     ) {
+        // Not modified: 304 by the version of the memory, the memory is not loaded.
+        var etag = memoryService.findETag(memoryId, roomId);
+        if (etag.isPresent() && request.checkNotModified(etag.get())) {
+            return null;
+        }
+
         return ok(memoryService.find(memoryId, roomId));
     }
 
@@ -47,17 +112,66 @@ public class MemoryController {
                 2) 일정 제목
             3. 정렬조건 - 오름차순
                 1) 일정 시작시간
-                2) 일정 생성시간""")
+                2) 일정 생성시간
+            4. 반복 일정
+                1) 시작월, 종료월을 모두 전달한 경우, 기간 안의 반복 일정을 각각의 일정으로 나누어 전달한다.(일정 번호는 동일)
+                2) 기간이 없는 경우, 반복 설정이 포함된 하나의 일정으로 전달한다.
+            5. 응답의 ETag 를 If-None-Match 로 전달한 경우, 변경이 없으면 304 를 응답한다.""")
     @GetMapping
     public ApiResult<List<MemoryRspDto>> findMemories(
             @ApiParam(value = "일정 작성자 번호") @RequestParam(required = false) Long writerId,
             @ApiParam(value = "일정 제목") @RequestParam(required = false) String name,
             @ApiParam(value = "일정 시작월", example = "yyyy-MM") @RequestParam(required = false) YearMonth startMonth,
-            @ApiParam(value = "일정 종료월", example = "yyyy-MM") @RequestParam(required = false) YearMonth endMonth
+            @ApiParam(value = "일정 종료월", example = "yyyy-MM") @RequestParam(required = false) YearMonth endMonth,
+            WebRequest request
     ) {
+        if (request.checkNotModified(memoryService.findMemoriesETag(writerId, name, startMonth, endMonth))) {
+            return null;
+        }
+
         return ok(memoryService.findMemories(writerId, name, startMonth, endMonth));
     }
 
+    @ApiOperation(value = "일정 목록 페이지 조회", notes = """
+            일정 목록 조회와 같은 조건으로 검색하고, 커서 기반으로 나누어 조회한다.
+            1. 정렬조건 - 오름차순
+                1) 일정 시작시간
+                2) 일정 생성시간
+                3) 일정 번호
+            2. 페이지
+                1) 첫 페이지는 커서 없이 조회한다.
+                2) 다음 페이지는 응답의 nextCursor 를 cursor 로 전달한다. nextCursor 가 null 이면 마지막 페이지다.
+                3) 페이지 크기 기본값 50, 최대 200""")
+    @GetMapping("/page")
+    public ApiResult<MemoryPageRspDto> findMemoriesPage(
+            @ApiParam(value = "일정 작성자 번호") @RequestParam(required = false) Long writerId,
+            @ApiParam(value = "일정 제목") @RequestParam(required = false) String name,
+            @ApiParam(value = "일정 시작월", example = "yyyy-MM") @RequestParam(required = false) YearMonth startMonth,
+            @ApiParam(value = "일정 종료월", example = "yyyy-MM") @RequestParam(required = false) YearMonth endMonth,
+            @ApiParam(value = "이전 페이지의 nextCursor") @RequestParam(required = false) String cursor,
+            @ApiParam(value = "페이지 크기", example = "50") @RequestParam(required = false) Integer size
+    ) {
+        return ok(memoryService.findMemoriesPage(writerId, name, startMonth, endMonth, cursor, size));
+    }
+
+    @ApiOperation(value = "일정 검색", notes = """
+            사용자가 참여한 방의 일정 중 검색어가 포함된 일정을 검색한다.
+            1. 검색대상 - 일정 제목, 일정 내용, 장소(부분 일치, 대소문자 구분 없음)
+            2. 정렬조건 - 정확도 순
+                1) 제목 일치 > 제목 시작 > 제목 포함 > 장소 포함 > 내용 포함
+                2) 일정 시작시간 내림차순
+            3. 페이지 - 0부터 시작, 페이지 크기 기본값 50, 최대 200
+            4. 검색어 - 앞뒤 공백 제외 3자 이상, 100자 이하""")
+    @GetMapping("/search")
+    public ApiResult<MemorySearchRspDto> search(
+            @ApiParam(value = "검색하는 사용자 번호", required = true) @RequestParam long userId,
+            @ApiParam(value = "검색어", required = true) @RequestParam String query,
+            @ApiParam(value = "페이지 번호", example = "0") @RequestParam(required = false) Integer page,
+            @ApiParam(value = "페이지 크기", example = "50") @RequestParam(required = false) Integer size
+    ) {
+        return ok(memoryService.search(userId, query, page, size));
+    }
+
     @ApiOperation(value = "일정 수정", notes = "전달받은 값이 있는 경우 수정")
     @PutMapping("/{memoryId}/writer/{userId}")
     public ApiResult<MemoryRspDto> update(
@@ -68,6 +182,17 @@ public class MemoryController {
         return ok(memoryService.update(memoryId, userId, reqDto));
     }
 
+    @ApiOperation(value = "반복 일정 개별 삭제", notes = "반복 일정 중 전달받은 시작시간의 일정 하나만 삭제한다. 나머지 반복 일정은 유지된다.")
+    @DeleteMapping("/{memoryId}/writer/{userId}/occurrences")
+    public ApiResult<MemoryRspDto> excludeOccurrence(
+            @ApiParam(value = "일정 번호") @PathVariable long memoryId,
+            @ApiParam(value = "일정 작성자 번호") @PathVariable long userId,
+            @ApiParam(value = "삭제할 반복 일정의 시작시간", example = "yyyy-MM-dd HH:mm")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm") LocalDateTime startDate
+    ) {
+        return ok(memoryService.excludeOccurrence(memoryId, userId, startDate));
+    }
+
     @ApiOperation(value = "일정 참석 여부 설정", notes = "일정에 참석/불참 여부 설정, 사용자-일정 관계 테이블에 레코드를 추가하는 방식으로 설정함.")
     @PostMapping("/{memoryId}/attendance")
     public ApiResult<MemoryRspDto> setAttend(@PathVariable long memoryId, @RequestBody MemoryReqDto reqDto) {
@@ -102,4 +227,14 @@ public class MemoryController {
             @ApiParam(value = "일정이 삭제될 방 번호") @PathVariable long roomId) {
         return ok(memoryService.delete(memoryId, userId, roomId));
     }
+
+    // Written on the request thread, the response is not buffered by RequestResponseWrapperFilter.
+    private void writeCalendar(HttpServletResponse response, String fileName, StreamingResponseBody body)
+            throws IOException {
+        response.setContentType("text/calendar;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName + ".ics").build().toString());
+
+        body.writeTo(response.getOutputStream());
+    }
 }
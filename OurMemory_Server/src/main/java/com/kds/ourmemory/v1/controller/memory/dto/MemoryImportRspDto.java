@@ -0,0 +1,20 @@
+package com.kds.ourmemory.v1.controller.memory.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@ApiModel(value = "MemoryImportRspDto", description = "Memory Import API Response Dto")
+@Getter
+@AllArgsConstructor
+public class MemoryImportRspDto {
+    @ApiModelProperty(value = "개인방에 추가된 일정 수", required = true, example = "10000")
+    private final int imported;
+
+    @ApiModelProperty(value = "제목 또는 시작시간이 없어 제외된 일정 수", required = true, example = "0")
+    private final int skipped;
+
+    @ApiModelProperty(value = "커밋된 묶음 수", required = true, example = "10")
+    private final int chunks;
+}
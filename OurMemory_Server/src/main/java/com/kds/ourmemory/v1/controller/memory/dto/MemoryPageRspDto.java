@@ -0,0 +1,27 @@
+package com.kds.ourmemory.v1.controller.memory.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Objects;
+
+@ApiModel(value = "MemoryPageRspDto", description = "Memory Page API Response Dto")
+@Getter
+public class MemoryPageRspDto {
+    @ApiModelProperty(value = "일정 목록", required = true)
+    private final List<MemoryRspDto> memories;
+
+    @ApiModelProperty(value = "다음 페이지 커서", notes = "다음 페이지 조회 시 cursor 로 전달한다. 마지막 페이지인 경우 null 이 전달된다.")
+    private final String nextCursor;
+
+    @ApiModelProperty(value = "다음 페이지 존재 여부", required = true, example = "true")
+    private final boolean hasNext;
+
+    public MemoryPageRspDto(List<MemoryRspDto> memories, String nextCursor) {
+        this.memories = memories;
+        this.nextCursor = nextCursor;
+        this.hasNext = Objects.nonNull(nextCursor);
+    }
+}
@@ -2,6 +2,7 @@ package com.kds.ourmemory.v1.controller.memory.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.kds.ourmemory.v1.entity.memory.Memory;
+import com.kds.ourmemory.v1.entity.memory.RecurrenceType;
 import com.kds.ourmemory.v1.entity.relation.AttendanceStatus;
 import com.kds.ourmemory.v1.entity.user.User;
 import io.swagger.annotations.ApiModel;
@@ -52,6 +53,17 @@ public class MemoryReqDto {
     @ApiModelProperty(value = "배경색(16진 색상코드)", example = "#FFFFFF")
     private String bgColor;
 
+    @ApiModelProperty(value = "반복 종류(NONE: 반복 안함, DAILY: 매일, WEEKLY: 매주, MONTHLY: 매월, YEARLY: 매년)", example = "WEEKLY",
+            notes = "수정 시 전달하면 반복 설정 전체를 변경하고, 삭제된 반복 일정도 초기화된다.")
+    private RecurrenceType recurrenceType;
+
+    @ApiModelProperty(value = "반복 간격(기본값 1, 예: WEEKLY, 2 -> 2주마다)", example = "1")
+    private Integer recurrenceInterval;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
+    @ApiModelProperty(value = "반복 종료 시간(yyyy-MM-dd HH:mm), 이 시간 이후에 시작하는 일정은 반복하지 않는다. 없으면 계속 반복", example = "2021-12-31 23:59")
+    private LocalDateTime recurrenceEndDate;
+
     /* Used only setAttend */
     @ApiModelProperty(value = "[일정 참석여부용] 참석 여부", example = "ATTEND")
     private AttendanceStatus attendanceStatus;
@@ -74,6 +86,9 @@ public class MemoryReqDto {
                 .firstAlarm(firstAlarm)
                 .secondAlarm(secondAlarm)
                 .bgColor(bgColor)
+                .recurrenceType(recurrenceType)
+                .recurrenceInterval(recurrenceInterval)
+                .recurrenceEndDate(recurrenceEndDate)
                 .build();
     }
 
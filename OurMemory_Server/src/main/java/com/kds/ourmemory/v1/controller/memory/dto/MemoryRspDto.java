@@ -2,6 +2,7 @@ package com.kds.ourmemory.v1.controller.memory.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.kds.ourmemory.v1.entity.memory.Memory;
+import com.kds.ourmemory.v1.entity.memory.RecurrenceType;
 import com.kds.ourmemory.v1.entity.relation.AttendanceStatus;
 import com.kds.ourmemory.v1.entity.relation.UserMemory;
 import com.kds.ourmemory.v1.entity.room.Room;
@@ -58,6 +59,22 @@ public class MemoryRspDto {
     @ApiModelProperty(value = "일정 수정날짜(yyyy-MM-dd HH:mm:ss)", required = true)
     private final String modDate;
 
+    @ApiModelProperty(value = "반복 종류(DAILY: 매일, WEEKLY: 매주, MONTHLY: 매월, YEARLY: 매년), 반복하지 않는 경우 null")
+    private RecurrenceType recurrenceType;
+
+    @ApiModelProperty(value = "반복 간격", example = "1")
+    private Integer recurrenceInterval;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
+    @ApiModelProperty(value = "반복 종료 시간(yyyy-MM-dd HH:mm), 종료 없이 반복하는 경우 null")
+    private LocalDateTime recurrenceEndDate;
+
+    @ApiModelProperty(value = "참석 인원 수", example = "3")
+    private Integer attendCount;
+
+    @ApiModelProperty(value = "불참 인원 수", example = "1")
+    private Integer absenceCount;
+
     @ApiModelProperty(value = "일정 공유방 목록", notes = "일정이 공유된 방 목록")
     private List<MemoryRspDto.ShareRoom> shareRooms;
 
@@ -80,6 +97,8 @@ public class MemoryRspDto {
         secondAlarm = memory.getSecondAlarm();
         regDate = memory.formatRegDate();
         modDate = memory.formatModDate();
+        setRecurrence(memory);
+        setAttendanceCount(memory);
     }
 
     public MemoryRspDto(UserMemory userMemory) {
@@ -95,6 +114,8 @@ public class MemoryRspDto {
         secondAlarm = userMemory.getMemory().getSecondAlarm();
         regDate = userMemory.getMemory().formatRegDate();
         modDate = userMemory.getMemory().formatModDate();
+        setRecurrence(userMemory.getMemory());
+        setAttendanceCount(userMemory.getMemory());
 
         // Optional return
         userAttendances = List.of(new UserAttendance(userMemory));
@@ -113,6 +134,8 @@ public class MemoryRspDto {
         secondAlarm = memory.getSecondAlarm();
         regDate = memory.formatRegDate();
         modDate = memory.formatModDate();
+        setRecurrence(memory);
+        setAttendanceCount(memory);
 
         // Optional return
         shareRooms = memory.getRooms().stream()
@@ -134,6 +157,8 @@ public class MemoryRspDto {
         secondAlarm = memory.getSecondAlarm();
         regDate = memory.formatRegDate();
         modDate = memory.formatModDate();
+        setRecurrence(memory);
+        setAttendanceCount(memory);
 
         // Optional return
         this.addedRoomId = addedRoomId;
@@ -152,11 +177,73 @@ public class MemoryRspDto {
         secondAlarm = memory.getSecondAlarm();
         regDate = memory.formatRegDate();
         modDate = memory.formatModDate();
+        setRecurrence(memory);
+        setAttendanceCount(userMemories);
 
         // Optional return
         this.userAttendances = userMemories.stream().map(MemoryRspDto.UserAttendance::new).collect(toList());
     }
 
+    /**
+     * Occurrence of a repeated memory, same as the series except the start and end.
+     */
+    private MemoryRspDto(MemoryRspDto series, LocalDateTime occurrenceStartDate, LocalDateTime occurrenceEndDate) {
+        memoryId = series.memoryId;
+        writerId = series.writerId;
+        name = series.name;
+        contents = series.contents;
+        place = series.place;
+        startDate = occurrenceStartDate;
+        endDate = occurrenceEndDate;
+        bgColor = series.bgColor;
+        firstAlarm = series.firstAlarm;
+        secondAlarm = series.secondAlarm;
+        regDate = series.regDate;
+        modDate = series.modDate;
+        recurrenceType = series.recurrenceType;
+        recurrenceInterval = series.recurrenceInterval;
+        recurrenceEndDate = series.recurrenceEndDate;
+        attendCount = series.attendCount;
+        absenceCount = series.absenceCount;
+
+        // Optional return
+        shareRooms = series.shareRooms;
+        addedRoomId = series.addedRoomId;
+        userAttendances = series.userAttendances;
+    }
+
+    /**
+     * Occurrences of the memory overlapped with [from, to), this response itself when the memory is not repeated.
+     */
+    public List<MemoryRspDto> expand(Memory memory, LocalDateTime from, LocalDateTime to) {
+        if (!memory.isRecurring()) {
+            return memory.occurrenceStartDates(from, to).isEmpty() ? List.of() : List.of(this);
+        }
+
+        var duration = memory.duration();
+        return memory.occurrenceStartDates(from, to).stream()
+                .map(occurrence -> new MemoryRspDto(this, occurrence, occurrence.plus(duration)))
+                .toList();
+    }
+
+    private void setRecurrence(Memory memory) {
+        recurrenceType = memory.getRecurrenceType();
+        recurrenceInterval = memory.getRecurrenceInterval();
+        recurrenceEndDate = memory.getRecurrenceEndDate();
+    }
+
+    // Stored counters, users_memories is not read.
+    private void setAttendanceCount(Memory memory) {
+        attendCount = memory.getAttendCount();
+        absenceCount = memory.getAbsenceCount();
+    }
+
+    // Counters of the room, by the attendance of room members.
+    private void setAttendanceCount(List<UserMemory> userMemories) {
+        attendCount = (int) userMemories.stream().filter(um -> um.getStatus() == AttendanceStatus.ATTEND).count();
+        absenceCount = (int) userMemories.stream().filter(um -> um.getStatus() == AttendanceStatus.ABSENCE).count();
+    }
+
     /**
      * Memory room non static inner class
      */
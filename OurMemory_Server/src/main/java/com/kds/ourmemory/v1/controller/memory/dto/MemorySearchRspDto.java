@@ -0,0 +1,22 @@
+package com.kds.ourmemory.v1.controller.memory.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@ApiModel(value = "MemorySearchRspDto", description = "Memory Search API Response Dto")
+@Getter
+@AllArgsConstructor
+public class MemorySearchRspDto {
+    @ApiModelProperty(value = "검색된 일정 목록(정확도 순)", required = true)
+    private final List<MemoryRspDto> memories;
+
+    @ApiModelProperty(value = "페이지 번호(0부터 시작)", required = true, example = "0")
+    private final int page;
+
+    @ApiModelProperty(value = "다음 페이지 존재 여부", required = true, example = "true")
+    private final boolean hasNext;
+}
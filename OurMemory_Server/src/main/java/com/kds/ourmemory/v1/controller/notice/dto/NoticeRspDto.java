@@ -1,11 +1,14 @@
 package com.kds.ourmemory.v1.controller.notice.dto;
 
+import com.kds.ourmemory.v1.entity.BaseTimeEntity;
 import com.kds.ourmemory.v1.entity.notice.Notice;
 import com.kds.ourmemory.v1.entity.notice.NoticeType;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @ApiModel(value = "NoticeRspDto", description = "Notice API Response Dto")
 @Getter
 public class NoticeRspDto {
@@ -33,4 +36,13 @@ public class NoticeRspDto {
         this.regDate = notice.formatRegDate();
     }
 
+    // JPQL constructor projection(NoticeRepository), no entity is loaded.
+    public NoticeRspDto(long noticeId, NoticeType type, String value, boolean read, LocalDateTime regDate) {
+        this.noticeId = noticeId;
+        this.type = type;
+        this.value = value;
+        this.read = read;
+        this.regDate = BaseTimeEntity.format(regDate);
+    }
+
 }
@@ -9,7 +9,9 @@ import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.YearMonth;
 import java.util.List;
 
 import static com.kds.ourmemory.v1.controller.ApiResult.ok;
@@ -27,20 +29,40 @@ public class RoomController {
         return ok(roomService.insert(reqDto));
     }
 
-    @ApiOperation(value = "방 단일 조회", notes = "방 정보, 방에 포함된 일정을 조회한다.")
+    @ApiOperation(value = "방 단일 조회", notes = """
+            방 정보, 방에 포함된 일정을 조회한다.
+            1. 조회월이 없는 경우, 종료되지 않은 일정을 조회한다. 반복 일정은 반복 설정이 포함된 하나의 일정으로 전달한다.
+            2. 조회월을 전달한 경우, 해당 월의 일정을 조회한다. 반복 일정은 해당 월 안의 각각의 일정으로 나누어 전달한다.
+            3. 응답의 ETag 를 If-None-Match 로 전달한 경우, 변경이 없으면 304 를 응답한다.""")
     @GetMapping("/{roomId}")
-    public ApiResult<RoomRspDto> find(@PathVariable long roomId) {
-        return ok(roomService.find(roomId));
+    public ApiResult<RoomRspDto> find(
+            @PathVariable long roomId,
+            @ApiParam(value = "조회월", example = "yyyy-MM") @RequestParam(required = false) YearMonth month,
+            WebRequest request
+    ) {
+        // Not modified: 304 by the version of the room, the room is not loaded.
+        var etag = roomService.findETag(roomId, month);
+        if (etag.isPresent() && request.checkNotModified(etag.get())) {
+            return null;
+        }
+
+        return ok(roomService.find(roomId, month));
     }
 
     @ApiOperation(value = "방 목록 조회", notes = """
             조건에 맞는 방 목록을 조회한다. 개인방은 보여지지 않는다.
-            각 조건은 OR 검색된다.""")
+            각 조건은 OR 검색된다.
+            응답의 ETag 를 If-None-Match 로 전달한 경우, 변경이 없으면 304 를 응답한다.""")
     @GetMapping
     public ApiResult<List<RoomRspDto>> findRooms(
             @RequestParam(required = false) Long userId,
-            @RequestParam(required = false) String name
+            @RequestParam(required = false) String name,
+            WebRequest request
     ) {
+        if (request.checkNotModified(roomService.findRoomsETag(userId, name))) {
+            return null;
+        }
+
         return ok(roomService.findRooms(userId, name));
     }
 
@@ -4,13 +4,18 @@ import com.kds.ourmemory.v1.controller.friend.dto.FriendRspDto;
 import com.kds.ourmemory.v1.controller.memory.dto.MemoryRspDto;
 import com.kds.ourmemory.v1.entity.friend.Friend;
 import com.kds.ourmemory.v1.entity.memory.Memory;
+import com.kds.ourmemory.v1.entity.relation.UserMemory;
 import com.kds.ourmemory.v1.entity.room.Room;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 
@@ -39,22 +44,34 @@ public class RoomRspDto {
     @ApiModelProperty(value = "방에 생성된 일정", required = true)
     private final List<MemoryRspDto> memories;
 
-    public RoomRspDto(Room room) {
+    /**
+     * @param attendances attendance of room members by memory id.
+     */
+    public RoomRspDto(Room room, Map<Long, List<UserMemory>> attendances) {
+        this(room, null, attendances);
+    }
+
+    /**
+     * @param month       memories overlapped with the month, repeated memories are expanded to occurrences in the month.
+     *                    null: memories not ended yet, repeated memories as a series.
+     * @param attendances attendance of room members by memory id.
+     */
+    public RoomRspDto(Room room, YearMonth month, Map<Long, List<UserMemory>> attendances) {
         roomId = room.getId();
         ownerId = room.getOwner().getId();
         name = room.getName();
         regDate = room.formatRegDate();
         opened = room.isOpened();
         members = room.getUsers().stream().map(user -> new FriendRspDto(new Friend(user, user, null))).collect(toList());
+
+        var now = LocalDateTime.now();
+        var from = Memory.filterFrom(month);
+        var to = Memory.filterTo(month);
         memories = room.getMemories().stream().filter(Memory::isUsed)
-                .filter(memory -> memory.getEndDate().isAfter(LocalDateTime.now()))
-                .map(memory-> {
-                    var userMemories = memory.getUsers()
-                            .stream()
-                            .filter(userMemory -> room.getUsers().contains(userMemory.getUser()))
-                            .collect(toList());
-
-                    return new MemoryRspDto(memory, userMemories);
+                .filter(memory -> Objects.nonNull(month) || memory.lastEndDate().isAfter(now))
+                .flatMap(memory-> {
+                    var memoryRsp = new MemoryRspDto(memory, attendances.getOrDefault(memory.getId(), List.of()));
+                    return Objects.isNull(month) ? Stream.of(memoryRsp) : memoryRsp.expand(memory, from, to).stream();
                 })
                 .collect(toList());
     }
@@ -0,0 +1,35 @@
+package com.kds.ourmemory.v1.controller.sync;
+
+import com.kds.ourmemory.v1.controller.ApiResult;
+import com.kds.ourmemory.v1.controller.sync.dto.SyncRspDto;
+import com.kds.ourmemory.v1.service.sync.SyncService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+import static com.kds.ourmemory.v1.controller.ApiResult.ok;
+
+@Api(tags = {"8. Sync"})
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(value = "/v1/sync")
+public class SyncController {
+    private final SyncService syncService;
+
+    @ApiOperation(value = "변경 내역 동기화", notes = """
+            since 이후 변경된 방, 일정, 참석 여부와 삭제된 방, 일정 번호를 조회한다.\s
+            since 를 전달하지 않은 경우 전체 목록을 조회한다. 응답의 watermark 를 다음 요청의 since 로 전달한다.""")
+    @GetMapping("/users/{userId}")
+    public ApiResult<SyncRspDto> sync(
+            @ApiParam(value = "userId", required = true) @PathVariable long userId,
+            @ApiParam(value = "이전 동기화 응답의 watermark", example = "yyyy-MM-dd HH:mm:ss.SSS")
+            @RequestParam(required = false) @DateTimeFormat(pattern = SyncRspDto.WATERMARK_PATTERN) LocalDateTime since
+    ) {
+        return ok(syncService.sync(userId, since));
+    }
+}
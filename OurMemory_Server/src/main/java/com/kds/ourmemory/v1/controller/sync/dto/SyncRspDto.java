@@ -0,0 +1,120 @@
+package com.kds.ourmemory.v1.controller.sync.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.kds.ourmemory.v1.controller.memory.dto.MemoryRspDto;
+import com.kds.ourmemory.v1.entity.memory.Memory;
+import com.kds.ourmemory.v1.entity.relation.AttendanceStatus;
+import com.kds.ourmemory.v1.entity.relation.UserMemory;
+import com.kds.ourmemory.v1.entity.room.Room;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@ApiModel(value = "SyncRspDto", description = "Sync API Response Dto")
+@Getter
+public class SyncRspDto {
+    // Millis are kept, mod_date is compared in millis.
+    public static final String WATERMARK_PATTERN = "yyyy-MM-dd HH:mm:ss.SSS";
+
+    @JsonFormat(pattern = WATERMARK_PATTERN)
+    @ApiModelProperty(value = "다음 동기화 기준 시간(yyyy-MM-dd HH:mm:ss.SSS)", required = true,
+            notes = "다음 동기화 요청 시 since 로 전달한다.")
+    private final LocalDateTime watermark;
+
+    @ApiModelProperty(value = "참여중인 방 번호 목록", notes = "방 참여/나가기가 있었던 경우에만 전체 목록이 전달된다. 변경이 없는 경우 null 이 전달된다.")
+    private final List<Long> roomIds;
+
+    @ApiModelProperty(value = "변경된 방 목록", required = true)
+    private final List<SyncRoom> rooms;
+
+    @ApiModelProperty(value = "삭제된 방 번호 목록", required = true)
+    private final List<Long> deletedRoomIds;
+
+    @ApiModelProperty(value = "변경된 일정 목록", required = true)
+    private final List<MemoryRspDto> memories;
+
+    @ApiModelProperty(value = "삭제된 일정 번호 목록", required = true)
+    private final List<Long> deletedMemoryIds;
+
+    @ApiModelProperty(value = "변경된 참석 여부 목록", required = true)
+    private final List<SyncAttendance> attendances;
+
+    /**
+     * @param memberIds member ids by room id of changed rooms
+     * @param memoryIds used memory ids by room id of changed rooms
+     */
+    public SyncRspDto(LocalDateTime watermark, List<Long> roomIds, List<Room> rooms,
+                      Map<Long, List<Long>> memberIds, Map<Long, List<Long>> memoryIds,
+                      List<Memory> memories, List<UserMemory> attendances) {
+        this.watermark = watermark;
+        this.roomIds = roomIds;
+        this.rooms = rooms.stream()
+                .filter(Room::isUsed)
+                .map(room -> new SyncRoom(room,
+                        memberIds.getOrDefault(room.getId(), List.of()),
+                        memoryIds.getOrDefault(room.getId(), List.of())))
+                .toList();
+        this.deletedRoomIds = rooms.stream().filter(room -> !room.isUsed()).map(Room::getId).toList();
+        this.memories = memories.stream().filter(Memory::isUsed).map(MemoryRspDto::new).toList();
+        this.deletedMemoryIds = memories.stream().filter(memory -> !memory.isUsed()).map(Memory::getId).toList();
+        this.attendances = attendances.stream().map(SyncAttendance::new).toList();
+    }
+
+    /**
+     * Changed room with members and memories, relations are replaced by these lists.
+     */
+    @ApiModel(value = "SyncRspDto.SyncRoom", description = "inner class in SyncRspDto")
+    @Getter
+    public static class SyncRoom {
+        @ApiModelProperty(value = "방 번호", required = true, example = "49")
+        private final Long roomId;
+
+        @ApiModelProperty(value = "방 소유자 번호", required = true, example = "99")
+        private final Long ownerId;
+
+        @ApiModelProperty(value = "방 이름", required = true, example = "프로젝트 방")
+        private final String name;
+
+        @ApiModelProperty(value = "방 공개여부", required = true, example = "false")
+        private final boolean opened;
+
+        @ApiModelProperty(value = "방 참여자 번호 목록", required = true)
+        private final List<Long> memberIds;
+
+        @ApiModelProperty(value = "방 일정 번호 목록", required = true)
+        private final List<Long> memoryIds;
+
+        // Relations are read by id queries, room.getUsers()/getMemories() are not loaded.
+        private SyncRoom(Room room, List<Long> memberIds, List<Long> memoryIds) {
+            roomId = room.getId();
+            ownerId = room.getOwner().getId();
+            name = room.getName();
+            opened = room.isOpened();
+            this.memberIds = memberIds;
+            this.memoryIds = memoryIds;
+        }
+    }
+
+    @ApiModel(value = "SyncRspDto.SyncAttendance", description = "inner class in SyncRspDto")
+    @Getter
+    public static class SyncAttendance {
+        @ApiModelProperty(value = "일정 번호", required = true)
+        private final Long memoryId;
+
+        @ApiModelProperty(value = "사용자 번호", required = true)
+        private final Long userId;
+
+        @ApiModelProperty(value = "참석 여부", required = true)
+        private final AttendanceStatus status;
+
+        private SyncAttendance(UserMemory userMemory) {
+            memoryId = userMemory.getMemory().getId();
+            userId = userMemory.getUser().getId();
+            status = userMemory.getStatus();
+        }
+    }
+}
@@ -7,6 +7,7 @@ import io.swagger.annotations.ApiModelProperty;
 import lombok.Getter;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @ApiModel(value = "TodoRspDto", description = "Todo API Response Dto")
 @Getter
@@ -32,4 +33,12 @@ public class TodoRspDto {
         this.todoDate = todo.getTodoDate().toLocalDate();
     }
 
+    // JPQL constructor projection(TodoRepository), no entity is loaded.
+    public TodoRspDto(Long todoId, Long writerId, String contents, LocalDateTime todoDate) {
+        this.todoId = todoId;
+        this.writerId = writerId;
+        this.contents = contents;
+        this.todoDate = todoDate.toLocalDate();
+    }
+
 }
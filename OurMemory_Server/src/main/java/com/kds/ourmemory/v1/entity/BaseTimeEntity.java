@@ -39,6 +39,14 @@ public abstract class BaseTimeEntity {
         return Objects.nonNull(modDate)? LocalDateTime.parse(modDate.format(missFormat), missFormat) : null;
     }
     
+    /**
+     * Mark the entity modified when only its relations(join tables) are changed, the modified date is set on flush.
+     * Relations are not columns of the entity, so they are found by the delta sync only by this.
+     */
+    protected void touch() {
+        this.modDate = LocalDateTime.now();
+    }
+
     public String formatRegDate() {
         return Objects.nonNull(regDate)? regDate.format(format): null;
     }
@@ -50,4 +58,9 @@ public abstract class BaseTimeEntity {
     public static String formatNow() {
         return LocalDateTime.now().format(format);
     }
+
+    // Same format for a date read by projection, without the entity
+    public static String format(LocalDateTime dateTime) {
+        return Objects.nonNull(dateTime)? dateTime.format(format): null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.kds.ourmemory.v1.entity.firebase;
+
+import com.kds.ourmemory.v1.controller.firebase.dto.FcmDto;
+import com.kds.ourmemory.v1.entity.BaseTimeEntity;
+import com.kds.ourmemory.v1.entity.user.DeviceOs;
+import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.DynamicUpdate;
+
+import javax.persistence.*;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Push message waiting to be sent
+ * <p>
+ * Saved in the same transaction with business data, and sent by FcmOutboxDispatcher after commit.
+ */
+@ToString
+@DynamicUpdate
+@Entity(name = "fcm_outboxes")
+@Table(indexes = {
+        @Index(name = "idx_fcm_outboxes_status_reg_date", columnList = "fcm_outbox_status, reg_date"),
+        @Index(name = "idx_fcm_outboxes_status_token", columnList = "fcm_outbox_status, fcm_outbox_token")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FcmOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "fcm_outbox_id")
+    private Long id;
+
+    @Column(name = "fcm_outbox_user_id")
+    private Long userId;
+
+    @Column(name = "fcm_outbox_token")
+    private String token;
+
+    @Comment("ANDROID: 안드로이드 OS, IOS: 아이폰 OS")
+    @Column(nullable = false, name = "fcm_outbox_device_os")
+    @Enumerated(EnumType.STRING)
+    private DeviceOs deviceOs;
+
+    @Column(nullable = false, name = "fcm_outbox_title")
+    private String title;
+
+    @Column(nullable = false, name = "fcm_outbox_body")
+    private String body;
+
+    @Column(name = "fcm_outbox_data_type")
+    private String dataType;
+
+    @Column(name = "fcm_outbox_data_string")
+    private String dataString;
+
+    @Comment("WAIT: 전송 대기, SENDING: 전송 중, SENT: 전송 완료, FAILED: 전송 실패, SKIPPED: 전송 제외")
+    @Column(nullable = false, name = "fcm_outbox_status")
+    @Enumerated(EnumType.STRING)
+    private FcmOutboxStatus status;
+
+    @Column(nullable = false, name = "fcm_outbox_retry_count")
+    private int retryCount;
+
+    @Builder
+    public FcmOutbox(Long userId, String token, DeviceOs deviceOs, String title, String body,
+                     String dataType, String dataString) {
+        checkNotNull(deviceOs, "푸시 대상 기기 종류가 없습니다. 기기 종류를 입력해주세요.");
+        checkNotNull(title, "푸시 메시지 제목이 없습니다. 제목을 입력해주세요.");
+        checkNotNull(body, "푸시 메시지 내용이 없습니다. 내용을 입력해주세요.");
+
+        this.userId = userId;
+        this.token = token;
+        this.deviceOs = deviceOs;
+        this.title = title;
+        this.body = body;
+        this.dataType = dataType;
+        this.dataString = dataString;
+        this.status = FcmOutboxStatus.WAIT;
+        this.retryCount = 0;
+    }
+
+    public FcmDto.Request toFcmDto() {
+        return new FcmDto.Request(token, deviceOs, title, body, false, dataType, dataString);
+    }
+
+    public void sending() {
+        this.status = FcmOutboxStatus.SENDING;
+    }
+
+    public void sent() {
+        this.status = FcmOutboxStatus.SENT;
+    }
+
+    // Sent again later, not counted as a retry.
+    public void deferred() {
+        this.status = FcmOutboxStatus.WAIT;
+    }
+
+    public void skipped() {
+        this.status = FcmOutboxStatus.SKIPPED;
+    }
+
+    public void failed(int maxRetryCount) {
+        this.retryCount++;
+        this.status = retryCount < maxRetryCount ? FcmOutboxStatus.WAIT : FcmOutboxStatus.FAILED;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        FcmOutbox fcmOutbox = (FcmOutbox) o;
+
+        return Objects.equals(id, fcmOutbox.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 1873942601;
+    }
+}
@@ -0,0 +1,17 @@
+package com.kds.ourmemory.v1.entity.firebase;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum FcmOutboxStatus {
+    WAIT("전송 대기 상태"),
+    SENDING("전송 중인 상태, 전송 도중 서버가 종료된 경우 일정 시간 후 대기 상태로 복구된다."),
+    SENT("전송 완료 상태"),
+    FAILED("재시도 횟수를 초과하여 전송 실패한 상태"),
+    SKIPPED("푸시 미사용 또는 만료된 토큰으로 전송하지 않은 상태")
+    ;
+
+    private final String desc;
+}
@@ -16,6 +16,9 @@ import static com.google.common.base.Preconditions.checkArgument;
 
 @ToString
 @Entity(name = "friends")
+@Table(indexes = {
+        @Index(name = "idx_friends_friend_user", columnList = "friend_id, user_id")
+})
 @IdClass(FriendId.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
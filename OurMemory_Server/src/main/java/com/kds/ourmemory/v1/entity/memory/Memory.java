@@ -7,23 +7,35 @@ import com.kds.ourmemory.v1.entity.room.Room;
 import com.kds.ourmemory.v1.entity.user.User;
 import lombok.*;
 import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 @ToString
 @DynamicUpdate
 @Entity(name = "memories")
+@Table(indexes = {
+        @Index(name = "idx_memories_writer_start_date", columnList = "memory_writer, memory_start_date"),
+        @Index(name = "idx_memories_name_start_date", columnList = "memory_name, memory_start_date"),
+        @Index(name = "idx_memories_first_alarm", columnList = "memory_first_alarm"),
+        @Index(name = "idx_memories_second_alarm", columnList = "memory_second_alarm"),
+        @Index(name = "idx_memories_mod_date", columnList = "mod_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Memory extends BaseTimeEntity implements Serializable {
@@ -31,6 +43,14 @@ public class Memory extends BaseTimeEntity implements Serializable {
     @Serial
     private static final long serialVersionUID = 3L;
 
+    // Month filtering bound when the option is empty, not null for the index range scan.
+    private static final LocalDateTime FILTER_MIN_DATE = LocalDateTime.of(1900, 1, 1, 0, 0);
+
+    private static final LocalDateTime FILTER_MAX_DATE = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    // Occurrences made at once, bounds a daily series in an unbounded window.
+    private static final int MAX_OCCURRENCES = 1_000;
+
     @Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	@Column(name = "memory_id")
@@ -67,6 +87,42 @@ public class Memory extends BaseTimeEntity implements Serializable {
 	@Column(nullable = false, name="memory_used_flag")
 	private boolean used;
 
+	// Not repeated when null
+	@Enumerated(EnumType.STRING)
+	@Column(name="memory_recurrence_type")
+	private RecurrenceType recurrenceType;
+
+	@Column(name="memory_recurrence_interval")
+	private Integer recurrenceInterval;
+
+	// Occurrences starting after this date are not made, repeated without end when null.
+	@Column(name="memory_recurrence_end_date")
+	private LocalDateTime recurrenceEndDate;
+
+	// End of the last occurrence for month filtering, null when not repeated.
+	@Column(name="memory_series_end_date")
+	private LocalDateTime seriesEndDate;
+
+	// Number of users_memories by status, changed only by MemoryRepository.addAttendanceCounts.
+	@Column(nullable = false, name="memory_attend_count", insertable = false, updatable = false,
+			columnDefinition = "integer default 0")
+	private int attendCount;
+
+	@Column(nullable = false, name="memory_absence_count", insertable = false, updatable = false,
+			columnDefinition = "integer default 0")
+	private int absenceCount;
+
+	// Start dates of removed occurrences
+    @ToString.Exclude
+    @BatchSize(size = 100)
+	@ElementCollection(fetch = FetchType.LAZY)
+	@CollectionTable(name = "memories_recurrence_exclusions",
+            joinColumns = @JoinColumn(name = "memory_id"),
+            foreignKey = @ForeignKey(name = "memories_recurrence_exclusions_memory_id"),
+            indexes = @Index(name = "idx_memories_recurrence_exclusions_memory_id", columnList = "memory_id"))
+	@Column(nullable = false, name = "exclusion_start_date")
+    private final Set<LocalDateTime> recurrenceExclusions = new HashSet<>();
+
     @ToString.Exclude
 	@ManyToMany(mappedBy = "memories", fetch = FetchType.LAZY)
     private List<Room> rooms = new ArrayList<>();
@@ -78,7 +134,8 @@ public class Memory extends BaseTimeEntity implements Serializable {
 	@Builder
     public Memory(Long id, User writer, String name, String contents, String place,
                   LocalDateTime startDate, LocalDateTime endDate, String bgColor,
-                  LocalDateTime firstAlarm, LocalDateTime secondAlarm
+                  LocalDateTime firstAlarm, LocalDateTime secondAlarm,
+                  RecurrenceType recurrenceType, Integer recurrenceInterval, LocalDateTime recurrenceEndDate
     ) {
 	    checkNotNull(writer, "사용자 번호에 맞는 일정 작성자 정보가 없습니다. 일정 작성자 번호를 확인해주세요.");
         checkNotNull(name, "일정 제목이 입력되지 않았습니다. 일정 제목을 입력해주세요.");
@@ -99,11 +156,14 @@ public class Memory extends BaseTimeEntity implements Serializable {
         this.firstAlarm = firstAlarm;
         this.secondAlarm = secondAlarm;
         this.used = true;
+
+        updateRecurrence(recurrenceType, recurrenceInterval, recurrenceEndDate);
     }
     
     public void addRoom(Room room) {
         this.rooms = this.rooms==null? new ArrayList<>() : this.rooms;
         this.rooms.add(room);
+        touch();
     }
 
     public void addUser(UserMemory userMemory) {
@@ -113,6 +173,7 @@ public class Memory extends BaseTimeEntity implements Serializable {
     public Optional<Memory> updateMemory(MemoryReqDto reqDto) {
         return Optional.ofNullable(reqDto)
                 .map(req -> {
+                    var beforeStartDate = this.startDate;
                     Optional.ofNullable(req.getName()).ifPresent(reqName -> this.name = reqName);
                     Optional.ofNullable(req.getContents()).ifPresent(reqContents -> this.contents = reqContents);
                     Optional.ofNullable(req.getPlace()).ifPresent(reqPlace -> this.place = reqPlace);
@@ -122,6 +183,19 @@ public class Memory extends BaseTimeEntity implements Serializable {
                     Optional.ofNullable(req.getSecondAlarm()).ifPresent(reqSecondAlarm -> this.secondAlarm = reqSecondAlarm);
                     Optional.ofNullable(req.getBgColor()).ifPresent(reqBgColor -> this.bgColor = reqBgColor);
 
+                    // Recurrence is replaced as a whole with removed occurrences when the type is passed.(NONE: not repeated)
+                    // Otherwise removed occurrences follow the moved start and the last occurrence is calculated again.
+                    Optional.ofNullable(req.getRecurrenceType()).ifPresentOrElse(
+                            reqRecurrenceType -> {
+                                this.recurrenceExclusions.clear();
+                                updateRecurrence(reqRecurrenceType, req.getRecurrenceInterval(), req.getRecurrenceEndDate());
+                            },
+                            () -> {
+                                shiftExclusions(beforeStartDate);
+                                updateRecurrence(this.recurrenceType, this.recurrenceInterval, this.recurrenceEndDate);
+                            }
+                    );
+
                     return this;
                 });
     }
@@ -132,56 +206,159 @@ public class Memory extends BaseTimeEntity implements Serializable {
 
     public void deleteRoom(Room room) {
         this.rooms.remove(room);
+        touch();
+    }
+
+    private void updateRecurrence(RecurrenceType type, Integer interval, LocalDateTime endDate) {
+        if (Objects.isNull(type) || type == RecurrenceType.NONE) {
+            this.recurrenceType = null;
+            this.recurrenceInterval = null;
+            this.recurrenceEndDate = null;
+            this.seriesEndDate = null;
+            return;
+        }
+
+        var recurrenceInterval = Optional.ofNullable(interval).orElse(1);
+        checkArgument(recurrenceInterval > 0, "일정 반복 간격은 1 이상이어야 합니다. 간격: %s", recurrenceInterval);
+        checkArgument(Objects.isNull(endDate) || !endDate.isBefore(this.startDate),
+                "일정 반복 종료시간은 일정 시작시간 이후여야 합니다. 반복 종료시간: %s", endDate);
+
+        this.recurrenceType = type;
+        this.recurrenceInterval = recurrenceInterval;
+        this.recurrenceEndDate = endDate;
+        this.seriesEndDate = Objects.isNull(endDate) ? FILTER_MAX_DATE
+                : occurrenceStartDate(lastIndexUntil(endDate)).plus(duration());
+    }
+
+    public boolean isRecurring() {
+        return Objects.nonNull(recurrenceType);
+    }
+
+    public Duration duration() {
+        return Duration.between(startDate, endDate);
     }
 
     /**
-     * Check start <= endDate
-     *   ref) start null -> true(None filtered.)
+     * End of the last occurrence, end date when not repeated.
+     */
+    public LocalDateTime lastEndDate() {
+        return isRecurring() ? seriesEndDate : endDate;
+    }
+
+    /**
+     * Start dates of occurrences overlapped with [from, to), except removed occurrences.
+     * Only occurrences in the window are made, so the cost doesn't depend on the length of the series.
+     *   ref) not repeated -> start date, when overlapped.
      *
-     * @param start filtering option
-     * @return boolean start <= endDate
+     * @return start dates in ascending order, at most MAX_OCCURRENCES
      */
-    public boolean isAfter(YearMonth start) {
-        if (Objects.isNull(start)) return true;
+    public List<LocalDateTime> occurrenceStartDates(LocalDateTime from, LocalDateTime to) {
+        var duration = duration();
+        if (!isRecurring()) {
+            return startDate.isBefore(to) && !endDate.isBefore(from) ? List.of(startDate) : List.of();
+        }
+
+        var startDates = new ArrayList<LocalDateTime>();
+        for (var index = firstIndexFrom(from.minus(duration)); startDates.size() < MAX_OCCURRENCES; index++) {
+            var occurrence = occurrenceStartDate(index);
+            if (!occurrence.isBefore(to) || isAfterRecurrenceEnd(occurrence)) {
+                break;
+            }
 
-        var targetYear = endDate.getYear();
-        var targetMonth = endDate.getMonthValue();
+            if (!occurrence.plus(duration).isBefore(from) && !recurrenceExclusions.contains(occurrence)) {
+                startDates.add(occurrence);
+            }
+        }
 
-        var filterYear = start.getYear();
-        var filterMonth = start.getMonthValue();
+        return startDates;
+    }
 
-        // 1. Before Year
-        if (targetYear < filterYear) {
+    public boolean isOccurrence(LocalDateTime occurrence) {
+        if (!isRecurring() || occurrence.isBefore(startDate) || isAfterRecurrenceEnd(occurrence)) {
             return false;
         }
 
-        // 2. Same year -> before month
-        return targetYear != filterYear || targetMonth >= filterMonth;
+        var index = firstIndexFrom(occurrence);
+        while (occurrenceStartDate(index).isBefore(occurrence)) {
+            index++;
+        }
+
+        return occurrenceStartDate(index).equals(occurrence);
+    }
+
+    public void excludeOccurrence(LocalDateTime occurrence) {
+        this.recurrenceExclusions.add(occurrence);
+        touch();
     }
 
     /**
-     * Check startDate <= end
-     *   ref) end null -> true(None filtered.)
-     *
-     * @param end filtering option
-     * @return boolean startDate <= end
+     * Removed occurrences keep their place in the series when the start is moved.
+     *   ex) 3rd occurrence of the old start is removed -> 3rd occurrence of the new start is removed.
      */
-    public boolean isBefore(YearMonth end) {
-        if (Objects.isNull(end)) return true;
+    private void shiftExclusions(LocalDateTime beforeStartDate) {
+        if (!isRecurring() || recurrenceExclusions.isEmpty() || beforeStartDate.equals(startDate)) {
+            return;
+        }
 
-        var targetYear = startDate.getYear();
-        var targetMonth = startDate.getMonthValue();
+        var unit = recurrenceType.getUnit();
+        var step = recurrenceInterval;
+        var shifted = recurrenceExclusions.stream()
+                .map(exclusion -> {
+                    // Same way as firstIndexFrom, days of month are clamped.
+                    var index = Math.max(0, unit.between(beforeStartDate, exclusion) / step - 1);
+                    while (beforeStartDate.plus(index * step, unit).isBefore(exclusion)) {
+                        index++;
+                    }
+                    return occurrenceStartDate(index);
+                })
+                .toList();
 
-        var filterYear = end.getYear();
-        var filterMonth = end.getMonthValue();
+        recurrenceExclusions.clear();
+        recurrenceExclusions.addAll(shifted);
+    }
 
-        // 1. After Year
-        if (targetYear > filterYear) {
-            return false;
+    private LocalDateTime occurrenceStartDate(long index) {
+        return startDate.plus(index * recurrenceInterval, recurrenceType.getUnit());
+    }
+
+    // Index a little before the date: units between are counted by whole units, and days of month are clamped.
+    private long firstIndexFrom(LocalDateTime date) {
+        return Math.max(0, recurrenceType.getUnit().between(startDate, date) / recurrenceInterval - 1);
+    }
+
+    private long lastIndexUntil(LocalDateTime date) {
+        var index = firstIndexFrom(date);
+        while (!occurrenceStartDate(index + 1).isAfter(date)) {
+            index++;
         }
 
-        // 2. Same year -> after month
-        return targetYear != filterYear || targetMonth <= filterMonth;
+        return index;
+    }
+
+    private boolean isAfterRecurrenceEnd(LocalDateTime occurrence) {
+        return Objects.nonNull(recurrenceEndDate) && occurrence.isAfter(recurrenceEndDate);
+    }
+
+    /**
+     * Lower bound of month filtering, memory ends on or after this date.
+     *   ref) start null -> minimum date(None filtered.)
+     *
+     * @param start filtering option
+     * @return first day of start month
+     */
+    public static LocalDateTime filterFrom(YearMonth start) {
+        return Objects.isNull(start) ? FILTER_MIN_DATE : start.atDay(1).atStartOfDay();
+    }
+
+    /**
+     * Upper bound(exclusive) of month filtering, memory starts before this date.
+     *   ref) end null -> maximum date(None filtered.)
+     *
+     * @param end filtering option
+     * @return first day of next month of end
+     */
+    public static LocalDateTime filterTo(YearMonth end) {
+        return Objects.isNull(end) ? FILTER_MAX_DATE : end.plusMonths(1).atDay(1).atStartOfDay();
     }
 
     @Override
@@ -0,0 +1,58 @@
+package com.kds.ourmemory.v1.entity.memory;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Alarm of a memory at the alarm date
+ * <p>
+ * The alarm date is a part of the identity, so an alarm read before an update is a different alarm from the updated one.
+ */
+public record MemoryAlarm(Long memoryId, Order order, LocalDateTime alarmDate) {
+
+    @Getter
+    @AllArgsConstructor
+    public enum Order {
+        FIRST("첫 번째 알람"),
+        SECOND("두 번째 알람")
+        ;
+
+        private final String desc;
+    }
+
+    /**
+     * Alarms set on the memory, nothing when the memory is deleted.
+     */
+    public static List<MemoryAlarm> of(Memory memory) {
+        var alarms = new ArrayList<MemoryAlarm>();
+        if (!memory.isUsed()) {
+            return alarms;
+        }
+
+        if (Objects.nonNull(memory.getFirstAlarm())) {
+            alarms.add(new MemoryAlarm(memory.getId(), Order.FIRST, memory.getFirstAlarm()));
+        }
+        if (Objects.nonNull(memory.getSecondAlarm())) {
+            alarms.add(new MemoryAlarm(memory.getId(), Order.SECOND, memory.getSecondAlarm()));
+        }
+
+        return alarms;
+    }
+
+    /**
+     * Alarm is still set on the memory, not changed or deleted after it is scheduled.
+     */
+    public boolean isSetOn(Memory memory) {
+        var current = switch (order) {
+            case FIRST -> memory.getFirstAlarm();
+            case SECOND -> memory.getSecondAlarm();
+        };
+
+        return memory.isUsed() && Objects.equals(memory.getId(), memoryId) && Objects.equals(current, alarmDate);
+    }
+}
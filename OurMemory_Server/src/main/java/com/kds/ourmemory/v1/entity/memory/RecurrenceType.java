@@ -0,0 +1,22 @@
+package com.kds.ourmemory.v1.entity.memory;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.temporal.ChronoUnit;
+
+@Getter
+@AllArgsConstructor
+public enum RecurrenceType {
+    NONE("반복 안함", null),
+    DAILY("매일", ChronoUnit.DAYS),
+    WEEKLY("매주", ChronoUnit.WEEKS),
+    MONTHLY("매월", ChronoUnit.MONTHS),
+    YEARLY("매년", ChronoUnit.YEARS)
+    ;
+
+    private final String desc;
+
+    // Occurrence n starts at start date + n * interval units, so the day of month is not drifted by short months.
+    private final ChronoUnit unit;
+}
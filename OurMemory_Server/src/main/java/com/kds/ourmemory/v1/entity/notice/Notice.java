@@ -18,6 +18,9 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @ToString
 @DynamicUpdate
 @Entity(name = "notices")
+@Table(indexes = {
+        @Index(name = "idx_notices_user_used", columnList = "user_id, notice_used_flag")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notice extends BaseTimeEntity implements Serializable {
@@ -1,5 +1,6 @@
 package com.kds.ourmemory.v1.entity.relation;
 
+import com.kds.ourmemory.v1.entity.BaseTimeEntity;
 import com.kds.ourmemory.v1.entity.memory.Memory;
 import com.kds.ourmemory.v1.entity.user.User;
 import lombok.*;
@@ -13,9 +14,14 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @ToString
 @DynamicUpdate
 @Entity(name = "users_memories")
+@Table(indexes = {
+        @Index(name = "idx_users_memories_memory_user", columnList = "memory_id, user_id"),
+        @Index(name = "idx_users_memories_user", columnList = "user_id"),
+        @Index(name = "idx_users_memories_mod_date", columnList = "mod_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class UserMemory {
+public class UserMemory extends BaseTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -46,8 +52,4 @@ public class UserMemory {
         this.user = user;
         this.memory = memory;
     }
-
-    public void updateAttendance(AttendanceStatus status) {
-        this.status = status;
-    }
 }
@@ -1,5 +1,6 @@
 package com.kds.ourmemory.v1.entity.room;
 
+import com.google.common.hash.Hashing;
 import com.kds.ourmemory.v1.controller.room.dto.RoomReqDto;
 import com.kds.ourmemory.v1.entity.BaseTimeEntity;
 import com.kds.ourmemory.v1.entity.memory.Memory;
@@ -11,16 +12,24 @@ import org.hibernate.annotations.DynamicUpdate;
 import javax.persistence.*;
 import java.io.Serial;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
 @ToString
 @DynamicUpdate
 @Entity(name = "rooms")
+@Table(indexes = {
+        @Index(name = "idx_rooms_name", columnList = "room_name"),
+        @Index(name = "idx_rooms_member_fingerprint", columnList = "room_member_fingerprint"),
+        @Index(name = "idx_rooms_mod_date", columnList = "mod_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Room extends BaseTimeEntity implements Serializable{
@@ -46,6 +55,10 @@ public class Room extends BaseTimeEntity implements Serializable{
 	@Column(nullable = false, name="room_opened_flag")
 	private boolean opened;
 
+	// Same members have the same value, null when the room has less than 2 members.(private room)
+	@Column(name="room_member_fingerprint", length = 64)
+	private String memberFingerprint;
+
 	@ToString.Exclude
 	@ManyToMany(mappedBy = "rooms", fetch = FetchType.LAZY)
 	private List<User> users = new ArrayList<>();
@@ -54,7 +67,11 @@ public class Room extends BaseTimeEntity implements Serializable{
 	@ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(name="rooms_memories",
                 joinColumns = @JoinColumn(name = "room_id"),
-                inverseJoinColumns = @JoinColumn(name = "memory_id"))
+                inverseJoinColumns = @JoinColumn(name = "memory_id"),
+                indexes = {
+                        @Index(name = "idx_rooms_memories_room_memory", columnList = "room_id, memory_id"),
+                        @Index(name = "idx_rooms_memories_memory_room", columnList = "memory_id, room_id")
+                })
     private List<Memory> memories = new ArrayList<>();
 
 	@Builder
@@ -72,11 +89,13 @@ public class Room extends BaseTimeEntity implements Serializable{
 	public void addUser(User user) {
 	    this.users = this.users==null? new ArrayList<>() : this.users;
 	    this.users.add(user);
+	    touch();
 	}
 	
     public void addMemory(Memory memory) {
         this.memories = this.memories==null? new ArrayList<>() : this.memories;
         this.memories.add(memory);
+        touch();
     }
 
     public void recommendOwner(User user) {
@@ -100,10 +119,36 @@ public class Room extends BaseTimeEntity implements Serializable{
 
 	public void deleteMemory(Memory memory) {
 		memories.remove(memory);
+		touch();
 	}
 
 	public void deleteUser(User user) {
 		users.remove(user);
+		touch();
+	}
+
+	/**
+	 * Called once after members are added or deleted, not by each member.
+	 */
+	public void updateMemberFingerprint() {
+		this.memberFingerprint = memberFingerprint(users.stream().map(User::getId).toList());
+	}
+
+	/**
+	 * SHA-256 of sorted member ids joined by comma, a room of the members is found by the index of this value.
+	 * ref) db/postgresql/V4__room_member_fingerprint.sql makes the same value.
+	 *
+	 * @return null when members are less than 2
+	 */
+	public static String memberFingerprint(Collection<Long> userIds) {
+		var sortedIds = userIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+		if (sortedIds.size() < 2) {
+			return null;
+		}
+
+		return Hashing.sha256()
+				.hashString(sortedIds.stream().map(String::valueOf).collect(Collectors.joining(",")), StandardCharsets.UTF_8)
+				.toString();
 	}
 
 	@Override
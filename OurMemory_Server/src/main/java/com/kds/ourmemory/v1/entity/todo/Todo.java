@@ -18,6 +18,9 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 @DynamicUpdate
 @Entity(name = "todos")
+@Table(indexes = {
+        @Index(name = "idx_todos_writer_date", columnList = "todo_writer, todo_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Todo extends BaseTimeEntity {
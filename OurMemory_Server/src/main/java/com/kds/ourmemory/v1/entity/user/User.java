@@ -27,6 +27,11 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 @DynamicUpdate
 @Entity(name = "users")
+@Table(indexes = {
+        @Index(name = "idx_users_sns", columnList = "user_sns_type, user_sns_id, user_used_flag"),
+        @Index(name = "idx_users_name", columnList = "user_name"),
+        @Index(name = "idx_users_push_token", columnList = "user_push_token")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseTimeEntity implements Serializable {
@@ -86,7 +91,11 @@ public class User extends BaseTimeEntity implements Serializable {
 	@ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(name="users_rooms",
                 joinColumns = @JoinColumn(name = "user_id"),
-                inverseJoinColumns = @JoinColumn(name = "room_id"))
+                inverseJoinColumns = @JoinColumn(name = "room_id"),
+                indexes = {
+                        @Index(name = "idx_users_rooms_user_room", columnList = "user_id, room_id"),
+                        @Index(name = "idx_users_rooms_room_user", columnList = "room_id, user_id")
+                })
 	private List<Room> rooms = new ArrayList<>();
 
 	@OneToMany(mappedBy = "user")
@@ -118,6 +127,7 @@ public class User extends BaseTimeEntity implements Serializable {
 	public void addRoom(Room room) {
 	    this.rooms = this.rooms==null? new ArrayList<>() : this.rooms;
 	    this.rooms.add(room);
+	    touch();
 	}
 
 	public void addMemory(UserMemory userMemory) {
@@ -139,6 +149,9 @@ public class User extends BaseTimeEntity implements Serializable {
         return Optional.of(pushToken)
                 .map(t -> {
                     this.pushToken = t;
+
+                    // Same token registered again is not a change of columns, it is stamped for the token prune.
+                    touch();
                     return this;
                 });
     }
@@ -163,6 +176,7 @@ public class User extends BaseTimeEntity implements Serializable {
 
     public void deleteRooms(List<Room> rooms) {
 	    this.rooms.removeAll(rooms);
+	    touch();
     }
 
     @Override
@@ -0,0 +1,50 @@
+package com.kds.ourmemory.v1.repository.firebase;
+
+import com.kds.ourmemory.v1.entity.firebase.FcmOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Batch insert of outbox messages
+ * <p>
+ * IDENTITY id disables hibernate batch insert, so saveAll() sends one insert per room member.
+ * JDBC batch sends them at once, then reservation time doesn't depend on the number of members.
+ */
+@RequiredArgsConstructor
+@Repository
+public class FcmOutboxJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            insert into fcm_outboxes (
+                fcm_outbox_user_id, fcm_outbox_token, fcm_outbox_device_os, fcm_outbox_title, fcm_outbox_body,
+                fcm_outbox_data_type, fcm_outbox_data_string, fcm_outbox_status, fcm_outbox_retry_count,
+                reg_date, mod_date
+            ) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<FcmOutbox> outboxes) {
+        var now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, outboxes, outboxes.size(), (ps, outbox) -> {
+            ps.setObject(1, outbox.getUserId(), Types.BIGINT);
+            ps.setString(2, outbox.getToken());
+            ps.setString(3, outbox.getDeviceOs().name());
+            ps.setString(4, outbox.getTitle());
+            ps.setString(5, outbox.getBody());
+            ps.setString(6, outbox.getDataType());
+            ps.setString(7, outbox.getDataString());
+            ps.setString(8, outbox.getStatus().name());
+            ps.setInt(9, outbox.getRetryCount());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+    }
+}
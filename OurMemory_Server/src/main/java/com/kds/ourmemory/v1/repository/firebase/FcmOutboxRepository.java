@@ -0,0 +1,34 @@
+package com.kds.ourmemory.v1.repository.firebase;
+
+import com.kds.ourmemory.v1.entity.firebase.FcmOutbox;
+import com.kds.ourmemory.v1.entity.firebase.FcmOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Transactional
+public interface FcmOutboxRepository extends JpaRepository<FcmOutbox, Long> {
+
+    // lock.timeout -2: SKIP LOCKED, rows claimed by another server are skipped.
+    // Every message to a device having an aged message, so messages reserved after it in the window are merged.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select o from fcm_outboxes o where o.status = ?1" +
+            " and (o.regDate <= ?2 or o.token in (" +
+            "select a.token from fcm_outboxes a where a.status = ?1 and a.regDate <= ?2)) order by o.id")
+    List<FcmOutbox> findAllForUpdateByStatusAndTokenRegDateBefore(FcmOutboxStatus status, LocalDateTime regDate,
+                                                                 Pageable pageable);
+
+    @Modifying
+    @Query("update fcm_outboxes o set o.status = ?2 where o.status = ?1 and o.modDate < ?3")
+    int updateStatusByStatusAndModDateBefore(FcmOutboxStatus status, FcmOutboxStatus newStatus, LocalDateTime modDate);
+
+    @Modifying
+    @Query("delete from fcm_outboxes o where o.status = ?1 and o.modDate < ?2")
+    int deleteAllByStatusAndModDateBefore(FcmOutboxStatus status, LocalDateTime modDate);
+}
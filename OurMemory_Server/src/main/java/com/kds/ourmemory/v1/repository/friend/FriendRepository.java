@@ -1,9 +1,12 @@
 package com.kds.ourmemory.v1.repository.friend;
 
+import com.kds.ourmemory.v1.controller.friend.dto.FriendRspDto;
 import com.kds.ourmemory.v1.entity.friend.Friend;
 import com.kds.ourmemory.v1.entity.friend.FriendId;
+import com.kds.ourmemory.v1.entity.friend.FriendStatus;
 import com.kds.ourmemory.v1.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import javax.transaction.Transactional;
 import java.util.List;
@@ -14,4 +17,15 @@ public interface FriendRepository extends JpaRepository<Friend, FriendId> {
     Optional<List<Friend>> findAllByUserId(Long userId);
     Optional<Friend> findByUserIdAndFriendUserId(Long userId, Long friendId);
     Optional<List<Friend>> findAllByUserOrFriendUser(User user, User friendUser);
+
+    // List response: read as dto
+    @Query("select new com.kds.ourmemory.v1.controller.friend.dto.FriendRspDto(" +
+            "fu.id, fu.name, fu.birthday, fu.solar, fu.birthdayOpen, fu.profileImageUrl, f.status)" +
+            " from friends f join f.friendUser fu where f.user.id = ?1 and f.status = ?2")
+    List<FriendRspDto> findRspByUserIdAndStatus(Long userId, FriendStatus status);
+
+    @Query("select new com.kds.ourmemory.v1.controller.friend.dto.FriendRspDto(" +
+            "fu.id, fu.name, fu.birthday, fu.solar, fu.birthdayOpen, fu.profileImageUrl, f.status)" +
+            " from friends f join f.friendUser fu where f.user.id = ?1")
+    List<FriendRspDto> findRspByUserId(Long userId);
 }
@@ -0,0 +1,318 @@
+package com.kds.ourmemory.v1.repository.memory;
+
+import com.kds.ourmemory.v1.entity.memory.Memory;
+import com.kds.ourmemory.v1.entity.memory.MemoryAlarm;
+import com.kds.ourmemory.v1.util.ics.IcsEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Batch insert and streaming read of memories
+ * <p>
+ * IDENTITY id disables hibernate batch insert, so saveAll() sends one insert per memory.
+ * Memories are inserted by JDBC batch, and related to the room by one insert-select
+ * instead of reading generated ids back.
+ * PostgreSQL sends a batch as one multi-row insert with reWriteBatchedInserts=true of the jdbc url.
+ * <p>
+ * Streaming read passes rows one by one from a database cursor, not loading every row as entities.
+ * PostgreSQL uses the cursor only with a fetch size in a transaction, so stream methods are transactional.
+ * Alarms are read the same way for the alarm scheduler, by the range of the alarm indexes.
+ * <p>
+ * Versions for ETag are aggregates of mod_date, memories are not loaded as entities.
+ */
+@RequiredArgsConstructor
+@Repository
+public class MemoryJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            insert into memories (
+                memory_writer, memory_name, memory_contents, memory_place, memory_start_date, memory_end_date,
+                memory_bg_color, memory_first_alarm, memory_second_alarm, memory_used_flag, reg_date, mod_date
+            ) values (?, ?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?)
+            """;
+
+    private static final String MAX_ID_SQL = "select coalesce(max(memory_id), 0) from memories";
+
+    // Memories of the writer inserted after maxId, not related to the room yet
+    private static final String RELATE_ROOM_SQL = """
+            insert into rooms_memories (room_id, memory_id)
+            select ?, m.memory_id
+            from memories m
+            where m.memory_writer = ?
+              and m.memory_id > ?
+              and not exists (
+                    select 1 from rooms_memories rm where rm.room_id = ? and rm.memory_id = m.memory_id
+              )
+            """;
+
+    // Memories of the room are changed without the entity, mod_date is set for the delta sync.(BaseTimeEntity.touch)
+    private static final String TOUCH_ROOM_SQL = "update rooms set mod_date = ? where room_id = ?";
+
+    // Memory in the room: the memory(attendance counters included) and the room(members, relations)
+    private static final String VERSION_SQL = """
+            select m.mod_date as memory_mod_date, r.mod_date as room_mod_date
+            from memories m
+            join rooms_memories rm on rm.memory_id = m.memory_id and rm.room_id = ?
+            join rooms r on r.room_id = rm.room_id and r.room_used_flag = true
+            where m.memory_id = ?
+              and m.memory_used_flag = true
+            """;
+
+    // Same memories as MemoryRepository.findAllByWriterIdOrNameInRange, and rooms of them for share rooms
+    private static final String LIST_VERSION_SQL = """
+            select count(*) as memory_count, max(m.mod_date) as memory_mod_date,
+                   (select max(r.mod_date)
+                    from rooms_memories rm
+                    join rooms r on r.room_id = rm.room_id
+                    where rm.memory_id in (
+                          select lm.memory_id from memories lm
+                          where lm.memory_used_flag = true and (lm.memory_writer = ? or lm.memory_name = ?)
+                            and lm.memory_start_date < ? and (lm.memory_end_date >= ? or lm.memory_series_end_date >= ?)
+                    )) as room_mod_date
+            from memories m
+            where m.memory_used_flag = true and (m.memory_writer = ? or m.memory_name = ?)
+              and m.memory_start_date < ? and (m.memory_end_date >= ? or m.memory_series_end_date >= ?)
+            """;
+
+    // Rows fetched from the cursor at once
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    // Not sorted: the order of events is meaningless in a calendar file, and sorting a large room costs the database.
+    // Removed occurrences of a repeated memory are aggregated per row by the memory_id index, not joined as rows.
+    private static final String STREAM_BY_WRITER_SQL = """
+            select m.memory_id, m.memory_name, m.memory_contents, m.memory_place,
+                   m.memory_start_date, m.memory_end_date, m.mod_date,
+                   m.memory_recurrence_type, m.memory_recurrence_interval, m.memory_recurrence_end_date,
+                   m.memory_series_end_date,
+                   case when m.memory_recurrence_type is not null then (
+                       select array_agg(e.exclusion_start_date)
+                       from memories_recurrence_exclusions e
+                       where e.memory_id = m.memory_id
+                   ) end as exclusion_start_dates
+            from memories m
+            where m.memory_writer = ?
+              and m.memory_used_flag = true
+            """;
+
+    private static final String STREAM_BY_ROOM_SQL = """
+            select m.memory_id, m.memory_name, m.memory_contents, m.memory_place,
+                   m.memory_start_date, m.memory_end_date, m.mod_date,
+                   m.memory_recurrence_type, m.memory_recurrence_interval, m.memory_recurrence_end_date,
+                   m.memory_series_end_date,
+                   case when m.memory_recurrence_type is not null then (
+                       select array_agg(e.exclusion_start_date)
+                       from memories_recurrence_exclusions e
+                       where e.memory_id = m.memory_id
+                   ) end as exclusion_start_dates
+            from rooms_memories rm
+            join memories m on m.memory_id = rm.memory_id
+            where rm.room_id = ?
+              and m.memory_used_flag = true
+            """;
+
+    // Alarms in [from, to), each side by the range scan of its alarm index
+    private static final String STREAM_ALARMS_SQL = """
+            select m.memory_id, 'FIRST' as alarm_order, m.memory_first_alarm as alarm_date
+            from memories m
+            where m.memory_first_alarm >= ?
+              and m.memory_first_alarm < ?
+              and m.memory_used_flag = true
+            union all
+            select m.memory_id, 'SECOND' as alarm_order, m.memory_second_alarm as alarm_date
+            from memories m
+            where m.memory_second_alarm >= ?
+              and m.memory_second_alarm < ?
+              and m.memory_used_flag = true
+            """;
+
+    // Alarms in [from, to) of memories changed after the date, by the range scan of the alarm indexes in a short range
+    private static final String STREAM_CHANGED_ALARMS_SQL = """
+            select m.memory_id, 'FIRST' as alarm_order, m.memory_first_alarm as alarm_date
+            from memories m
+            where m.memory_first_alarm >= ?
+              and m.memory_first_alarm < ?
+              and m.memory_used_flag = true
+              and m.mod_date > ?
+            union all
+            select m.memory_id, 'SECOND' as alarm_order, m.memory_second_alarm as alarm_date
+            from memories m
+            where m.memory_second_alarm >= ?
+              and m.memory_second_alarm < ?
+              and m.memory_used_flag = true
+              and m.mod_date > ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert memories of the writer and relate them to the room, in the transaction of the caller.
+     *
+     * @return number of memories related to the room
+     */
+    public int batchInsertToRoom(Long writerId, Long roomId, List<Memory> memories) {
+        // Ids are increasing, memories inserted below have bigger ids than the committed max id.
+        var maxId = jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class);
+        var now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, memories, memories.size(), (ps, memory) -> {
+            ps.setLong(1, writerId);
+            ps.setString(2, memory.getName());
+            ps.setString(3, memory.getContents());
+            ps.setString(4, memory.getPlace());
+            ps.setTimestamp(5, Timestamp.valueOf(memory.getStartDate()));
+            ps.setTimestamp(6, Timestamp.valueOf(memory.getEndDate()));
+            ps.setString(7, memory.getBgColor());
+            ps.setTimestamp(8, toTimestamp(memory.getFirstAlarm()));
+            ps.setTimestamp(9, toTimestamp(memory.getSecondAlarm()));
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+
+        var related = jdbcTemplate.update(RELATE_ROOM_SQL, roomId, writerId, maxId, roomId);
+        jdbcTemplate.update(TOUCH_ROOM_SQL, now, roomId);
+
+        return related;
+    }
+
+    @Transactional(readOnly = true)
+    public void streamEventsByWriterId(Long writerId, Consumer<IcsEvent> consumer) {
+        stream(STREAM_BY_WRITER_SQL, writerId, consumer);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamEventsByRoomId(Long roomId, Consumer<IcsEvent> consumer) {
+        stream(STREAM_BY_ROOM_SQL, roomId, consumer);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAlarmsInRange(LocalDateTime from, LocalDateTime to, Consumer<MemoryAlarm> consumer) {
+        var range = new Object[]{Timestamp.valueOf(from), Timestamp.valueOf(to)};
+        streamAlarms(STREAM_ALARMS_SQL, Stream.concat(Arrays.stream(range), Arrays.stream(range)).toArray(), consumer);
+    }
+
+    /**
+     * Alarms in [from, to) of memories changed after modDate, alarms changed on other servers.
+     */
+    @Transactional(readOnly = true)
+    public void streamAlarmsChangedAfter(LocalDateTime modDate, LocalDateTime from, LocalDateTime to,
+                                         Consumer<MemoryAlarm> consumer) {
+        var range = new Object[]{Timestamp.valueOf(from), Timestamp.valueOf(to), Timestamp.valueOf(modDate)};
+        streamAlarms(STREAM_CHANGED_ALARMS_SQL, Stream.concat(Arrays.stream(range), Arrays.stream(range)).toArray(),
+                consumer);
+    }
+
+    /**
+     * @return empty when the memory is not in the room
+     */
+    public Optional<String> findVersion(Long memoryId, Long roomId) {
+        return jdbcTemplate.query(VERSION_SQL, rs -> rs.next()
+                ? Optional.of(rs.getTimestamp("memory_mod_date") + "|" + rs.getTimestamp("room_mod_date"))
+                : Optional.empty(), roomId, memoryId);
+    }
+
+    public String findListVersion(Long writerId, String name, LocalDateTime from, LocalDateTime to) {
+        var range = new Object[]{writerId, name, Timestamp.valueOf(to), Timestamp.valueOf(from), Timestamp.valueOf(from)};
+        var args = Stream.concat(Arrays.stream(range), Arrays.stream(range)).toArray();
+
+        return jdbcTemplate.queryForObject(LIST_VERSION_SQL, (rs, rowNum) -> rs.getLong("memory_count")
+                + "|" + rs.getTimestamp("memory_mod_date") + "|" + rs.getTimestamp("room_mod_date"), args);
+    }
+
+    private void streamAlarms(String sql, Object[] args, Consumer<MemoryAlarm> consumer) {
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            for (var i = 0; i < args.length; i++) {
+                ps.setTimestamp(i + 1, (Timestamp) args[i]);
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new MemoryAlarm(
+                rs.getLong("memory_id"),
+                MemoryAlarm.Order.valueOf(rs.getString("alarm_order")),
+                rs.getTimestamp("alarm_date").toLocalDateTime()
+        )));
+    }
+
+    private void stream(String sql, Long id, Consumer<IcsEvent> consumer) {
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            ps.setLong(1, id);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(toEvent(rs)));
+    }
+
+    private static IcsEvent toEvent(ResultSet rs) throws SQLException {
+        var startDate = rs.getTimestamp("memory_start_date").toLocalDateTime();
+        var endDate = rs.getTimestamp("memory_end_date").toLocalDateTime();
+
+        return new IcsEvent(
+                "memory-" + rs.getLong("memory_id") + "@ourmemory",
+                rs.getString("memory_name"),
+                rs.getString("memory_contents"),
+                rs.getString("memory_place"),
+                startDate,
+                endDate,
+                toLocalDateTime(rs.getTimestamp("mod_date")),
+                toRecurrence(rs, Duration.between(startDate, endDate)),
+                toLocalDateTimes(rs.getArray("exclusion_start_dates"))
+        );
+    }
+
+    /**
+     * Names of RecurrenceType are FREQ values, occurrence n starts at start date + n * interval units.
+     * UNTIL is the start of the last occurrence: series end date(end of the last occurrence) - duration.
+     */
+    private static IcsEvent.Recurrence toRecurrence(ResultSet rs, Duration duration) throws SQLException {
+        var type = rs.getString("memory_recurrence_type");
+        if (Objects.isNull(type)) {
+            return null;
+        }
+
+        // Repeated without end when the recurrence end date is null.(series end date is the filter max date)
+        var until = Objects.isNull(rs.getTimestamp("memory_recurrence_end_date")) ? null
+                : rs.getTimestamp("memory_series_end_date").toLocalDateTime().minus(duration);
+
+        return new IcsEvent.Recurrence(type, rs.getInt("memory_recurrence_interval"), until);
+    }
+
+    // PostgreSQL and H2 give timestamp elements as Timestamp.
+    private static List<LocalDateTime> toLocalDateTimes(Array array) throws SQLException {
+        if (Objects.isNull(array)) {
+            return List.of();
+        }
+
+        try {
+            return Arrays.stream((Object[]) array.getArray())
+                    .map(element -> element instanceof Timestamp timestamp ? timestamp.toLocalDateTime()
+                            : (LocalDateTime) element)
+                    .toList();
+        } finally {
+            array.free();
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+}
@@ -1,14 +1,62 @@
 package com.kds.ourmemory.v1.repository.memory;
 
 import com.kds.ourmemory.v1.entity.memory.Memory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Transactional
 public interface MemoryRepository extends JpaRepository<Memory, Long> {
-    Optional<List<Memory>> findAllByName(String name);
-    Optional<List<Memory>> findAllByWriterId(Long userId);
+    // Calendar: memories of writer or name, overlapped with [from, to). Repeated memories by the whole series
+    @Query("select m from memories m join fetch m.writer where m.used = true and (m.writer.id = ?1 or m.name = ?2)" +
+            " and m.startDate < ?4 and (m.endDate >= ?3 or m.seriesEndDate >= ?3) order by m.startDate, m.regDate, m.id")
+    Optional<List<Memory>> findAllByWriterIdOrNameInRange(Long writerId, String name, LocalDateTime from, LocalDateTime to);
+
+    // Keyset page: first page of the calendar query
+    @Query("select m from memories m join fetch m.writer where m.used = true and (m.writer.id = ?1 or m.name = ?2)" +
+            " and m.startDate < ?4 and (m.endDate >= ?3 or m.seriesEndDate >= ?3) order by m.startDate, m.regDate, m.id")
+    List<Memory> findPageByWriterIdOrNameInRange(Long writerId, String name, LocalDateTime from, LocalDateTime to,
+                                                 Pageable pageable);
+
+    // Keyset page: rows after (startDate, regDate, id) of the last row, no offset scan
+    @Query("select m from memories m join fetch m.writer where m.used = true and (m.writer.id = ?1 or m.name = ?2)" +
+            " and m.startDate < ?4 and (m.endDate >= ?3 or m.seriesEndDate >= ?3)" +
+            " and (m.startDate > ?5 or (m.startDate = ?5 and (m.regDate > ?6 or (m.regDate = ?6 and m.id > ?7))))" +
+            " order by m.startDate, m.regDate, m.id")
+    List<Memory> findPageByWriterIdOrNameInRangeAfter(Long writerId, String name, LocalDateTime from, LocalDateTime to,
+                                                      LocalDateTime startDate, LocalDateTime regDate, Long id,
+                                                      Pageable pageable);
+
+    // Fetch plan of the list response: rooms and room owners of every memory by one query
+    @Query("select distinct m from memories m join fetch m.writer left join fetch m.rooms r left join fetch r.owner" +
+            " where m.id in ?1")
+    List<Memory> findAllWithRoomsByIdIn(Collection<Long> ids);
+
+    // Alarm targets: memories of fired alarms with writers by one query
+    @Query("select m from memories m join fetch m.writer where m.used = true and m.id in ?1")
+    List<Memory> findAllWithWriterByIdIn(Collection<Long> ids);
+
+    // Delta sync: memories of rooms of the user changed after the watermark, deleted memories included.
+    @Query("select m from memories m join fetch m.writer where m.modDate > ?2" +
+            " and exists (select r.id from rooms r join r.users u join r.memories rm where u.id = ?1 and rm = m)")
+    List<Memory> findAllWithWriterByUserIdAndModDateAfter(Long userId, LocalDateTime modDate);
+
+    // Attendance: counters are added by the row lock, concurrent changes are not lost.
+    // modDate is set by the query, counters are a part of the memory for the delta sync and ETag.
+    // Entities are cleared, so the memory and attendances changed by queries are read again.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update memories m set m.attendCount = m.attendCount + ?2, m.absenceCount = m.absenceCount + ?3," +
+            " m.modDate = ?4 where m.id = ?1")
+    int addAttendanceCounts(Long memoryId, int attendDelta, int absenceDelta, LocalDateTime modDate);
+
+    // Stored value, entity getter truncates it to millis
+    @Query("select m.regDate from memories m where m.id = ?1")
+    Optional<LocalDateTime> findRegDateById(Long id);
 }
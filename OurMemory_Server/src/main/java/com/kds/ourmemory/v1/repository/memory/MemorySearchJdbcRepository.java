@@ -0,0 +1,69 @@
+package com.kds.ourmemory.v1.repository.memory;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Text search over name, contents and place of memories the user can see through rooms.
+ * <p>
+ * The search document is the same expression as the trigram index of db/postgresql/V2__memory_search.sql,
+ * so PostgreSQL answers the LIKE filter by the index. H2(test) runs the same sql without the index.
+ * Trigrams need a term of 3 or more characters, shorter terms are rejected by the service(SEARCH_QUERY_MIN_LENGTH).
+ * Rank: fixed score by the matched field, exact name > name prefix > name > place > contents, then recent start date.
+ * It is not a similarity of the text.
+ */
+@RequiredArgsConstructor
+@Repository
+public class MemorySearchJdbcRepository {
+
+    private static final String SEARCH_SQL = """
+            select m.memory_id,
+                   case when lower(m.memory_name) = ? then 8 else 0 end
+                 + case when lower(m.memory_name) like ? escape '\\' then 4 else 0 end
+                 + case when lower(m.memory_name) like ? escape '\\' then 2 else 0 end
+                 + case when lower(coalesce(m.memory_place, '')) like ? escape '\\' then 1 else 0 end as search_rank
+            from memories m
+            where m.memory_used_flag = true
+              and lower(coalesce(m.memory_name, '') || ' ' || coalesce(m.memory_contents, '') || ' ' || coalesce(m.memory_place, '')) like ? escape '\\'
+              and exists (
+                    select 1
+                    from rooms_memories rm
+                    join users_rooms ur on ur.room_id = rm.room_id
+                    join rooms r on r.room_id = rm.room_id
+                    where rm.memory_id = m.memory_id
+                      and ur.user_id = ?
+                      and r.room_used_flag = true
+              )
+            order by search_rank desc, m.memory_start_date desc, m.memory_id desc
+            limit ? offset ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return memory ids in rank order
+     */
+    public List<Long> search(Long userId, String query, long offset, int limit) {
+        var term = query.trim().toLowerCase(Locale.ROOT);
+        var escaped = escapeLike(term);
+
+        return jdbcTemplate.query(SEARCH_SQL,
+                (rs, rowNum) -> rs.getLong("memory_id"),
+                term, escaped + "%", "%" + escaped + "%", "%" + escaped + "%",
+                "%" + escaped + "%",
+                userId,
+                limit, offset
+        );
+    }
+
+    // User input is matched as it is, not as a pattern.
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
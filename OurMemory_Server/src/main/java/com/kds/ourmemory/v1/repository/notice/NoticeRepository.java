@@ -1,13 +1,26 @@
 package com.kds.ourmemory.v1.repository.notice;
 
+import com.kds.ourmemory.v1.controller.notice.dto.NoticeRspDto;
 import com.kds.ourmemory.v1.entity.notice.Notice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import javax.transaction.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Transactional
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
     Optional<List<Notice>> findAllByUserId(Long userId);
+
+    // List response: read as dto
+    @Query("select new com.kds.ourmemory.v1.controller.notice.dto.NoticeRspDto(n.id, n.type, n.value, n.read, n.regDate)" +
+            " from notices n where n.user.id = ?1 and n.used = true order by n.id")
+    List<NoticeRspDto> findRspByUserId(Long userId);
+
+    @Modifying
+    @Query("update notices n set n.read = true, n.modDate = ?2 where n.user.id = ?1 and n.used = true and n.read = false")
+    int readAllByUserId(Long userId, LocalDateTime modDate);
 }
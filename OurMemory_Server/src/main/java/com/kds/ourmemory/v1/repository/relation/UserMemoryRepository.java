@@ -1,14 +1,45 @@
 package com.kds.ourmemory.v1.repository.relation;
 
-import com.kds.ourmemory.v1.entity.memory.Memory;
+import com.kds.ourmemory.v1.entity.relation.AttendanceStatus;
 import com.kds.ourmemory.v1.entity.relation.UserMemory;
-import com.kds.ourmemory.v1.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserMemoryRepository extends JpaRepository<UserMemory, Long> {
     Optional<UserMemory> findByMemoryIdAndUserId(Long memoryId, Long userId);
-    Optional<List<UserMemory>> findAllByMemoryAndUserIn(Memory memory, List<User> users);
+
+    // Attendance of room members: joined with users_rooms, room members are not loaded.
+    @Query("select um from users_memories um join fetch um.user u join u.rooms r where um.memory.id = ?1 and r.id = ?2")
+    List<UserMemory> findAllWithUserByMemoryIdAndRoomId(Long memoryId, Long roomId);
+
+    // Attendance of room members for every memory of the room by one query
+    @Query("select um from users_memories um join fetch um.memory m join fetch um.user u" +
+            " join u.rooms r join r.memories rm where r.id = ?1 and rm = m")
+    List<UserMemory> findAllWithUserByRoomId(Long roomId);
+
+    // Room list: attendance of room members for every memory of the rooms by one query, as [room_id, users_memories] rows
+    @Query("select r.id, um from users_memories um join fetch um.user u" +
+            " join u.rooms r join r.memories rm where r.id in ?1 and rm = um.memory")
+    List<Object[]> findAllWithUserByRoomIdIn(Collection<Long> roomIds);
+
+    // Delta sync: attendance of memories of rooms of the user changed after the watermark
+    @Query("select um from users_memories um join fetch um.user join fetch um.memory m where um.modDate > ?2" +
+            " and exists (select r.id from rooms r join r.users u join r.memories rm where u.id = ?1 and rm = m)")
+    List<UserMemory> findAllWithUserByUserIdAndModDateAfter(Long userId, LocalDateTime modDate);
+
+    // Changed only from the current status, the caller applies the counters once when 1 is returned.
+    // modDate is set by the query for the delta sync, the entity is not changed.
+    @Modifying
+    @Query("update users_memories um set um.status = ?3, um.modDate = ?4 where um.id = ?1 and um.status = ?2")
+    int updateStatus(Long id, AttendanceStatus status, AttendanceStatus newStatus, LocalDateTime modDate);
+
+    // Alarm targets: members of every memory with the attendance status by one query
+    @Query("select um from users_memories um join fetch um.user where um.memory.id in ?1 and um.status = ?2")
+    List<UserMemory> findAllWithUserByMemoryIdInAndStatus(Collection<Long> memoryIds, AttendanceStatus status);
 }
@@ -0,0 +1,184 @@
+package com.kds.ourmemory.v1.repository.room;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Batch insert of rooms and their relations for bulk share
+ * <p>
+ * IDENTITY id disables hibernate batch insert, so creating a room per share target sends statements per target.
+ * Rooms are inserted by one JDBC batch and the generated ids are read back from it,
+ * then members and memories are related by one batch for each join table.
+ * <p>
+ * Versions for ETag are aggregates of mod_date, rooms are not loaded as entities.
+ */
+@RequiredArgsConstructor
+@Repository
+public class RoomJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            insert into rooms (
+                room_owner, room_name, room_used_flag, room_opened_flag, room_member_fingerprint, reg_date, mod_date
+            ) values (?, ?, true, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_USER_SQL = "insert into users_rooms (user_id, room_id) values (?, ?)";
+
+    private static final String INSERT_MEMORY_SQL = "insert into rooms_memories (room_id, memory_id) values (?, ?)";
+
+    // Relations are changed without entities, mod_date is set for the delta sync.(BaseTimeEntity.touch)
+    private static final String TOUCH_USER_SQL = "update users set mod_date = ? where user_id = ?";
+
+    private static final String TOUCH_ROOM_SQL = "update rooms set mod_date = ? where room_id = ?";
+
+    // Room, members(profiles), memories(attendance counters included) and memories not ended yet
+    private static final String VERSION_SQL = """
+            select r.mod_date as room_mod_date,
+                   (select max(u.mod_date)
+                    from users_rooms ur
+                    join users u on u.user_id = ur.user_id
+                    where ur.room_id = r.room_id) as user_mod_date,
+                   (select max(m.mod_date)
+                    from rooms_memories rm
+                    join memories m on m.memory_id = rm.memory_id
+                    where rm.room_id = r.room_id) as memory_mod_date,
+                   (select count(*)
+                    from rooms_memories rm
+                    join memories m on m.memory_id = rm.memory_id
+                    where rm.room_id = r.room_id and m.memory_used_flag = true
+                      and (m.memory_end_date > ? or m.memory_series_end_date > ?)) as memory_count
+            from rooms r
+            where r.room_id = ?
+              and r.room_used_flag = true
+            """;
+
+    // Same rooms as RoomService.findRooms(rooms of the user or the name), the private room is included.
+    private static final String LIST_ROOMS_SQL = """
+            select lr.room_id from rooms lr
+            where lr.room_used_flag = true
+              and (lr.room_id in (select lur.room_id from users_rooms lur where lur.user_id = ?) or lr.room_name = ?)
+            """;
+
+    private static final String LIST_VERSION_SQL = """
+            select count(*) as room_count, max(r.mod_date) as room_mod_date,
+                   (select max(u.mod_date)
+                    from users_rooms ur
+                    join users u on u.user_id = ur.user_id
+                    where ur.room_id in (%1$s)) as user_mod_date,
+                   (select max(m.mod_date)
+                    from rooms_memories rm
+                    join memories m on m.memory_id = rm.memory_id
+                    where rm.room_id in (%1$s)) as memory_mod_date,
+                   (select count(*)
+                    from rooms_memories rm
+                    join memories m on m.memory_id = rm.memory_id
+                    where rm.room_id in (%1$s) and m.memory_used_flag = true
+                      and (m.memory_end_date > ? or m.memory_series_end_date > ?)) as memory_count
+            from rooms r
+            where r.room_id in (%1$s)
+            """.formatted(LIST_ROOMS_SQL);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return ids of inserted rooms, in the order of rooms
+     */
+    public List<Long> batchInsert(Long ownerId, List<NewRoom> rooms, boolean opened) {
+        if (rooms.isEmpty()) {
+            return List.of();
+        }
+
+        var now = Timestamp.valueOf(LocalDateTime.now());
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> {
+            try (var ps = con.prepareStatement(INSERT_SQL, new String[]{"room_id"})) {
+                for (var room : rooms) {
+                    ps.setLong(1, ownerId);
+                    ps.setString(2, room.name());
+                    ps.setBoolean(3, opened);
+                    ps.setString(4, room.memberFingerprint());
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                var ids = new ArrayList<Long>(rooms.size());
+                try (var keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                checkState(ids.size() == rooms.size(),
+                        "Generated room ids are not matched. rooms: %s, ids: %s", rooms.size(), ids.size());
+
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * @param now memories ended before now are not in the room response without a month.
+     * @return empty when the room is not found
+     */
+    public Optional<String> findVersion(Long roomId, LocalDateTime now) {
+        var nowTimestamp = Timestamp.valueOf(now);
+
+        return jdbcTemplate.query(VERSION_SQL, rs -> rs.next()
+                ? Optional.of(rs.getTimestamp("room_mod_date") + "|" + rs.getTimestamp("user_mod_date")
+                        + "|" + rs.getTimestamp("memory_mod_date") + "|" + rs.getLong("memory_count"))
+                : Optional.empty(), nowTimestamp, nowTimestamp, roomId);
+    }
+
+    public String findListVersion(Long userId, String name, LocalDateTime now) {
+        var nowTimestamp = Timestamp.valueOf(now);
+
+        return jdbcTemplate.queryForObject(LIST_VERSION_SQL, (rs, rowNum) -> rs.getLong("room_count")
+                        + "|" + rs.getTimestamp("room_mod_date") + "|" + rs.getTimestamp("user_mod_date")
+                        + "|" + rs.getTimestamp("memory_mod_date") + "|" + rs.getLong("memory_count"),
+                userId, name, userId, name, userId, name, nowTimestamp, nowTimestamp, userId, name);
+    }
+
+    public void batchInsertUsers(Collection<RoomUser> roomUsers) {
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, roomUsers, roomUsers.size(), (ps, roomUser) -> {
+            ps.setLong(1, roomUser.userId());
+            ps.setLong(2, roomUser.roomId());
+        });
+
+        touch(TOUCH_USER_SQL, roomUsers.stream().map(RoomUser::userId).distinct().toList());
+    }
+
+    public void batchInsertMemory(Long memoryId, Collection<Long> roomIds) {
+        jdbcTemplate.batchUpdate(INSERT_MEMORY_SQL, roomIds, roomIds.size(), (ps, roomId) -> {
+            ps.setLong(1, roomId);
+            ps.setLong(2, memoryId);
+        });
+
+        touch(TOUCH_ROOM_SQL, roomIds);
+    }
+
+    private void touch(String sql, Collection<Long> ids) {
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, ids, ids.size(), (ps, id) -> {
+            ps.setTimestamp(1, now);
+            ps.setLong(2, id);
+        });
+    }
+
+    public record NewRoom(String name, String memberFingerprint) {
+    }
+
+    public record RoomUser(Long roomId, Long userId) {
+    }
+}
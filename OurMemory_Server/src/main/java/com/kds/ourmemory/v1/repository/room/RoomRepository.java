@@ -2,12 +2,52 @@ package com.kds.ourmemory.v1.repository.room;
 
 import com.kds.ourmemory.v1.entity.room.Room;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Transactional
 public interface RoomRepository extends JpaRepository<Room, Long> {
     Optional<List<Room>> findAllByName(String name);
+
+    // Share: closed rooms of the same members, by the fingerprint index
+    List<Room> findAllByMemberFingerprintInAndUsedTrueAndOpenedFalse(Collection<String> memberFingerprints);
+
+    // Delta sync: rooms of the user changed after the watermark, deleted rooms included.
+    @Query("select r from rooms r join fetch r.owner where r.modDate > ?2" +
+            " and exists (select u.id from users u join u.rooms ur where u.id = ?1 and ur = r)")
+    List<Room> findAllWithOwnerByUserIdAndModDateAfter(Long userId, LocalDateTime modDate);
+
+    // Delta sync: room ids of the user from the join table index, rooms are not loaded.
+    @Query(value = "select room_id from users_rooms where user_id = ?1", nativeQuery = true)
+    List<Long> findRoomIdsByUserId(Long userId);
+
+    // Delta sync: members and used memories of changed rooms as [room_id, id] rows, rooms are not loaded one by one.
+    @Query(value = "select room_id, user_id from users_rooms where room_id in (?1)", nativeQuery = true)
+    List<Object[]> findUserIdsByRoomIdIn(Collection<Long> roomIds);
+
+    @Query(value = "select rm.room_id, rm.memory_id from rooms_memories rm" +
+            " join memories m on m.memory_id = rm.memory_id" +
+            " where rm.room_id in (?1) and m.memory_used_flag = true", nativeQuery = true)
+    List<Object[]> findUsedMemoryIdsByRoomIdIn(Collection<Long> roomIds);
+
+    // Month cache: [writer id, first start, last end] of used memories of the room by writer, memories are not loaded.
+    @Query(value = "select m.memory_writer, min(m.memory_start_date)," +
+            " max(coalesce(m.memory_series_end_date, m.memory_end_date)) from rooms_memories rm" +
+            " join memories m on m.memory_id = rm.memory_id" +
+            " where rm.room_id = ?1 and m.memory_used_flag = true group by m.memory_writer", nativeQuery = true)
+    List<Object[]> findMemorySpansByRoomId(Long roomId);
+
+    // Membership: EXISTS on the join table index, room.getMemories()/getUsers() are not loaded.
+    @Query(value = "select exists (select 1 from rooms_memories where room_id = ?1 and memory_id = ?2)",
+            nativeQuery = true)
+    boolean existsMemoryInRoom(Long roomId, Long memoryId);
+
+    @Query(value = "select exists (select 1 from users_rooms where room_id = ?1 and user_id = ?2)",
+            nativeQuery = true)
+    boolean existsUserInRoom(Long roomId, Long userId);
 }
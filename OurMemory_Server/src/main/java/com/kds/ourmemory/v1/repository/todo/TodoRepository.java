@@ -1,13 +1,19 @@
 package com.kds.ourmemory.v1.repository.todo;
 
+import com.kds.ourmemory.v1.controller.todo.dto.TodoRspDto;
 import com.kds.ourmemory.v1.entity.todo.Todo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import javax.transaction.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Transactional
 public interface TodoRepository extends JpaRepository<Todo, Long> {
-    Optional<List<Todo>> findAllByWriterId(Long userId);
+    // List response: read as dto, todoDate in (from, to)
+    @Query("select new com.kds.ourmemory.v1.controller.todo.dto.TodoRspDto(t.id, t.writer.id, t.contents, t.todoDate)" +
+            " from todos t where t.writer.id = ?1 and t.used = true and t.todoDate > ?2 and t.todoDate < ?3" +
+            " order by t.todoDate, t.regDate")
+    List<TodoRspDto> findRspByWriterIdAndTodoDateBetween(Long userId, LocalDateTime from, LocalDateTime to);
 }
@@ -2,9 +2,11 @@ package com.kds.ourmemory.v1.repository.user;
 
 import com.kds.ourmemory.v1.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import javax.transaction.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +16,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("select u from users u where u.used = ?1 and (u.id = ?2 or u.name = ?3)")
     Optional<List<User>> findAllByUsedAndIdOrName(boolean used, Long userId, String name);
+
+    // Token rejected by FCM(UNREGISTERED, ...) is removed from every user at once.
+    // Users who registered the token again after it is rejected are not changed.(User.changePushToken)
+    @Modifying
+    @Query("update users u set u.pushToken = null where u.pushToken = ?1 and u.modDate < ?2")
+    int clearPushToken(String pushToken, LocalDateTime invalidatedDate);
 }
@@ -0,0 +1,103 @@
+package com.kds.ourmemory.v1.service.firebase;
+
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.kds.ourmemory.v1.config.CustomConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Holder of FCM access token
+ * <p>
+ * Service account key is read only once, and the token is refreshed in background before it expires.
+ * So the push request uses cached token and doesn't wait for google oauth server.
+ * When custom.fcm.access-token is set(local emulator), the key is not read and the static token is used.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmAccessTokenProvider {
+
+    private static final List<String> SCOPES = List.of("https://www.googleapis.com/auth/cloud-platform");
+
+    private final CustomConfig customConfig;
+
+    private volatile GoogleCredentials credentials;
+
+    public String getAccessToken() throws IOException {
+        var staticAccessToken = customConfig.getFcm().getAccessToken();
+        if (StringUtils.isNotBlank(staticAccessToken)) {
+            return staticAccessToken;
+        }
+
+        var googleCredentials = getCredentials();
+
+        var accessToken = googleCredentials.getAccessToken();
+        if (isExpiring(accessToken)) {
+            accessToken = refresh(googleCredentials);
+        }
+
+        return accessToken.getTokenValue();
+    }
+
+    @Scheduled(fixedDelayString = "${custom.fcm.token-refresh-check-millis:60000}")
+    public void refreshBeforeExpire() {
+        var googleCredentials = credentials;
+
+        // Not loaded yet -> load when first push is sent.
+        if (Objects.isNull(googleCredentials) || !isExpiring(googleCredentials.getAccessToken())) {
+            return;
+        }
+
+        try {
+            refresh(googleCredentials);
+        } catch (IOException e) {
+            log.error("FCM access token refresh failed.", e);
+        }
+    }
+
+    private GoogleCredentials getCredentials() throws IOException {
+        var googleCredentials = credentials;
+        if (Objects.nonNull(googleCredentials)) {
+            return googleCredentials;
+        }
+
+        synchronized (this) {
+            if (Objects.isNull(credentials)) {
+                credentials = loadCredentials();
+            }
+            return credentials;
+        }
+    }
+
+    // Service account key of custom.fcm-key, replaced by a stub in tests.
+    GoogleCredentials loadCredentials() throws IOException {
+        try (var keyStream = new FileInputStream(customConfig.getFcmKey())) {
+            return GoogleCredentials.fromStream(keyStream).createScoped(SCOPES);
+        }
+    }
+
+    private AccessToken refresh(GoogleCredentials googleCredentials) throws IOException {
+        googleCredentials.refresh();
+        log.debug("FCM access token refreshed. expirationTime: {}", googleCredentials.getAccessToken().getExpirationTime());
+
+        return googleCredentials.getAccessToken();
+    }
+
+    private boolean isExpiring(AccessToken accessToken) {
+        if (Objects.isNull(accessToken) || Objects.isNull(accessToken.getExpirationTime())) {
+            return true;
+        }
+
+        var remainMillis = accessToken.getExpirationTime().getTime() - System.currentTimeMillis();
+        return remainMillis < customConfig.getFcm().getTokenRefreshMargin().toMillis();
+    }
+}
@@ -0,0 +1,74 @@
+package com.kds.ourmemory.v1.service.firebase;
+
+import com.kds.ourmemory.v1.controller.firebase.dto.FcmDto;
+import com.kds.ourmemory.v1.entity.firebase.FcmOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Merge messages to the same device.
+ * <p>
+ * When a memory is shared to several rooms or a user is invited to many rooms in a row,
+ * messages waiting in the coalesce window are sent as one summarized notification.
+ * Merged messages are counted as 'fcm.push.coalesced'.
+ */
+@Component
+public class FcmCoalescer {
+
+    private final Counter coalescedCounter;
+
+    public FcmCoalescer(MeterRegistry meterRegistry) {
+        this.coalescedCounter = Counter.builder("fcm.push.coalesced")
+                .description("Number of push messages merged into another notification")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param outboxes claimed messages, in reserved order.
+     * @return one message per device, with the outboxes merged into it.
+     */
+    public List<Coalesced> coalesce(List<FcmOutbox> outboxes) {
+        var groups = outboxes.stream()
+                .collect(Collectors.groupingBy(
+                        outbox -> Objects.toString(outbox.getToken(), ""), LinkedHashMap::new, Collectors.toList()
+                ));
+
+        return groups.values().stream()
+                .map(this::merge)
+                .toList();
+    }
+
+    private Coalesced merge(List<FcmOutbox> group) {
+        var latest = group.get(group.size() - 1);
+        if (group.size() == 1) {
+            return new Coalesced(latest.toFcmDto(), List.of(latest));
+        }
+
+        coalescedCounter.increment(group.size() - 1d);
+
+        // Same kind of message keeps its title, same data is kept only. Different data opens the app without it.
+        var sameTitle = group.stream().allMatch(outbox -> Objects.equals(outbox.getTitle(), latest.getTitle()));
+        var sameData = group.stream().allMatch(outbox -> Objects.equals(outbox.getDataType(), latest.getDataType())
+                && Objects.equals(outbox.getDataString(), latest.getDataString()));
+
+        var title = sameTitle ? latest.getTitle() : "OurMemory";
+        var body = String.format("%s 외 %d건", latest.getBody(), group.size() - 1);
+
+        var request = new FcmDto.Request(
+                latest.getToken(), latest.getDeviceOs(), title, body, false,
+                sameData ? latest.getDataType() : null,
+                sameData ? latest.getDataString() : null
+        );
+
+        return new Coalesced(request, group);
+    }
+
+    public record Coalesced(FcmDto.Request request, List<FcmOutbox> outboxes) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.kds.ourmemory.v1.service.firebase;
+
+import com.kds.ourmemory.v1.config.CustomConfig;
+import com.kds.ourmemory.v1.controller.firebase.dto.FcmDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Send push messages concurrently.
+ * <p>
+ * Messages are sent on its own fixed size pool, so the number of concurrent FCM requests is bounded.
+ * The pool is not registered as a bean, otherwise @Async would pick it instead of the default task executor.
+ * Fan-out size and duration are recorded as 'fcm.fanout.size', 'fcm.fanout.duration'.
+ */
+@Slf4j
+@Component
+public class FcmFanOut {
+
+    private final FcmService fcmService;
+
+    private final FcmTokenRegistry fcmTokenRegistry;
+
+    private final ThreadPoolTaskExecutor fcmFanOutExecutor;
+
+    private final DistributionSummary fanOutSize;
+
+    private final Timer fanOutDuration;
+
+    public FcmFanOut(FcmService fcmService, FcmTokenRegistry fcmTokenRegistry,
+                     CustomConfig customConfig, MeterRegistry meterRegistry) {
+        this.fcmService = fcmService;
+        this.fcmTokenRegistry = fcmTokenRegistry;
+        this.fcmFanOutExecutor = fanOutExecutor(customConfig.getFcm().getFanOutParallelism());
+        this.fanOutSize = DistributionSummary.builder("fcm.fanout.size")
+                .description("Number of push messages sent at once")
+                .register(meterRegistry);
+        this.fanOutDuration = Timer.builder("fcm.fanout.duration")
+                .description("Time to send all push messages of a fan-out")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return send result of each request, in the same order as requests.
+     */
+    public List<FcmSendResult> sendAll(List<FcmDto.Request> requests) {
+        fanOutSize.record(requests.size());
+        var sample = Timer.start();
+
+        var futures = requests.stream()
+                .map(request -> {
+                    // Token may be rejected after the message is reserved.
+                    if (!fcmTokenRegistry.isSendable(request.getToken())) {
+                        return CompletableFuture.completedFuture(FcmSendResult.SKIPPED);
+                    }
+
+                    return CompletableFuture.supplyAsync(() -> fcmService.send(request), fcmFanOutExecutor)
+                            .exceptionally(e -> {
+                                log.error("FCM fan-out send failed.", e);
+                                return FcmSendResult.FAILED;
+                            });
+                })
+                .toList();
+        var results = futures.stream().map(CompletableFuture::join).toList();
+
+        sample.stop(fanOutDuration);
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fcmFanOutExecutor.shutdown();
+    }
+
+    private ThreadPoolTaskExecutor fanOutExecutor(int parallelism) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("fcm-fan-out-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,221 @@
+package com.kds.ourmemory.v1.service.firebase;
+
+import com.kds.ourmemory.v1.config.CustomConfig;
+import com.kds.ourmemory.v1.entity.firebase.FcmOutbox;
+import com.kds.ourmemory.v1.entity.firebase.FcmOutboxStatus;
+import com.kds.ourmemory.v1.repository.firebase.FcmOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Send push messages saved in the outbox.
+ * <p>
+ * 1. After commit - reserved messages are sent after the coalesce window on the async thread.
+ * 2. Polling - messages not sent by 1.(server restarted, FCM failed) are sent periodically.
+ * <p>
+ * Messages are claimed in batches and FCM is called outside the DB transaction.
+ * Messages to the same device are merged by FcmCoalescer, and sent concurrently by FcmFanOut.
+ * <p>
+ * The outbox is drained on its own scheduler thread. A drain waits for FCM calls and retries,
+ * so it would hold the shared scheduler of @Scheduled jobs(alarm tick, access token refresh, token prune) while draining.
+ * The scheduler is not registered as a bean, otherwise @Scheduled would pick it instead of the default scheduler.
+ */
+@Slf4j
+@Component
+public class FcmOutboxDispatcher {
+
+    private final FcmOutboxRepository fcmOutboxRepo;
+
+    // Merge messages to the same device
+    private final FcmCoalescer fcmCoalescer;
+
+    // Send claimed messages concurrently
+    private final FcmFanOut fcmFanOut;
+
+    // Check FCM circuit before claim
+    private final FcmService fcmService;
+
+    private final CustomConfig customConfig;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // Dispatch after the coalesce window, and drain off the shared scheduler
+    private final ThreadPoolTaskScheduler outboxScheduler;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final AtomicBoolean requested = new AtomicBoolean(false);
+
+    // A dispatch is waiting in the queue of the outbox scheduler.
+    private final AtomicBoolean queued = new AtomicBoolean(false);
+
+    public FcmOutboxDispatcher(FcmOutboxRepository fcmOutboxRepo, FcmCoalescer fcmCoalescer, FcmFanOut fcmFanOut,
+                               FcmService fcmService, CustomConfig customConfig,
+                               TransactionTemplate transactionTemplate) {
+        this.fcmOutboxRepo = fcmOutboxRepo;
+        this.fcmCoalescer = fcmCoalescer;
+        this.fcmFanOut = fcmFanOut;
+        this.fcmService = fcmService;
+        this.customConfig = customConfig;
+        this.transactionTemplate = transactionTemplate;
+        this.outboxScheduler = outboxScheduler();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReserved(FcmOutboxReservedEvent event) {
+        var coalesceWindow = customConfig.getFcm().getCoalesceWindow();
+        if (coalesceWindow.isZero()) {
+            dispatchLater();
+            return;
+        }
+
+        outboxScheduler.schedule(this::dispatch, Instant.now().plus(coalesceWindow));
+    }
+
+    // Only hands the drain over, the shared scheduler thread is not held.
+    @Scheduled(fixedDelayString = "${custom.fcm.outbox-poll-millis:5000}")
+    public void poll() {
+        dispatchLater();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        outboxScheduler.shutdown();
+    }
+
+    /**
+     * Dispatch on the outbox scheduler, at most one dispatch is waiting in its queue.
+     */
+    private void dispatchLater() {
+        if (queued.compareAndSet(false, true)) {
+            outboxScheduler.execute(() -> {
+                queued.set(false);
+                dispatch();
+            });
+        }
+    }
+
+    /**
+     * Only one thread drains the outbox at a time.
+     * When requested while draining, the running thread drains once more.
+     */
+    public void dispatch() {
+        requested.set(true);
+        while (requested.get() && running.compareAndSet(false, true)) {
+            try {
+                requested.set(false);
+                drain(LocalDateTime.now());
+            } catch (RuntimeException e) {
+                log.error("FCM outbox dispatch failed.", e);
+            } finally {
+                running.set(false);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${custom.fcm.outbox-recover-millis:60000}")
+    public void recover() {
+        var fcm = customConfig.getFcm();
+
+        var recovered = fcmOutboxRepo.updateStatusByStatusAndModDateBefore(
+                FcmOutboxStatus.SENDING, FcmOutboxStatus.WAIT,
+                LocalDateTime.now().minus(fcm.getOutboxSendingTimeout())
+        );
+        if (recovered > 0) {
+            log.warn("FCM outbox {} messages recovered from SENDING to WAIT.", recovered);
+        }
+
+        fcmOutboxRepo.deleteAllByStatusAndModDateBefore(
+                FcmOutboxStatus.SENT, LocalDateTime.now().minus(fcm.getOutboxRetention())
+        );
+    }
+
+    // now: messages reserved in the coalesce window before now are left.
+    void drain(LocalDateTime now) {
+        var batchSize = customConfig.getFcm().getOutboxBatchSize();
+
+        List<FcmOutbox> claimed;
+        do {
+            // Messages are left in the outbox while FCM is unhealthy.
+            if (!fcmService.isAvailable()) {
+                log.warn("FCM circuit is opened or quota is exceeded, outbox dispatch is deferred.");
+                return;
+            }
+
+            claimed = transactionTemplate.execute(status -> claim(now, batchSize));
+            if (claimed == null || claimed.isEmpty()) {
+                return;
+            }
+
+            var coalesced = fcmCoalescer.coalesce(claimed);
+            var results = fcmFanOut.sendAll(coalesced.stream().map(FcmCoalescer.Coalesced::request).toList());
+
+            // Result of merged message is applied to every message in it.
+            var resultIds = new EnumMap<FcmSendResult, List<Long>>(FcmSendResult.class);
+            for (int i = 0; i < coalesced.size(); i++) {
+                var ids = resultIds.computeIfAbsent(results.get(i), result -> new ArrayList<>());
+                coalesced.get(i).outboxes().forEach(outbox -> ids.add(outbox.getId()));
+            }
+
+            transactionTemplate.executeWithoutResult(status -> complete(resultIds));
+
+            // Quota is used up or FCM is unhealthy, rest is sent by the next poll.
+            if (resultIds.containsKey(FcmSendResult.DEFERRED)) {
+                return;
+            }
+        } while (claimed.size() >= batchSize);
+    }
+
+    /*
+     * A device is claimed when its first message is out of the coalesce window, with every message to it.
+     * Messages reserved in the window of the first one are merged, the window is not extended by each reservation.
+     * Messages of a device may be split by the batch size, the rest is sent by the next claim.
+     */
+    private List<FcmOutbox> claim(LocalDateTime now, int batchSize) {
+        var reservedBefore = now.minus(customConfig.getFcm().getCoalesceWindow());
+        var outboxes = fcmOutboxRepo.findAllForUpdateByStatusAndTokenRegDateBefore(
+                FcmOutboxStatus.WAIT, reservedBefore, PageRequest.of(0, batchSize)
+        );
+        outboxes.forEach(FcmOutbox::sending);
+
+        return outboxes;
+    }
+
+    private ThreadPoolTaskScheduler outboxScheduler() {
+        var scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("fcm-outbox-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    private void complete(Map<FcmSendResult, List<Long>> resultIds) {
+        var maxRetryCount = customConfig.getFcm().getOutboxMaxRetryCount();
+
+        resultIds.forEach((result, ids) -> fcmOutboxRepo.findAllById(ids).forEach(outbox -> {
+            switch (result) {
+                case SENT -> outbox.sent();
+                case FAILED -> outbox.failed(maxRetryCount);
+                case DEFERRED -> outbox.deferred();
+                // Retry is useless for rejected token.
+                case INVALID_TOKEN, SKIPPED -> outbox.skipped();
+            }
+        }));
+    }
+}
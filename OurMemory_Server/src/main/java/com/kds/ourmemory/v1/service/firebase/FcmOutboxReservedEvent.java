@@ -0,0 +1,8 @@
+package com.kds.ourmemory.v1.service.firebase;
+
+/**
+ * Published when push messages are saved to the outbox.
+ * FcmOutboxDispatcher receives it after commit and starts to send.
+ */
+public record FcmOutboxReservedEvent(int count) {
+}
@@ -0,0 +1,81 @@
+package com.kds.ourmemory.v1.service.firebase;
+
+import com.kds.ourmemory.v1.entity.firebase.FcmOutbox;
+import com.kds.ourmemory.v1.entity.user.User;
+import com.kds.ourmemory.v1.repository.firebase.FcmOutboxJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import javax.transaction.Transactional;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Push reservation
+ * <p>
+ * Services don't call FCM directly in the transaction.
+ * The message is saved in the outbox table with business data, so it is sent only when the transaction is committed.
+ * And DB connection and lock are not held while waiting for FCM response.
+ */
+@RequiredArgsConstructor
+@Service
+public class FcmOutboxService {
+    // Batch insert, one round trip for every room member
+    private final FcmOutboxJdbcRepository fcmOutboxJdbcRepo;
+
+    // Skip push off user and invalid token
+    private final FcmTokenRegistry fcmTokenRegistry;
+
+    // Notify dispatcher after commit
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void reserve(User target, String title, String body) {
+        reserveAll(List.of(target), title, body, null, null);
+    }
+
+    @Transactional
+    public void reserve(User target, String title, String body, String dataType, String dataString) {
+        reserveAll(List.of(target), title, body, dataType, dataString);
+    }
+
+    @Transactional
+    public void reserveAll(Collection<User> targets, String title, String body) {
+        reserveAll(targets, title, body, null, null);
+    }
+
+    @Transactional
+    public void reserveAll(Collection<User> targets, String title, String body, String dataType, String dataString) {
+        reserveEach(List.of(new FcmReservation(targets, title, body, dataType, dataString)));
+    }
+
+    /**
+     * Messages of different contents are inserted by one batch, for a scheduled job making many messages.
+     */
+    @Transactional
+    public void reserveEach(Collection<FcmReservation> reservations) {
+        var outboxes = reservations.stream()
+                .flatMap(reservation -> reservation.targets().stream()
+                        .filter(fcmTokenRegistry::isSendable)
+                        .map(target -> FcmOutbox.builder()
+                                .userId(target.getId())
+                                .token(target.getPushToken())
+                                .deviceOs(target.getDeviceOs())
+                                .title(reservation.title())
+                                .body(reservation.body())
+                                .dataType(reservation.dataType())
+                                .dataString(reservation.dataString())
+                                .build()
+                        )
+                )
+                .toList();
+
+        if (outboxes.isEmpty()) {
+            return;
+        }
+
+        fcmOutboxJdbcRepo.batchInsert(outboxes);
+        eventPublisher.publishEvent(new FcmOutboxReservedEvent(outboxes.size()));
+    }
+}
@@ -0,0 +1,99 @@
+package com.kds.ourmemory.v1.service.firebase;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.kds.ourmemory.v1.controller.firebase.dto.FcmDto;
+import com.kds.ourmemory.v1.entity.user.DeviceOs;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * FCM message payload writer
+ * <p>
+ * Writes the same json as FcmDto.RequestAndroid / FcmDto.RequestiOS serialized by ObjectMapper,
+ * without making the dto graph and the intermediate String.
+ * Field names are encoded once, and the message is streamed into the okio buffer of the request.
+ * (okio segments and jackson buffers are pooled, so a message doesn't allocate its own byte array.)
+ */
+@Component
+public class FcmPayloadWriter {
+
+    public static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private static final SerializableString VALIDATE_ONLY = new SerializedString("validate_only");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString TOKEN = new SerializedString("token");
+    private static final SerializableString NOTIFICATION = new SerializedString("notification");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString BODY = new SerializedString("body");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString DATA_TYPE = new SerializedString("dataType");
+
+    // Data field name is different for each OS.(FcmDto.RequestAndroid.Data, FcmDto.RequestiOS.Data)
+    private static final SerializableString ANDROID_DATA_STRING = new SerializedString("dataString");
+    private static final SerializableString IOS_DATA_STRING = new SerializedString("dataObj");
+
+    // Sink is owned by okhttp, generator must not close it.
+    private final JsonFactory jsonFactory = JsonFactory.builder()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .build();
+
+    public RequestBody requestBody(FcmDto.Request request) {
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return JSON;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                write(request, sink.outputStream());
+            }
+        };
+    }
+
+    public void write(FcmDto.Request request, OutputStream out) throws IOException {
+        var dataStringField = DeviceOs.IOS.equals(request.getDeviceOs()) ? IOS_DATA_STRING : ANDROID_DATA_STRING;
+
+        try (var generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeFieldName(VALIDATE_ONLY);
+            generator.writeBoolean(request.isValidate());
+
+            generator.writeFieldName(MESSAGE);
+            generator.writeStartObject();
+            writeString(generator, TOKEN, request.getToken());
+
+            generator.writeFieldName(NOTIFICATION);
+            generator.writeStartObject();
+            writeString(generator, TITLE, request.getTitle());
+            writeString(generator, BODY, request.getBody());
+            generator.writeEndObject();
+
+            generator.writeFieldName(DATA);
+            generator.writeStartObject();
+            writeString(generator, DATA_TYPE, request.getDataType());
+            writeString(generator, dataStringField, request.getDataString());
+            generator.writeEndObject();
+
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeString(JsonGenerator generator, SerializableString field, String value) throws IOException {
+        generator.writeFieldName(field);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.kds.ourmemory.v1.service.firebase;
+
+import com.kds.ourmemory.v1.entity.user.User;
+
+import java.util.Collection;
+
+/**
+ * Push message to the targets, reserved with other messages at once by FcmOutboxService.reserveEach()
+ */
+public record FcmReservation(Collection<User> targets, String title, String body, String dataType, String dataString) {
+}
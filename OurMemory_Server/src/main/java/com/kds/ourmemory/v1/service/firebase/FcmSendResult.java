@@ -0,0 +1,14 @@
+package com.kds.ourmemory.v1.service.firebase;
+
+public enum FcmSendResult {
+    // FCM accepted the message
+    SENT,
+    // Network error or FCM error except token, retried later.
+    FAILED,
+    // FCM answered the token is not valid anymore.(UNREGISTERED, ...)
+    INVALID_TOKEN,
+    // Not sent, push is off or token is already known to be invalid.
+    SKIPPED,
+    // Not sent, FCM quota is used up(rate limit, 429) or FCM is unhealthy(circuit open). Sent later without retry count.
+    DEFERRED
+}
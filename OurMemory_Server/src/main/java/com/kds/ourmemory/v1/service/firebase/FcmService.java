@@ -2,81 +2,202 @@ package com.kds.ourmemory.v1.service.firebase;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.auth.oauth2.GoogleCredentials;
 import com.google.common.net.HttpHeaders;
+import com.google.common.util.concurrent.RateLimiter;
 import com.kds.ourmemory.v1.config.CustomConfig;
+import com.kds.ourmemory.v1.config.ResilienceConfig;
 import com.kds.ourmemory.v1.controller.firebase.dto.FcmDto;
-import com.kds.ourmemory.v1.entity.user.DeviceOs;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.util.List;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class FcmService {
 
+	// Only errors of the token itself. INVALID_ARGUMENT is also answered for payload errors(size, data key),
+	// and payload has user text, so it is a failure of the message, not of the token.
+	private static final Set<String> INVALID_TOKEN_ERROR_CODES = Set.of("UNREGISTERED", "SENDER_ID_MISMATCH");
+
 	private final ObjectMapper objectMapper;
+
+	// FCM endpoint(custom.fcm.url)
 	private final CustomConfig customConfig;
 
+	// Message json is streamed into the request body
+	private final FcmPayloadWriter fcmPayloadWriter;
+
+	// Shared client, connection pool is reused for every message.(FcmConfig)
+	private final OkHttpClient fcmHttpClient;
+
+	private final FcmAccessTokenProvider fcmAccessTokenProvider;
+
+	// Mark token rejected by FCM
+	private final FcmTokenRegistry fcmTokenRegistry;
+
+	// FCM quota(FcmConfig)
+	private final RateLimiter fcmRateLimiter;
+
+	// Fail fast when FCM is unhealthy, and limit concurrent calls.(ResilienceConfig)
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+	private final BulkheadRegistry bulkheadRegistry;
+
+	// FCM answered quota exceeded(429), calls are deferred until this time.(Retry-After)
+	private volatile Instant quotaRetryAt = Instant.MIN;
+
 	public boolean sendMessageTo(FcmDto.Request requestDto) {
-		Response response = null;
-		var isSend = false;
+		return FcmSendResult.SENT.equals(send(requestDto));
+	}
+
+	/**
+	 * Call is deferred without waiting when the quota is used up, FCM calls are too many or circuit is opened.
+	 */
+	public FcmSendResult send(FcmDto.Request requestDto) {
+		if (isQuotaExceeded()) {
+			return FcmSendResult.DEFERRED;
+		}
+
+		if (!fcmRateLimiter.tryAcquire(customConfig.getFcm().getRateLimitWait())) {
+			return FcmSendResult.DEFERRED;
+		}
+
+		var bulkhead = bulkheadRegistry.bulkhead(ResilienceConfig.FCM);
+		if (!bulkhead.tryAcquirePermission()) {
+			return FcmSendResult.DEFERRED;
+		}
+
+		try {
+			var circuitBreaker = circuitBreakerRegistry.circuitBreaker(ResilienceConfig.FCM);
+			if (!circuitBreaker.tryAcquirePermission()) {
+				return FcmSendResult.DEFERRED;
+			}
+
+			var start = System.nanoTime();
+			var result = call(requestDto);
+
+			// Token error means FCM is healthy, quota exceeded is neither a failure nor a success.
+			switch (result) {
+				case FAILED -> circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS,
+						new IOException("FCM send failed."));
+				case DEFERRED -> circuitBreaker.releasePermission();
+				default -> circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+
+			return result;
+		} finally {
+			bulkhead.onComplete();
+		}
+	}
+
+	/**
+	 * Dispatcher leaves messages in the outbox while the circuit is opened or the quota is exceeded.
+	 */
+	public boolean isAvailable() {
+		return !isQuotaExceeded()
+				&& !CircuitBreaker.State.OPEN.equals(circuitBreakerRegistry.circuitBreaker(ResilienceConfig.FCM).getState());
+	}
+
+	private boolean isQuotaExceeded() {
+		return Instant.now().isBefore(quotaRetryAt);
+	}
+
+	private FcmSendResult call(FcmDto.Request requestDto) {
+		var result = FcmSendResult.FAILED;
 		try {
-			String message = makeMessage(requestDto);
-			
-			var client = new OkHttpClient();
-			var requestBody = RequestBody.create(message, MediaType.get("application/json; charset=utf-8"));
 			var request = new Request.Builder()
-					.url("https://fcm.googleapis.com/v1/projects/our-memory-ed357/messages:send")
-					.post(requestBody)
-					.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+					.url(customConfig.getFcm().getUrl())
+					.post(fcmPayloadWriter.requestBody(requestDto))
+					.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + fcmAccessTokenProvider.getAccessToken())
 					.addHeader(HttpHeaders.CONTENT_TYPE, "application/json; UTF-8")
 					.build();
-			
-			response = client.newCall(request).execute();
-			log.debug(Objects.requireNonNull(response.body()).string());
-			isSend = true;
-		} catch (JsonProcessingException e) {
-			log.error(e.toString());
-			log.error("makeMessage Failed.");
+
+			// Response must be closed to return the connection to the pool.
+			try (var response = fcmHttpClient.newCall(request).execute()) {
+				var responseBody = Objects.requireNonNull(response.body()).string();
+				log.debug(responseBody);
+
+				if (response.isSuccessful()) {
+					result = FcmSendResult.SENT;
+				} else if (response.code() == 429) {
+					result = quotaExceeded(response.header(HttpHeaders.RETRY_AFTER));
+				} else {
+					result = parseError(requestDto, responseBody);
+				}
+			}
 		} catch (IOException e) {
 			log.error(e.toString());
-		} finally {
-			Optional.ofNullable(response)
-			    .ifPresent(rsp -> {
-			        Optional.ofNullable(rsp.body()).ifPresent(ResponseBody::close);
-                    rsp.close();
-			    });
 		}
 
-		return isSend;
+		return result;
 	}
 
-	private String makeMessage(FcmDto.Request requestDto) throws JsonProcessingException {
-		Object pushData = StringUtils.equals(requestDto.getDeviceOs().getType(), DeviceOs.IOS.getType())?
-				new FcmDto.RequestiOS(requestDto)
-				: new FcmDto.RequestAndroid(requestDto);
+	/**
+	 * Quota exceeded(RESOURCE_EXHAUSTED, QUOTA_EXCEEDED) is not a failure of FCM, every call waits for Retry-After.
+	 * Retry-After is seconds or a http date, the default is used when it is missing.
+	 */
+	private FcmSendResult quotaExceeded(String retryAfter) {
+		var now = Instant.now();
+		var retryAt = now.plus(customConfig.getFcm().getQuotaRetryAfter());
+		if (Objects.nonNull(retryAfter)) {
+			try {
+				retryAt = now.plus(Duration.ofSeconds(Long.parseLong(retryAfter.trim())));
+			} catch (NumberFormatException e) {
+				try {
+					retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+				} catch (DateTimeParseException ex) {
+					log.warn("FCM Retry-After parse failed. Retry-After: {}", retryAfter);
+				}
+			}
+		}
 
-		return objectMapper.writeValueAsString(pushData);
+		if (retryAt.isAfter(quotaRetryAt)) {
+			quotaRetryAt = retryAt;
+		}
+		log.warn("FCM quota exceeded. retry at: {}", quotaRetryAt);
+		return FcmSendResult.DEFERRED;
 	}
-	
-	private String getAccessToken() throws IOException {
-		var googleCredentials = GoogleCredentials
-				.fromStream(new FileInputStream(customConfig.getFcmKey()))
-				.createScoped(List.of("https://www.googleapis.com/auth/cloud-platform"));
-		
-		googleCredentials.refreshIfExpired();
-		
-		return googleCredentials.getAccessToken().getTokenValue();
+
+	/**
+	 * FCM v1 error: {"error": {"status": "...", "details": [{"errorCode": "UNREGISTERED", ...}]}}
+	 * Token error is marked on the registry, and the token is not sent again.
+	 */
+	private FcmSendResult parseError(FcmDto.Request requestDto, String responseBody) {
+		var errorCode = "";
+		try {
+			var error = objectMapper.readTree(responseBody).path("error");
+			errorCode = error.path("status").asText();
+			for (var detail : error.path("details")) {
+				if (detail.hasNonNull("errorCode")) {
+					errorCode = detail.get("errorCode").asText();
+				}
+			}
+		} catch (JsonProcessingException e) {
+			log.warn("FCM error response parse failed. response: {}", responseBody);
+		}
+
+		if (INVALID_TOKEN_ERROR_CODES.contains(errorCode)) {
+			fcmTokenRegistry.invalidate(requestDto.getToken());
+			return FcmSendResult.INVALID_TOKEN;
+		}
+
+		log.warn("FCM send failed. errorCode: {}", errorCode);
+		return FcmSendResult.FAILED;
 	}
 
 }
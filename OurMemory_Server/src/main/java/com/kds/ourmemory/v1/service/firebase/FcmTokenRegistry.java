@@ -0,0 +1,119 @@
+package com.kds.ourmemory.v1.service.firebase;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.kds.ourmemory.v1.entity.user.User;
+import com.kds.ourmemory.v1.repository.user.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Push target filter
+ * <p>
+ * Users who turned push off, have no token, or have a token rejected by FCM are not sent.
+ * Rejected tokens are cached and removed from users in batches, so the next push doesn't cost a FCM call.
+ * A token is removed only from users who didn't register it again after it is rejected.
+ * Avoided calls are counted as 'fcm.push.skipped' with the reason tag.
+ */
+@Slf4j
+@Component
+public class FcmTokenRegistry {
+
+    private final UserRepository userRepo;
+
+    // Token rejected by FCM, kept until pruned from users and a while after.(other servers may still have it in outbox)
+    private final Cache<String, Boolean> invalidTokens = CacheBuilder.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofDays(1))
+            .build();
+
+    // Token to be removed from users, and when it is rejected
+    private final Map<String, LocalDateTime> pruneTokens = new ConcurrentHashMap<>();
+
+    private final Counter pushOffCounter;
+
+    private final Counter noTokenCounter;
+
+    private final Counter invalidTokenCounter;
+
+    public FcmTokenRegistry(UserRepository userRepo, MeterRegistry meterRegistry) {
+        this.userRepo = userRepo;
+        this.pushOffCounter = skippedCounter(meterRegistry, "push_off");
+        this.noTokenCounter = skippedCounter(meterRegistry, "no_token");
+        this.invalidTokenCounter = skippedCounter(meterRegistry, "invalid_token");
+    }
+
+    public boolean isSendable(User target) {
+        if (!target.isPush()) {
+            pushOffCounter.increment();
+            return false;
+        }
+
+        return isSendable(target.getPushToken());
+    }
+
+    public boolean isSendable(String token) {
+        if (StringUtils.isBlank(token)) {
+            noTokenCounter.increment();
+            return false;
+        }
+
+        if (invalidTokens.getIfPresent(token) != null) {
+            invalidTokenCounter.increment();
+            return false;
+        }
+
+        return true;
+    }
+
+    public void invalidate(String token) {
+        if (StringUtils.isBlank(token)) {
+            return;
+        }
+
+        invalidTokens.put(token, Boolean.TRUE);
+        pruneTokens.put(token, LocalDateTime.now());
+    }
+
+    /**
+     * Token registered by user app again is valid.
+     */
+    public void register(String token) {
+        invalidTokens.invalidate(token);
+        pruneTokens.remove(token);
+    }
+
+    @Scheduled(fixedDelayString = "${custom.fcm.token-prune-millis:60000}")
+    public void prune() {
+        if (pruneTokens.isEmpty()) {
+            return;
+        }
+
+        var tokens = new HashMap<>(pruneTokens);
+        var pruned = 0;
+        for (var token : tokens.entrySet()) {
+            pruned += userRepo.clearPushToken(token.getKey(), token.getValue());
+
+            // Token rejected again while pruning is left for the next prune.
+            pruneTokens.remove(token.getKey(), token.getValue());
+        }
+        log.info("FCM invalid token pruned. tokens: {}, users: {}", tokens.size(), pruned);
+    }
+
+    private Counter skippedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("fcm.push.skipped")
+                .description("Number of FCM calls avoided")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -2,7 +2,6 @@ package com.kds.ourmemory.v1.service.friend;
 
 import com.kds.ourmemory.v1.advice.friend.exception.*;
 import com.kds.ourmemory.v1.advice.user.exception.UserNotFoundException;
-import com.kds.ourmemory.v1.controller.firebase.dto.FcmDto;
 import com.kds.ourmemory.v1.controller.friend.dto.FriendReqDto;
 import com.kds.ourmemory.v1.controller.friend.dto.FriendRspDto;
 import com.kds.ourmemory.v1.controller.notice.dto.NoticeReqDto;
@@ -14,7 +13,7 @@ import com.kds.ourmemory.v1.entity.user.User;
 import com.kds.ourmemory.v1.repository.friend.FriendRepository;
 import com.kds.ourmemory.v1.repository.notice.NoticeRepository;
 import com.kds.ourmemory.v1.repository.user.UserRepository;
-import com.kds.ourmemory.v1.service.firebase.FcmService;
+import com.kds.ourmemory.v1.service.firebase.FcmOutboxService;
 import com.kds.ourmemory.v1.service.notice.NoticeService;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
@@ -39,8 +38,8 @@ public class FriendService {
     // Add to work in friend and notice relationship tables
     private final NoticeRepository noticeRepo;
 
-    // Add to FCM
-    private final FcmService fcmService;
+    // Add to FCM, sent after commit
+    private final FcmOutboxService fcmOutboxService;
 
     // Add to Notice
     private final NoticeService noticeService;
@@ -51,12 +50,7 @@ public class FriendService {
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
         // Find by friendStatus
-        var responseList = findFriendsByUserId(userId)
-                .map(friends -> friends.stream().filter(friend -> friend.getStatus().equals(friendStatus))
-                        .map(FriendRspDto::new)
-                        .collect(Collectors.toList())
-                )
-                .orElseGet(ArrayList::new);
+        var responseList = new ArrayList<>(findFriendRspsByUserIdAndStatus(userId, friendStatus));
 
         // Find by friendId or name
         responseList.addAll(
@@ -112,18 +106,14 @@ public class FriendService {
                     // Insert to Notices
                     var title = "OurMemory - 친구 요청";
                     var body = String.format("%s 이(가) 친구 요청하였습니다.", user.getName());
-                    var friendToken = friend.getPushToken();
 
                     var insertNoticeRequest = new NoticeReqDto(
                             friend.getId(), NoticeType.FRIEND_REQUEST, Long.toString(reqDto.getUserId()));
                     noticeService.insert(insertNoticeRequest);
 
-                    // SendMessage to fcm
-                    fcmService.sendMessageTo(
-                            new FcmDto.Request(friendToken, friend.getDeviceOs(), title, body,
-                                    false, NoticeType.FRIEND_REQUEST.name(),
-                                    Long.toString(reqDto.getUserId())
-                            )
+                    // SendMessage to fcm after commit
+                    fcmOutboxService.reserve(
+                            friend, title, body, NoticeType.FRIEND_REQUEST.name(), Long.toString(reqDto.getUserId())
                     );
 
                     return new FriendRspDto(insertFriendMySideRsp); // response by reqDto result
@@ -264,12 +254,7 @@ public class FriendService {
     // Not found friend -> None Error, just empty -> return emptyList
     @Transactional
     public List<FriendRspDto> findFriends(long userId) {
-        return findFriendsByUserId(userId)
-                .map(friends -> friends.stream()
-                        .map(FriendRspDto::new)
-                        .toList()
-                )
-                .orElseGet(ArrayList::new);
+        return findFriendRspsByUserId(userId);
     }
 
     @Transactional
@@ -330,9 +315,13 @@ public class FriendService {
                 .flatMap(f -> friendRepository.findByUserIdAndFriendUserId(userId, friendId));
     }
 
-    private Optional<List<Friend>> findFriendsByUserId(Long userId) {
-        return Optional.ofNullable(userId)
-                .flatMap(friendRepository::findAllByUserId);
+    // List response is read as dto, friend entities are not loaded.
+    private List<FriendRspDto> findFriendRspsByUserId(Long userId) {
+        return friendRepository.findRspByUserId(userId);
+    }
+
+    private List<FriendRspDto> findFriendRspsByUserIdAndStatus(Long userId, FriendStatus status) {
+        return friendRepository.findRspByUserIdAndStatus(userId, status);
     }
 
     private void updateFriend(Friend friend) {
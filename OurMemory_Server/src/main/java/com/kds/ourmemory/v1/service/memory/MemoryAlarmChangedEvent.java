@@ -0,0 +1,24 @@
+package com.kds.ourmemory.v1.service.memory;
+
+import com.kds.ourmemory.v1.entity.memory.MemoryAlarm;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published when alarms of a memory are set, changed or removed.
+ * MemoryAlarmScheduler receives it after commit and applies only the changed alarms.
+ */
+public record MemoryAlarmChangedEvent(List<MemoryAlarm> removed, List<MemoryAlarm> added) {
+
+    public static MemoryAlarmChangedEvent of(Collection<MemoryAlarm> before, Collection<MemoryAlarm> after) {
+        return new MemoryAlarmChangedEvent(
+                before.stream().filter(alarm -> !after.contains(alarm)).toList(),
+                after.stream().filter(alarm -> !before.contains(alarm)).toList()
+        );
+    }
+
+    public boolean isEmpty() {
+        return removed.isEmpty() && added.isEmpty();
+    }
+}
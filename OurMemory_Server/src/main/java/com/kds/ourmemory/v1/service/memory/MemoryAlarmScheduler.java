@@ -0,0 +1,260 @@
+package com.kds.ourmemory.v1.service.memory;
+
+import com.google.common.collect.Lists;
+import com.kds.ourmemory.v1.config.CustomConfig;
+import com.kds.ourmemory.v1.entity.memory.Memory;
+import com.kds.ourmemory.v1.entity.memory.MemoryAlarm;
+import com.kds.ourmemory.v1.entity.relation.AttendanceStatus;
+import com.kds.ourmemory.v1.entity.relation.UserMemory;
+import com.kds.ourmemory.v1.entity.user.User;
+import com.kds.ourmemory.v1.repository.memory.MemoryJdbcRepository;
+import com.kds.ourmemory.v1.repository.memory.MemoryRepository;
+import com.kds.ourmemory.v1.repository.relation.UserMemoryRepository;
+import com.kds.ourmemory.v1.service.firebase.FcmOutboxService;
+import com.kds.ourmemory.v1.service.firebase.FcmReservation;
+import com.kds.ourmemory.v1.util.HierarchicalTimingWheel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Fire alarms of memories(firstAlarm, secondAlarm) as push messages.
+ * <p>
+ * 1. Load - alarms due in the next window are read by the range scan of the alarm indexes, and kept in a timing wheel.
+ *           Each load reads only the range after the last load, the table is not scanned again.
+ * 2. Tick - due alarms are taken from the wheel, and pushes to the writer and attending members are reserved in batches.
+ * 3. Change - alarms changed by insert, update and delete of memories are applied to the wheel after commit.
+ *             Changes on other servers are not sent as events, so each load reads again the loaded range
+ *             for memories changed after the last load. They are scheduled by the next load(custom.alarm.load-millis),
+ *             an alarm already passed by then is fired late, not lost.
+ * <p>
+ * An alarm read before a change may be left in the wheel, so it is checked with the memory again before it is fired.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemoryAlarmScheduler {
+
+    private static final String ALARM_TITLE = "OurMemory - 일정 알림";
+
+    private static final DateTimeFormatter ALARM_START_DATE_FORMAT = DateTimeFormatter.ofPattern("M월 d일 HH:mm");
+
+    // Streaming read of alarms
+    private final MemoryJdbcRepository memoryJdbcRepo;
+
+    private final MemoryRepository memoryRepo;
+
+    // Attending members of memories
+    private final UserMemoryRepository userMemoryRepo;
+
+    // Pushes are sent by the outbox dispatcher after commit
+    private final FcmOutboxService fcmOutboxService;
+
+    private final CustomConfig customConfig;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // Made on startup, null when the scheduler is disabled
+    private volatile HierarchicalTimingWheel<MemoryAlarm> wheel;
+
+    // Alarms before this date are in the wheel(or fired), alarms after it are loaded later.
+    private volatile LocalDateTime loadedUntil;
+
+    // Memories changed after this date are read again, from this date to the loaded range.
+    private LocalDateTime reconciledAt;
+
+    // Alarms fired after reconciledAt, not fired again by the reconcile.
+    private final Set<MemoryAlarm> fired = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Started after the default time zone is set by the application.
+     * Start and load are synchronized, so the first window is not loaded again by a load on the scheduler thread.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!customConfig.getAlarm().isEnabled()) {
+            log.info("Memory alarm scheduler is disabled.");
+            return;
+        }
+
+        start(LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${custom.alarm.load-millis:60000}")
+    public void load() {
+        if (Objects.isNull(wheel)) {
+            return;
+        }
+
+        load(LocalDateTime.now());
+    }
+
+    @Scheduled(fixedRateString = "${custom.alarm.tick-millis:1000}")
+    public void tick() {
+        if (Objects.isNull(wheel)) {
+            return;
+        }
+
+        tick(LocalDateTime.now());
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAlarmChanged(MemoryAlarmChangedEvent event) {
+        if (Objects.isNull(wheel)) {
+            return;
+        }
+
+        event.removed().forEach(wheel::cancel);
+
+        // Alarms after the loaded range are read by the next load.
+        var now = LocalDateTime.now();
+        var due = event.added().stream()
+                .filter(alarm -> !alarm.alarmDate().isBefore(now) && alarm.alarmDate().isBefore(loadedUntil))
+                .filter(alarm -> !wheel.schedule(alarm, toMillis(alarm.alarmDate())))
+                .toList();
+        fire(due);
+    }
+
+    synchronized void start(LocalDateTime now) {
+        var alarm = customConfig.getAlarm();
+        loadedUntil = now.minus(alarm.getMissedGrace());
+        reconciledAt = now;
+        fired.clear();
+        wheel = new HierarchicalTimingWheel<>(alarm.getTickMillis(), alarm.getWheelSize(), toMillis(now));
+        load(now);
+    }
+
+    void tick(LocalDateTime now) {
+        fire(wheel.advance(toMillis(now)));
+    }
+
+    // Synchronized with start, the first window is not loaded twice.
+    synchronized void load(LocalDateTime now) {
+        reconcile(now);
+
+        var from = loadedUntil;
+        var to = now.plus(customConfig.getAlarm().getLoadWindow());
+        if (!to.isAfter(from)) {
+            return;
+        }
+
+        // Alarms changed from now are scheduled by onAlarmChanged, even while the range is being read.
+        loadedUntil = to;
+
+        var loaded = new AtomicInteger();
+        var due = new ArrayList<MemoryAlarm>();
+        memoryJdbcRepo.streamAlarmsInRange(from, to, alarm -> {
+            loaded.incrementAndGet();
+            if (!wheel.schedule(alarm, toMillis(alarm.alarmDate()))) {
+                due.add(alarm);
+            }
+        });
+        log.debug("Memory alarms loaded. range: [{}, {}), loaded: {}, due: {}, scheduled: {}",
+                from, to, loaded.get(), due.size(), wheel.size());
+
+        fire(due);
+    }
+
+    /**
+     * Alarms in [reconciledAt, loadedUntil) of memories changed after reconciledAt, changed on other servers.
+     * An alarm already in the wheel is replaced by the same alarm, an alarm moved away is dropped on fire by isSetOn.
+     * Alarms changed on this server are read too, already fired ones are skipped.
+     */
+    private void reconcile(LocalDateTime now) {
+        // mod_date is set before commit, rows committed late are read again by the next reconcile.
+        var changedAfter = reconciledAt;
+        reconciledAt = now.minus(customConfig.getSync().getCommitLag());
+
+        var due = new ArrayList<MemoryAlarm>();
+        if (loadedUntil.isAfter(changedAfter)) {
+            memoryJdbcRepo.streamAlarmsChangedAfter(changedAfter, changedAfter, loadedUntil, alarm -> {
+                if (!fired.contains(alarm) && !wheel.schedule(alarm, toMillis(alarm.alarmDate()))) {
+                    due.add(alarm);
+                }
+            });
+        }
+        fire(due);
+
+        fired.removeIf(alarm -> alarm.alarmDate().isBefore(reconciledAt));
+    }
+
+    private void fire(List<MemoryAlarm> alarms) {
+        fired.addAll(alarms);
+        for (var chunk : Lists.partition(alarms, customConfig.getAlarm().getFireBatchSize())) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> fireChunk(chunk));
+            } catch (RuntimeException e) {
+                log.error("Memory alarm fire failed. alarms: {}", chunk.size(), e);
+            }
+        }
+    }
+
+    // Memories and attending members of the chunk are read by two queries, and every push is reserved by one batch.
+    private void fireChunk(List<MemoryAlarm> alarms) {
+        var memoryIds = alarms.stream().map(MemoryAlarm::memoryId).collect(Collectors.toSet());
+
+        var memories = memoryRepo.findAllWithWriterByIdIn(memoryIds).stream()
+                .collect(Collectors.toMap(Memory::getId, Function.identity()));
+
+        var attendees = userMemoryRepo.findAllWithUserByMemoryIdInAndStatus(memoryIds, AttendanceStatus.ATTEND).stream()
+                .collect(Collectors.groupingBy(
+                        userMemory -> userMemory.getMemory().getId(),
+                        Collectors.mapping(UserMemory::getUser, Collectors.toList())
+                ));
+
+        var reservations = alarms.stream()
+                .filter(alarm -> memories.containsKey(alarm.memoryId()) && alarm.isSetOn(memories.get(alarm.memoryId())))
+                .map(alarm -> {
+                    var memory = memories.get(alarm.memoryId());
+
+                    return new FcmReservation(
+                            targets(memory, attendees),
+                            ALARM_TITLE,
+                            String.format("'%s' 일정이 %s에 시작됩니다.",
+                                    memory.getName(), memory.getStartDate().format(ALARM_START_DATE_FORMAT)),
+                            null, null
+                    );
+                })
+                .toList();
+
+        fcmOutboxService.reserveEach(reservations);
+        log.debug("Memory alarms fired. alarms: {}, fired: {}", alarms.size(), reservations.size());
+    }
+
+    private List<User> targets(Memory memory, Map<Long, List<User>> attendees) {
+        return Stream.concat(
+                        Stream.of(memory.getWriter()),
+                        attendees.getOrDefault(memory.getId(), List.of()).stream()
+                )
+                .filter(User::isUsed)
+                .distinct()
+                .toList();
+    }
+
+    // Local date is mapped by a fixed offset, the wheel uses only the order and distance of dates.
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
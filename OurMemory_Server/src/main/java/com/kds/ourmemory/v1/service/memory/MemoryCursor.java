@@ -0,0 +1,43 @@
+package com.kds.ourmemory.v1.service.memory;
+
+import com.kds.ourmemory.v1.entity.memory.Memory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last memory in a page, order by (startDate, regDate, id).
+ * <p>
+ * Passed to the client as an opaque token, the next page starts right after this position.
+ * regDate must be the stored value, getter of BaseTimeEntity truncates it to millis.
+ */
+record MemoryCursor(LocalDateTime startDate, LocalDateTime regDate, long id) {
+
+    private static final String DELIMITER = "|";
+
+    static MemoryCursor of(Memory memory, LocalDateTime storedRegDate) {
+        return new MemoryCursor(memory.getStartDate(), storedRegDate, memory.getId());
+    }
+
+    static MemoryCursor decode(String token) {
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var values = decoded.split("\\" + DELIMITER);
+            if (values.length != 3) {
+                throw new IllegalArgumentException("잘못된 페이지 커서입니다. 커서: " + token);
+            }
+
+            return new MemoryCursor(LocalDateTime.parse(values[0]), LocalDateTime.parse(values[1]), Long.parseLong(values[2]));
+        } catch (DateTimeParseException e) {
+            // NumberFormatException and decoding error are IllegalArgumentException already.
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다. 커서: " + token, e);
+        }
+    }
+
+    String encode() {
+        var value = String.join(DELIMITER, startDate.toString(), regDate.toString(), Long.toString(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
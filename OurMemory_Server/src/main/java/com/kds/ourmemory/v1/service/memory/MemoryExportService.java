@@ -0,0 +1,88 @@
+package com.kds.ourmemory.v1.service.memory;
+
+import com.kds.ourmemory.v1.advice.memory.exception.MemoryNotFoundRoomException;
+import com.kds.ourmemory.v1.advice.memory.exception.MemoryNotFoundWriterException;
+import com.kds.ourmemory.v1.entity.room.Room;
+import com.kds.ourmemory.v1.entity.user.User;
+import com.kds.ourmemory.v1.repository.memory.MemoryJdbcRepository;
+import com.kds.ourmemory.v1.repository.room.RoomRepository;
+import com.kds.ourmemory.v1.repository.user.UserRepository;
+import com.kds.ourmemory.v1.util.ics.IcsEvent;
+import com.kds.ourmemory.v1.util.ics.IcsWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Export memories as an iCalendar(.ics) file.
+ * <p>
+ * Target is checked before anything is written, so a wrong id is answered as an api error.
+ * Then rows of a database cursor are written to the output one by one, memory use doesn't grow with the number of memories.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class MemoryExportService {
+
+    // Streaming read of memories
+    private final MemoryJdbcRepository memoryJdbcRepo;
+
+    // Add to work in user table
+    private final UserRepository userRepo;
+
+    // Add to work in room table
+    private final RoomRepository roomRepo;
+
+    /**
+     * Memories written by the user
+     */
+    public StreamingResponseBody exportUserMemories(long userId) {
+        var user = userRepo.findById(userId)
+                .filter(User::isUsed)
+                .orElseThrow(() -> new MemoryNotFoundWriterException(userId));
+
+        return output -> write(output, user.getName(),
+                consumer -> memoryJdbcRepo.streamEventsByWriterId(userId, consumer));
+    }
+
+    /**
+     * Memories shared to the room
+     */
+    public StreamingResponseBody exportRoomMemories(long roomId) {
+        var room = roomRepo.findById(roomId)
+                .filter(Room::isUsed)
+                .orElseThrow(() -> new MemoryNotFoundRoomException(roomId));
+
+        return output -> write(output, room.getName(),
+                consumer -> memoryJdbcRepo.streamEventsByRoomId(roomId, consumer));
+    }
+
+    private void write(OutputStream output, String calendarName, Consumer<Consumer<IcsEvent>> events)
+            throws IOException {
+        var writer = new IcsWriter(output);
+        writer.writeHeader(calendarName);
+
+        try {
+            events.accept(event -> {
+                try {
+                    writer.writeEvent(event);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Client closed the connection while downloading
+            log.warn("ICS export of '{}' stopped. {}", calendarName, e.getMessage());
+            throw e.getCause();
+        }
+
+        writer.writeFooter();
+        writer.flush();
+    }
+}
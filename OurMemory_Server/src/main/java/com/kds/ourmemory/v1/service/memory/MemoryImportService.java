@@ -0,0 +1,154 @@
+package com.kds.ourmemory.v1.service.memory;
+
+import com.kds.ourmemory.v1.advice.memory.exception.MemoryDeactivateWriterException;
+import com.kds.ourmemory.v1.advice.memory.exception.MemoryInternalServerException;
+import com.kds.ourmemory.v1.advice.memory.exception.MemoryNotFoundWriterException;
+import com.kds.ourmemory.v1.config.CustomConfig;
+import com.kds.ourmemory.v1.controller.memory.dto.MemoryImportRspDto;
+import com.kds.ourmemory.v1.entity.memory.Memory;
+import com.kds.ourmemory.v1.entity.user.User;
+import com.kds.ourmemory.v1.repository.memory.MemoryJdbcRepository;
+import com.kds.ourmemory.v1.repository.user.UserRepository;
+import com.kds.ourmemory.v1.util.ics.IcsEvent;
+import com.kds.ourmemory.v1.util.ics.IcsReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Import memories from an iCalendar(.ics) file into the private room of the user.
+ * <p>
+ * The file is read as a stream, and events are inserted by JDBC batch in chunks of custom.ics.import-chunk-size.
+ * Each chunk is committed in its own transaction, so a large file doesn't hold one long transaction
+ * and chunks committed before a failure are kept. Progress is logged per chunk.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class MemoryImportService {
+
+    // Default varchar length of memory text columns
+    private static final int TEXT_MAX_LENGTH = 255;
+
+    // Batch insert of memories and the private room relation
+    private final MemoryJdbcRepository memoryJdbcRepo;
+
+    // Add to work in user table
+    private final UserRepository userRepo;
+
+    // Calendar month view, removed by imported memories
+    private final MemoryMonthCache memoryMonthCache;
+
+    private final CustomConfig customConfig;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public MemoryImportRspDto importIcs(long userId, MultipartFile file) {
+        checkNotNull(file, "ICS 파일이 전달되지 않았습니다. ICS 파일을 전달해주세요.");
+        checkArgument(!file.isEmpty(), "ICS 파일이 비어있습니다. ICS 파일을 확인해주세요.");
+
+        var writer = userRepo.findById(userId)
+                .orElseThrow(() -> new MemoryNotFoundWriterException(userId));
+        if (!writer.isUsed())
+            throw new MemoryDeactivateWriterException(userId);
+
+        var importer = new Importer(writer);
+        try (var reader = new IcsReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            reader.readEvents(importer::add);
+        } catch (IOException e) {
+            throw new MemoryInternalServerException(
+                    String.format("ICS import failed after %d memories. %s", importer.imported, e.getMessage())
+            );
+        }
+        importer.flush();
+
+        log.info("ICS import of user {} finished: {} imported, {} skipped, {} chunks.",
+                userId, importer.imported, importer.skipped, importer.chunks);
+        return new MemoryImportRspDto(importer.imported, importer.skipped, importer.chunks);
+    }
+
+    /**
+     * Buffers events of the reader and commits them by chunk.
+     */
+    private class Importer {
+        private final User writer;
+
+        private final int chunkSize = Math.max(1, customConfig.getIcs().getImportChunkSize());
+
+        private final List<Memory> chunk = new ArrayList<>(chunkSize);
+
+        private int imported;
+
+        private int skipped;
+
+        private int chunks;
+
+        private Importer(User writer) {
+            this.writer = writer;
+        }
+
+        private void add(IcsEvent event) {
+            if (StringUtils.isBlank(event.summary()) || Objects.isNull(event.startDate())) {
+                skipped++;
+                return;
+            }
+
+            chunk.add(Memory.builder()
+                    .writer(writer)
+                    .name(StringUtils.left(event.summary(), TEXT_MAX_LENGTH))
+                    .contents(StringUtils.left(event.description(), TEXT_MAX_LENGTH))
+                    .place(StringUtils.left(event.location(), TEXT_MAX_LENGTH))
+                    .startDate(event.startDate())
+                    .endDate(event.endDate())
+                    .bgColor(customConfig.getIcs().getImportBgColor())
+                    .build()
+            );
+
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            var related = transactionTemplate.execute(status -> {
+                var count = memoryJdbcRepo.batchInsertToRoom(writer.getId(), writer.getPrivateRoomId(), chunk);
+                memoryMonthCache.invalidate(writer.getId(),
+                        chunk.stream().map(Memory::getStartDate).min(Comparator.naturalOrder()).orElseThrow(),
+                        chunk.stream().map(Memory::getEndDate).max(Comparator.naturalOrder()).orElseThrow()
+                );
+                return count;
+            });
+
+            imported += chunk.size();
+            chunks++;
+            log.info("ICS import of user {}: chunk {} committed, {} memories imported.",
+                    writer.getId(), chunks, imported);
+
+            // Only when another import of the same user runs at the same time
+            if (!Objects.equals(related, chunk.size())) {
+                log.warn("ICS import of user {}: chunk {} of {} memories related {} memories to the private room.",
+                        writer.getId(), chunks, chunk.size(), related);
+            }
+
+            chunk.clear();
+        }
+    }
+}
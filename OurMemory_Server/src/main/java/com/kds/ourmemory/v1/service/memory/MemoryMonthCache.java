@@ -0,0 +1,121 @@
+package com.kds.ourmemory.v1.service.memory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.kds.ourmemory.v1.config.CustomConfig;
+import com.kds.ourmemory.v1.controller.memory.dto.MemoryRspDto;
+import com.kds.ourmemory.v1.entity.memory.Memory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Calendar month view of a writer, keyed by (userId, month).
+ * <p>
+ * Memory and room changes remove the months of changed memories, right away and once more after commit,
+ * so a view read by a concurrent transaction before commit doesn't stay.
+ * Hit ratio, size and evictions are exposed as 'cache.*' meters with the tag cache=memory.month.
+ */
+@Component
+public class MemoryMonthCache {
+
+    public static final String CACHE_NAME = "memory.month";
+
+    // Memory longer than this value removes every month of the writer instead of each month.
+    private static final long MAX_INVALIDATE_MONTHS = 24;
+
+    private final Cache<Key, List<MemoryRspDto>> cache;
+
+    // Increased by every invalidation, a view loaded across an invalidation is not cached.
+    private final AtomicLong generation = new AtomicLong();
+
+    public MemoryMonthCache(CustomConfig customConfig, MeterRegistry meterRegistry) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(customConfig.getMonthCache().getMaximumSize())
+                .expireAfterWrite(customConfig.getMonthCache().getExpireAfterWrite())
+                .recordStats()
+                .build();
+
+        GuavaCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public List<MemoryRspDto> get(Long userId, YearMonth month, Supplier<List<MemoryRspDto>> loader) {
+        var key = new Key(userId, month);
+        var cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        var loadedGeneration = generation.get();
+        var loaded = List.copyOf(loader.get());
+        if (loadedGeneration == generation.get()) {
+            cache.put(key, loaded);
+        }
+
+        return loaded;
+    }
+
+    public void invalidate(Memory memory) {
+        Optional.ofNullable(memory.getWriter())
+                .ifPresent(writer -> invalidate(writer.getId(), memory.getStartDate(), memory.lastEndDate()));
+    }
+
+    public void invalidate(Collection<Memory> memories) {
+        memories.forEach(this::invalidate);
+    }
+
+    public void invalidate(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (Objects.isNull(userId) || Objects.isNull(startDate) || Objects.isNull(endDate)) {
+            return;
+        }
+
+        var start = YearMonth.from(startDate);
+        var end = YearMonth.from(endDate);
+        Runnable invalidation = start.until(end, ChronoUnit.MONTHS) > MAX_INVALIDATE_MONTHS
+                ? () -> invalidateUser(userId)
+                : () -> invalidateMonths(userId, start, end);
+
+        invalidation.run();
+        afterCommit(invalidation);
+    }
+
+    private void invalidateMonths(Long userId, YearMonth start, YearMonth end) {
+        generation.incrementAndGet();
+        for (var month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            cache.invalidate(new Key(userId, month));
+        }
+    }
+
+    private void invalidateUser(Long userId) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+    }
+
+    private void afterCommit(Runnable invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidation.run();
+            }
+        });
+    }
+
+    private record Key(Long userId, YearMonth month) {
+    }
+}
@@ -2,39 +2,64 @@ package com.kds.ourmemory.v1.service.memory;
 
 import com.kds.ourmemory.v1.advice.memory.exception.*;
 import com.kds.ourmemory.v1.advice.relation.exception.UserMemoryInternalServerException;
-import com.kds.ourmemory.v1.advice.room.exception.RoomInternalServerException;
 import com.kds.ourmemory.v1.advice.room.exception.RoomNotFoundException;
 import com.kds.ourmemory.v1.advice.user.exception.UserNotFoundException;
-import com.kds.ourmemory.v1.controller.firebase.dto.FcmDto;
+import com.kds.ourmemory.v1.controller.memory.dto.MemoryPageRspDto;
 import com.kds.ourmemory.v1.controller.memory.dto.MemoryReqDto;
 import com.kds.ourmemory.v1.controller.memory.dto.MemoryRspDto;
-import com.kds.ourmemory.v1.controller.room.dto.RoomReqDto;
+import com.kds.ourmemory.v1.controller.memory.dto.MemorySearchRspDto;
 import com.kds.ourmemory.v1.entity.memory.Memory;
+import com.kds.ourmemory.v1.entity.memory.MemoryAlarm;
+import com.kds.ourmemory.v1.entity.relation.AttendanceStatus;
 import com.kds.ourmemory.v1.entity.relation.UserMemory;
 import com.kds.ourmemory.v1.entity.room.Room;
 import com.kds.ourmemory.v1.entity.user.User;
+import com.kds.ourmemory.v1.repository.memory.MemoryJdbcRepository;
 import com.kds.ourmemory.v1.repository.memory.MemoryRepository;
+import com.kds.ourmemory.v1.repository.memory.MemorySearchJdbcRepository;
 import com.kds.ourmemory.v1.repository.relation.UserMemoryRepository;
+import com.kds.ourmemory.v1.repository.room.RoomJdbcRepository;
 import com.kds.ourmemory.v1.repository.room.RoomRepository;
 import com.kds.ourmemory.v1.repository.user.UserRepository;
-import com.kds.ourmemory.v1.service.firebase.FcmService;
-import com.kds.ourmemory.v1.service.room.RoomService;
+import com.kds.ourmemory.v1.service.firebase.FcmOutboxService;
+import com.kds.ourmemory.v1.service.firebase.FcmReservation;
+import com.kds.ourmemory.v1.util.ETags;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.transaction.Transactional;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.*;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 @RequiredArgsConstructor
 @Service
 public class MemoryService {
+    public static final int PAGE_SIZE_DEFAULT = 50;
+
+    public static final int PAGE_SIZE_MAX = 200;
+
+    // Trigram index of the search answers terms of 3 or more characters, shorter terms would scan every memory.
+    public static final int SEARCH_QUERY_MIN_LENGTH = 3;
+
+    public static final int SEARCH_QUERY_MAX_LENGTH = 100;
+
     private final MemoryRepository memoryRepo;
 
-    // When creating a memory, added because sometimes a room is created
-    private final RoomService roomService;
+    // Text search of memories, native sql for the text index
+    private final MemorySearchJdbcRepository memorySearchRepo;
+
+    // Versions for ETag
+    private final MemoryJdbcRepository memoryJdbcRepo;
 
     // Add to work in user table
     private final UserRepository userRepo;
@@ -45,8 +70,17 @@ public class MemoryService {
     // Add to work in memory and rooms relationship tables    
     private final RoomRepository roomRepo;
 
-    // Add to FCM
-    private final FcmService fcmService;
+    // Batch insert of share rooms and relations
+    private final RoomJdbcRepository roomJdbcRepo;
+
+    // Add to FCM, sent after commit
+    private final FcmOutboxService fcmOutboxService;
+
+    // Calendar month view, removed by memory changes
+    private final MemoryMonthCache memoryMonthCache;
+
+    // Notify alarm scheduler after commit
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public MemoryRspDto insert(MemoryReqDto reqDto) {
@@ -61,6 +95,9 @@ public class MemoryService {
                         )
                 )
                 .map(memory -> {
+                    memoryMonthCache.invalidate(memory);
+                    publishAlarmChanged(List.of(), memory);
+
                     // Relation memory and private room
                     var roomId = relationMemoryToPrivateRoom(memory, memory.getWriter().getPrivateRoomId());
 
@@ -100,15 +137,10 @@ public class MemoryService {
                                     room.addMemory(memory);
                                     memory.addRoom(room);
 
-                                    room.getUsers().forEach(user -> fcmService.sendMessageTo(
-                                                    FcmDto.Request.builder()
-                                                            .token(user.getPushToken())
-                                                            .deviceOs(user.getDeviceOs())
-                                                            .title("OurMemory - 일정 공유")
-                                                            .body(String.format("'%s' 일정이 방에 공유되었습니다.", memory.getName()))
-                                                            .build()
-
-                                            )
+                                    fcmOutboxService.reserveAll(
+                                            room.getUsers(),
+                                            "OurMemory - 일정 공유",
+                                            String.format("'%s' 일정이 방에 공유되었습니다.", memory.getName())
                                     );
                                     return room;
                                 })
@@ -125,16 +157,12 @@ public class MemoryService {
                             .orElseThrow(() -> new RoomNotFoundException(roomId));
 
                     // Check memory include room
-                    if (
-                            room.getMemories().stream().filter(rm -> rm.getId() == memoryId).findAny().isEmpty()
-                    ) {
+                    if (!isMemoryInRoom(room.getId(), memoryId)) {
                         throw new MemoryNotIncludeRoomException(memoryId, roomId);
                     }
 
-                    var roomMember = room.getUsers();
-
-                    var userMemories = findUserMemoryByMemoryAndUserIn(memory, roomMember)
-                            .orElseGet(ArrayList::new);
+                    // Attendance of room members by a join, room members are not loaded.
+                    var userMemories = findUserMemoryByMemoryIdAndRoomId(memory.getId(), room.getId());
 
                     return new MemoryRspDto(memory, userMemories);
                 })
@@ -142,27 +170,128 @@ public class MemoryService {
                 );
     }
 
-    @Transactional
+    /**
+     * ETag of find(memoryId, roomId), empty when the memory is not found in the room.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findETag(long memoryId, long roomId) {
+        return memoryJdbcRepo.findVersion(memoryId, roomId)
+                .map(version -> ETags.of("memory", memoryId, roomId, version));
+    }
+
+    /**
+     * ETag of findMemories, by the memories of the same condition and their share rooms.
+     */
+    @Transactional(readOnly = true)
+    public String findMemoriesETag(Long writerId, String name, YearMonth start, YearMonth end) {
+        var version = memoryJdbcRepo.findListVersion(writerId, name, Memory.filterFrom(start), Memory.filterTo(end));
+        return ETags.of("memories", writerId, name, start, end, version);
+    }
+
+    // Read only: loaded entities are not dirty checked, no snapshot is kept for them.
+    @Transactional(readOnly = true)
     public List<MemoryRspDto> findMemories(Long writerId, String name, YearMonth start, YearMonth end) {
-        List<Memory> findMemories = new ArrayList<>();
+        // Calendar month view of a writer is cached.
+        if (Objects.nonNull(writerId) && Objects.isNull(name) && Objects.nonNull(start) && start.equals(end)) {
+            return memoryMonthCache.get(writerId, start, () -> findMemoriesNotCached(writerId, null, start, end));
+        }
 
-        findMemoriesByWriterId(writerId).ifPresent(findMemories::addAll);
-        findMemoriesByName(name).ifPresent(findMemories::addAll);
+        return findMemoriesNotCached(writerId, name, start, end);
+    }
 
+    private List<MemoryRspDto> findMemoriesNotCached(Long writerId, String name, YearMonth start, YearMonth end) {
         var privateRoomId = findUser(writerId).map(User::getPrivateRoomId).orElse(null);
-
-        // Optional: Month filtering
-        return findMemories.stream()
-                .filter(Memory::isUsed)
-                .distinct()
-                .filter(memory -> memory.isAfter(start))
-                .filter(memory -> memory.isBefore(end))
-                .sorted(
-                        Comparator.comparing(Memory::getStartDate)  // first order
-                                .thenComparing(Memory::getRegDate)  // second order
+        var from = Memory.filterFrom(start);
+        var to = Memory.filterTo(end);
+
+        // Repeated memories are expanded to occurrences only in the month window, else returned as a series.
+        var expanded = Objects.nonNull(start) && Objects.nonNull(end);
+
+        // Optional: Month filtering, used flag and order are applied by query.
+        return findMemoriesByWriterIdOrNameInRange(writerId, name, from, to)
+                .map(this::fetchRooms)
+                .map(memories -> memories.stream()
+                        .flatMap(memory -> {
+                            var memoryRsp = new MemoryRspDto(privateRoomId, memory);
+                            return expanded ? memoryRsp.expand(memory, from, to).stream() : Stream.of(memoryRsp);
+                        })
+                        // Stable sort, occurrences at the same time keep the order of the query.
+                        .sorted(Comparator.comparing(MemoryRspDto::getStartDate))
+                        .toList()
                 )
-                .map(memory -> new MemoryRspDto(privateRoomId, memory))
+                .orElseGet(ArrayList::new);
+    }
+
+    /**
+     * Same search as findMemories, but read by keyset page.
+     * <p>
+     * The next page starts after the last row of the cursor, so each call reads at most size + 1 rows
+     * regardless of the number of memories.
+     */
+    @Transactional(readOnly = true)
+    public MemoryPageRspDto findMemoriesPage(Long writerId, String name, YearMonth start, YearMonth end,
+                                             String cursor, Integer size) {
+        var pageSize = Math.min(Optional.ofNullable(size).orElse(PAGE_SIZE_DEFAULT), PAGE_SIZE_MAX);
+        checkArgument(pageSize > 0, "페이지 크기는 1 이상이어야 합니다. 크기: %s", pageSize);
+
+        var privateRoomId = findUser(writerId).map(User::getPrivateRoomId).orElse(null);
+
+        // One more row is read to know whether the next page exists.
+        var memories = findMemoriesPageByWriterIdOrNameInRange(writerId, name,
+                Memory.filterFrom(start), Memory.filterTo(end), cursor, pageSize + 1);
+
+        var hasNext = memories.size() > pageSize;
+        var page = fetchRooms(hasNext ? memories.subList(0, pageSize) : memories);
+
+        var nextCursor = hasNext ? nextCursor(page.get(page.size() - 1)) : null;
+        return new MemoryPageRspDto(
+                page.stream().map(memory -> new MemoryRspDto(privateRoomId, memory)).toList(),
+                nextCursor
+        );
+    }
+
+    private String nextCursor(Memory last) {
+        return findRegDate(last.getId())
+                .map(regDate -> MemoryCursor.of(last, regDate).encode())
+                .orElseThrow(() -> new MemoryNotFoundException(last.getId()));
+    }
+
+    /**
+     * Search memories of rooms the user joined, by part of name, contents or place.
+     */
+    @Transactional(readOnly = true)
+    public MemorySearchRspDto search(long userId, String query, Integer page, Integer size) {
+        // Length is checked on the trimmed query, the same term the search uses.
+        var term = StringUtils.trimToEmpty(query);
+        checkArgument(!term.isEmpty(), "검색어가 입력되지 않았습니다. 검색어를 입력해주세요.");
+        checkArgument(term.length() >= SEARCH_QUERY_MIN_LENGTH,
+                "검색어는 %s자 이상으로 입력해주세요.", SEARCH_QUERY_MIN_LENGTH);
+        checkArgument(term.length() <= SEARCH_QUERY_MAX_LENGTH,
+                "검색어는 %s자 이하로 입력해주세요.", SEARCH_QUERY_MAX_LENGTH);
+
+        var pageNumber = Optional.ofNullable(page).orElse(0);
+        var pageSize = Math.min(Optional.ofNullable(size).orElse(PAGE_SIZE_DEFAULT), PAGE_SIZE_MAX);
+        checkArgument(pageNumber >= 0, "페이지 번호는 0 이상이어야 합니다. 번호: %s", pageNumber);
+        checkArgument(pageSize > 0, "페이지 크기는 1 이상이어야 합니다. 크기: %s", pageSize);
+
+        var user = findUser(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+
+        // One more row is read to know whether the next page exists.
+        // Offset is long, a large page number must not overflow to a negative offset.
+        var memoryIds = searchMemoryIds(user.getId(), term, (long) pageNumber * pageSize, pageSize + 1);
+        var hasNext = memoryIds.size() > pageSize;
+        var pageIds = hasNext ? memoryIds.subList(0, pageSize) : memoryIds;
+
+        // Keep the rank order of the search
+        var memories = findMemoriesById(pageIds);
+        var memoryRsps = pageIds.stream()
+                .map(memories::get)
+                .filter(Objects::nonNull)
+                .map(memory -> new MemoryRspDto(user.getPrivateRoomId(), memory))
                 .toList();
+
+        return new MemorySearchRspDto(memoryRsps, pageNumber, hasNext);
     }
 
     @Transactional
@@ -177,17 +306,65 @@ public class MemoryService {
             throw new MemoryNotWriterException(user.getId(), memory.getWriter().getId());
         }
 
+        // Months and alarms before and after the update
+        memoryMonthCache.invalidate(memory);
+        var alarms = MemoryAlarm.of(memory);
         return memory.updateMemory(reqDto)
+                .map(updatedMemory -> {
+                    memoryMonthCache.invalidate(updatedMemory);
+                    publishAlarmChanged(alarms, updatedMemory);
+                    return updatedMemory;
+                })
                 .map(MemoryRspDto::new)
                 .orElseThrow(() -> new MemoryInternalServerException("Failed to update for memory data"));
     }
 
+    /**
+     * Remove one occurrence of a repeated memory, the other occurrences are kept.
+     */
+    @Transactional
+    public MemoryRspDto excludeOccurrence(long memoryId, long userId, LocalDateTime occurrenceStartDate) {
+        checkNotNull(occurrenceStartDate, "삭제할 반복 일정의 시작시간이 입력되지 않았습니다. 시작시간을 입력해주세요.");
+
+        var memory = findMemory(memoryId)
+                .filter(Memory::isUsed)
+                .orElseThrow(() -> new MemoryNotFoundException(memoryId));
+
+        if (!Objects.equals(memory.getWriter().getId(), userId)) {
+            throw new MemoryNotWriterException(userId, memory.getWriter().getId());
+        }
+
+        checkArgument(memory.isOccurrence(occurrenceStartDate),
+                "일정(번호: %s)의 반복 일정 시작시간이 아닙니다. 시작시간: %s", memoryId, occurrenceStartDate);
+
+        memory.excludeOccurrence(occurrenceStartDate);
+        memoryMonthCache.invalidate(userId, occurrenceStartDate, occurrenceStartDate.plus(memory.duration()));
+
+        return new MemoryRspDto(memory);
+    }
+
+    /**
+     * Attendance counters of the memory are changed with the status in the same transaction.
+     * The status is changed by a conditional update, so concurrent requests of a user move the counters once.
+     */
     @Transactional
     public MemoryRspDto setAttendanceStatus(long memoryId, MemoryReqDto reqDto) {
+        var status = reqDto.getAttendanceStatus();
+        checkNotNull(status, "참석 상태값이 없습니다. 참석 상태값을 설정해 주세요.");
+
         var attendMemoryResponse = findUserMemoryByMemoryIdAndUserId(memoryId, reqDto.getUserId())
                 .map(userMemory -> {
-                    userMemory.updateAttendance(reqDto.getAttendanceStatus());
-                    return new MemoryRspDto(userMemory);
+                    var before = userMemory.getStatus();
+                    if (before != status
+                            && userMemoryRepo.updateStatus(userMemory.getId(), before, status, LocalDateTime.now()) == 1) {
+                        moveAttendanceCount(memoryId, before, status);
+                        memoryMonthCache.invalidate(userMemory.getMemory());
+                    }
+
+                    // Status and counters are changed by queries, the response is read again.
+                    return findUserMemoryByMemoryIdAndUserId(memoryId, reqDto.getUserId())
+                            .map(MemoryRspDto::new)
+                            .orElseThrow(() -> new MemoryNotFoundException(memoryId));
                 })
                 .orElse(null);
 
@@ -203,7 +380,7 @@ public class MemoryService {
                     var userMemory = UserMemory.builder()
                             .user(user)
                             .memory(memory)
-                            .status(reqDto.getAttendanceStatus())
+                            .status(status)
                             .build();
 
                     var insertedUserMemory = insertUserMemory(userMemory)
@@ -215,80 +392,174 @@ public class MemoryService {
                     user.addMemory(insertedUserMemory);
                     memory.addUser(insertedUserMemory);
 
-                    return new MemoryRspDto(userMemory);
+                    moveAttendanceCount(memoryId, null, status);
+                    memoryMonthCache.invalidate(memory);
+
+                    return findUserMemoryByMemoryIdAndUserId(memoryId, user.getId())
+                            .map(MemoryRspDto::new)
+                            .orElseThrow(() -> new MemoryNotFoundException(memoryId));
                 })
                 .orElseThrow(() -> new MemoryNotFoundException(memoryId));
     }
 
+    // from: null when the attendance is set first.
+    private void moveAttendanceCount(long memoryId, AttendanceStatus from, AttendanceStatus to) {
+        memoryRepo.addAttendanceCounts(memoryId,
+                countDelta(from, to, AttendanceStatus.ATTEND), countDelta(from, to, AttendanceStatus.ABSENCE),
+                LocalDateTime.now());
+    }
+
+    private static int countDelta(AttendanceStatus from, AttendanceStatus to, AttendanceStatus counted) {
+        return (to == counted ? 1 : 0) - (from == counted ? 1 : 0);
+    }
+
+    /**
+     * Share targets are read by one query, and new rooms and relations are inserted by JDBC batches.
+     * Rooms of the same members are reused by the member fingerprint, and only missing rooms are inserted.
+     * Rooms already having the memory are skipped, and invitations are reserved by one batch sent after commit.
+     */
     @Transactional
     public MemoryRspDto shareMemory(long memoryId, long userId, MemoryReqDto reqDto) {
         checkNotNull(reqDto.getShareIds(), "공유 대상 목록이 없습니다. 공유 대상 목록을 입력해주세요.");
         checkNotNull(reqDto.getShareType(), "일정 공유 대상 종류값이 없습니다. 값을 입력해주세요.");
 
-        var memory = findMemory(memoryId)
+        // Share rooms of the memory with owners, for checking rooms already shared and the response
+        var memory = memoryRepo.findAllWithRoomsByIdIn(List.of(memoryId)).stream()
+                .filter(Memory::isUsed)
+                .findFirst()
                 .orElseThrow(() -> new MemoryNotFoundException(memoryId));
 
         var user = findUser(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
-        switch (reqDto.getShareType()) {
-            case USERS -> reqDto.getShareIds().forEach(id -> findUser(id)
-                    .map(target -> {
-                        var insertRoomReq = RoomReqDto.builder()
-                                .name(user.getName() + ", " + target.getName())
-                                .userId(userId)
-                                .opened(false)
-                                .member(List.of(target.getId()))
-                                .build();
-
-                        var insertRoomRsp = roomService.insert(insertRoomReq);
-                        return findRoom(insertRoomRsp.getRoomId())
-                                .orElseThrow(() -> new RoomNotFoundException(insertRoomRsp.getRoomId()));
-                    })
-                    .map(room -> {
-                        room.addMemory(memory);
-                        memory.addRoom(room);
-
-                        return room;
-                    })
-                    .orElseThrow(() -> new MemoryNotFoundShareMemberException(id)));
-
-            case USER_GROUP -> Optional.of(
-                            RoomReqDto.builder()
-                                    .name("Share room from " + user.getName())
-                                    .userId(userId)
-                                    .opened(false)
-                                    .member(
-                                            reqDto.getShareIds().stream().map(
-                                                            memberId -> findUser(memberId).map(User::getId)
-                                                                    .orElseThrow(() -> new MemoryNotFoundShareMemberException(memberId))
-                                                    )
-                                                    .toList()
-                                    )
-                                    .build()
-                    )
-                    .map(roomService::insert)
-                    .map(insertRoomRsp -> findRoom(insertRoomRsp.getRoomId())
-                            .map(room -> {
-                                room.addMemory(memory);
-                                memory.addRoom(room);
-
-                                return room;
-                            })
-                            .orElseThrow(RoomInternalServerException::new));
-            case ROOMS -> reqDto.getShareIds().forEach(roomId ->
-                    findRoom(roomId)
-                            .map(room -> {
-                                room.addMemory(memory);
-                                memory.addRoom(room);
-
-                                return room;
-                            })
-                            .orElseThrow(() -> new MemoryNotFoundShareRoomException(roomId))
+        // Share rooms of the memory are changed.
+        memoryMonthCache.invalidate(memory);
+
+        var shareIds = reqDto.getShareIds().stream().distinct().toList();
+        var rooms = switch (reqDto.getShareType()) {
+            case USERS -> findOrInsertShareRooms(user, findShareMembers(shareIds).stream()
+                    .map(target -> new ShareRoom(user.getName() + ", " + target.getName(), List.of(target)))
+                    .toList());
+
+            case USER_GROUP -> findOrInsertShareRooms(user, List.of(
+                    new ShareRoom("Share room from " + user.getName(), findShareMembers(shareIds))
+            ));
+
+            case ROOMS -> findShareRooms(shareIds);
+        };
+
+        relationMemoryToRooms(memory, rooms);
+
+        return new MemoryRspDto(user.getPrivateRoomId(), memory);
+    }
+
+    // Room made by share, owner is the sharer.
+    private record ShareRoom(String name, List<User> members) {
+
+        // Fingerprint of owner and members, null when the owner shares to oneself.
+        private String memberFingerprint(User owner) {
+            return Room.memberFingerprint(Stream.concat(Stream.of(owner), members.stream()).map(User::getId).toList());
+        }
+    }
+
+    /**
+     * Closed rooms of the same members are found by one indexed query, and only missing rooms are inserted.
+     *
+     * @return rooms in the order of shareRooms
+     */
+    private List<Room> findOrInsertShareRooms(User owner, List<ShareRoom> shareRooms) {
+        var fingerprints = shareRooms.stream().map(shareRoom -> shareRoom.memberFingerprint(owner)).toList();
+
+        // The oldest room is reused when rooms of the same members are made before.
+        var nonNullFingerprints = fingerprints.stream().filter(Objects::nonNull).distinct().toList();
+        var existRooms = nonNullFingerprints.isEmpty() ? new HashMap<String, Room>()
+                : roomRepo.findAllByMemberFingerprintInAndUsedTrueAndOpenedFalse(nonNullFingerprints).stream()
+                .collect(Collectors.toMap(Room::getMemberFingerprint, room -> room,
+                        BinaryOperator.minBy(Comparator.comparing(Room::getId))));
+
+        var missingRooms = new ArrayList<ShareRoom>();
+        for (var i = 0; i < shareRooms.size(); i++) {
+            if (!existRooms.containsKey(fingerprints.get(i))) {
+                missingRooms.add(shareRooms.get(i));
+            }
+        }
+        var insertedRooms = insertShareRooms(owner, missingRooms).iterator();
+
+        var rooms = new ArrayList<Room>(shareRooms.size());
+        for (var fingerprint : fingerprints) {
+            rooms.add(existRooms.containsKey(fingerprint) ? existRooms.get(fingerprint) : insertedRooms.next());
+        }
+        return rooms;
+    }
+
+    private List<Room> insertShareRooms(User owner, List<ShareRoom> shareRooms) {
+        if (shareRooms.isEmpty()) {
+            return List.of();
+        }
+
+        var roomIds = roomJdbcRepo.batchInsert(owner.getId(), shareRooms.stream()
+                .map(shareRoom -> new RoomJdbcRepository.NewRoom(shareRoom.name(), shareRoom.memberFingerprint(owner)))
+                .toList(), false);
+
+        var roomUsers = new ArrayList<RoomJdbcRepository.RoomUser>();
+        for (var i = 0; i < shareRooms.size(); i++) {
+            var roomId = roomIds.get(i);
+            roomUsers.add(new RoomJdbcRepository.RoomUser(roomId, owner.getId()));
+            shareRooms.get(i).members().forEach(
+                    member -> roomUsers.add(new RoomJdbcRepository.RoomUser(roomId, member.getId()))
             );
         }
+        roomJdbcRepo.batchInsertUsers(roomUsers);
+
+        fcmOutboxService.reserveEach(shareRooms.stream()
+                .map(shareRoom -> new FcmReservation(
+                        shareRoom.members(),
+                        "OurMemory - 방 참여",
+                        String.format("'%s' 방에 초대되셨습니다.", shareRoom.name()),
+                        null, null
+                ))
+                .toList());
+
+        // Owners are already in the persistence context, rooms are loaded by one query.
+        var rooms = roomRepo.findAllById(roomIds).stream()
+                .collect(Collectors.toMap(Room::getId, room -> room));
+        return roomIds.stream().map(rooms::get).toList();
+    }
 
-        return new MemoryRspDto(user.getPrivateRoomId(), memory);
+    private List<User> findShareMembers(List<Long> userIds) {
+        var users = userRepo.findAllById(userIds).stream()
+                .filter(User::isUsed)
+                .collect(Collectors.toMap(User::getId, user -> user));
+
+        return userIds.stream()
+                .map(id -> Optional.ofNullable(users.get(id))
+                        .orElseThrow(() -> new MemoryNotFoundShareMemberException(id)))
+                .toList();
+    }
+
+    private List<Room> findShareRooms(List<Long> roomIds) {
+        var rooms = roomRepo.findAllById(roomIds).stream()
+                .filter(Room::isUsed)
+                .collect(Collectors.toMap(Room::getId, room -> room));
+
+        return roomIds.stream()
+                .map(id -> Optional.ofNullable(rooms.get(id))
+                        .orElseThrow(() -> new MemoryNotFoundShareRoomException(id)))
+                .toList();
+    }
+
+    // Memory.rooms is the inverse side, rooms are added for the response after the relations are inserted.
+    private void relationMemoryToRooms(Memory memory, List<Room> rooms) {
+        var sharedRoomIds = memory.getRooms().stream().map(Room::getId).collect(Collectors.toSet());
+        var newRooms = rooms.stream()
+                .filter(room -> !sharedRoomIds.contains(room.getId()))
+                .toList();
+        if (newRooms.isEmpty()) {
+            return;
+        }
+
+        roomJdbcRepo.batchInsertMemory(memory.getId(), newRooms.stream().map(Room::getId).toList());
+        newRooms.forEach(memory::addRoom);
     }
 
     @Transactional
@@ -299,9 +570,13 @@ public class MemoryService {
         var user = findUser(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
+        memoryMonthCache.invalidate(memory);
+
         // 1. Delete memory from private room -> delete memory
         if (user.getPrivateRoomId().equals(roomId)) {
+            var alarms = MemoryAlarm.of(memory);
             memory.deleteMemory();
+            publishAlarmChanged(alarms, memory);
         }
         // 2. Delete memory from share room -> delete room-memory relation
         else {
@@ -309,9 +584,7 @@ public class MemoryService {
                     .orElseThrow(() -> new RoomNotFoundException(roomId));
 
             // Check memory include room
-            if (
-                    room.getMemories().stream().filter(rm -> rm.getId() == memoryId).findAny().isEmpty()
-            ) {
+            if (!isMemoryInRoom(room.getId(), memoryId)) {
                 throw new MemoryNotIncludeRoomException(memoryId, roomId);
             }
 
@@ -323,6 +596,13 @@ public class MemoryService {
         return null;
     }
 
+    private void publishAlarmChanged(List<MemoryAlarm> before, Memory memory) {
+        var event = MemoryAlarmChangedEvent.of(before, MemoryAlarm.of(memory));
+        if (!event.isEmpty()) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
     /**
      * Memory Repository
      */
@@ -334,12 +614,49 @@ public class MemoryService {
         return Optional.ofNullable(id).flatMap(memoryId -> memoryRepo.findById(memoryId).filter(Memory::isUsed));
     }
 
-    private Optional<List<Memory>> findMemoriesByName(String name) {
-        return memoryRepo.findAllByName(name);
+    private Optional<List<Memory>> findMemoriesByWriterIdOrNameInRange(Long writerId, String name,
+                                                                       LocalDateTime from, LocalDateTime to) {
+        return memoryRepo.findAllByWriterIdOrNameInRange(writerId, name, from, to);
     }
 
-    private Optional<List<Memory>> findMemoriesByWriterId(Long userId) {
-        return memoryRepo.findAllByWriterId(userId);
+    private List<Memory> findMemoriesPageByWriterIdOrNameInRange(Long writerId, String name,
+                                                                 LocalDateTime from, LocalDateTime to,
+                                                                 String cursor, int limit) {
+        var pageable = PageRequest.of(0, limit);
+        return Optional.ofNullable(cursor)
+                .map(MemoryCursor::decode)
+                .map(after -> memoryRepo.findPageByWriterIdOrNameInRangeAfter(writerId, name, from, to,
+                        after.startDate(), after.regDate(), after.id(), pageable))
+                .orElseGet(() -> memoryRepo.findPageByWriterIdOrNameInRange(writerId, name, from, to, pageable));
+    }
+
+    private List<Long> searchMemoryIds(Long userId, String query, long offset, int limit) {
+        return memorySearchRepo.search(userId, query, offset, limit);
+    }
+
+    private Map<Long, Memory> findMemoriesById(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return memoryRepo.findAllWithRoomsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Memory::getId, memory -> memory));
+    }
+
+    /**
+     * Rooms and room owners of the memories are loaded at once.
+     * MemoryRspDto reads them for each memory, lazy loading would cost queries for each memory.
+     */
+    private List<Memory> fetchRooms(List<Memory> memories) {
+        if (!memories.isEmpty()) {
+            memoryRepo.findAllWithRoomsByIdIn(memories.stream().map(Memory::getId).toList());
+        }
+
+        return memories;
+    }
+
+    private Optional<LocalDateTime> findRegDate(Long memoryId) {
+        return memoryRepo.findRegDateById(memoryId);
     }
 
     /**
@@ -371,8 +688,8 @@ public class MemoryService {
         return userMemoryRepo.findByMemoryIdAndUserId(memoryId, userId);
     }
 
-    private Optional<List<UserMemory>> findUserMemoryByMemoryAndUserIn(Memory memory, List<User> users) {
-        return userMemoryRepo.findAllByMemoryAndUserIn(memory, users);
+    private List<UserMemory> findUserMemoryByMemoryIdAndRoomId(Long memoryId, Long roomId) {
+        return userMemoryRepo.findAllWithUserByMemoryIdAndRoomId(memoryId, roomId);
     }
 
     /**
@@ -384,4 +701,8 @@ public class MemoryService {
     private Optional<Room> findRoom(Long id) {
         return Optional.ofNullable(id).flatMap(roomId -> roomRepo.findById(roomId).filter(Room::isUsed));
     }
+
+    private boolean isMemoryInRoom(Long roomId, Long memoryId) {
+        return roomRepo.existsMemoryInRoom(roomId, memoryId);
+    }
 }
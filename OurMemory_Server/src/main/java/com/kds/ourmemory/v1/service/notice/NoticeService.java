@@ -14,12 +14,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-import static java.util.stream.Collectors.toList;
-
 @RequiredArgsConstructor
 @Service
 public class NoticeService {
@@ -43,17 +41,14 @@ public class NoticeService {
 
     @Transactional
     public List<NoticeRspDto> findNotices(long userId, boolean isReadProcessing) {
-        return findNoticesByUserId(userId)
-                .map(notices -> notices.stream().map(notice -> {
-                    // new response before read processing
-                    var response = new NoticeRspDto(notice);
-
-                    if (isReadProcessing) {
-                        notice.readNotice();
-                    }
-                    return response;
-                }).collect(toList()))
-                .orElseGet(ArrayList::new);
+        // Response before read processing, notices are read as dto.
+        var responses = findNoticeRspsByUserId(userId);
+
+        if (isReadProcessing && !responses.isEmpty()) {
+            readNoticesByUserId(userId);
+        }
+
+        return responses;
     }
 
     @Transactional
@@ -82,15 +77,13 @@ public class NoticeService {
         return Optional.ofNullable(id).flatMap(noticeRepo::findById);
     }
 
-    private Optional<List<Notice>> findNoticesByUserId(Long userId) {
-        List<Notice> notices = new ArrayList<>();
-
-        noticeRepo.findAllByUserId(userId).ifPresent(noticeList -> notices.addAll(
-                        noticeList.stream().filter(Notice::isUsed).collect(toList()))
-                );
+    private List<NoticeRspDto> findNoticeRspsByUserId(Long userId) {
+        return noticeRepo.findRspByUserId(userId);
+    }
 
-        return Optional.of(notices)
-                .filter(noticeList -> !noticeList.isEmpty());
+    // Read flag of every notice is updated by one query, instead of dirty checking of each notice.
+    private void readNoticesByUserId(Long userId) {
+        noticeRepo.readAllByUserId(userId, LocalDateTime.now());
     }
 
     private Optional<Notice> updateNotice(Notice notice) {
@@ -3,19 +3,26 @@ package com.kds.ourmemory.v1.service.room;
 import com.kds.ourmemory.v1.advice.room.exception.*;
 import com.kds.ourmemory.v1.advice.user.exception.UserInternalServerException;
 import com.kds.ourmemory.v1.advice.user.exception.UserNotFoundException;
-import com.kds.ourmemory.v1.controller.firebase.dto.FcmDto;
 import com.kds.ourmemory.v1.controller.room.dto.RoomReqDto;
 import com.kds.ourmemory.v1.controller.room.dto.RoomRspDto;
 import com.kds.ourmemory.v1.entity.memory.Memory;
+import com.kds.ourmemory.v1.entity.relation.UserMemory;
 import com.kds.ourmemory.v1.entity.room.Room;
 import com.kds.ourmemory.v1.entity.user.User;
+import com.kds.ourmemory.v1.repository.relation.UserMemoryRepository;
+import com.kds.ourmemory.v1.repository.room.RoomJdbcRepository;
 import com.kds.ourmemory.v1.repository.room.RoomRepository;
 import com.kds.ourmemory.v1.repository.user.UserRepository;
-import com.kds.ourmemory.v1.service.firebase.FcmService;
+import com.kds.ourmemory.v1.service.firebase.FcmOutboxService;
+import com.kds.ourmemory.v1.service.memory.MemoryMonthCache;
+import com.kds.ourmemory.v1.util.ETags;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.transaction.Transactional;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -24,11 +31,20 @@ import java.util.stream.Collectors;
 public class RoomService {
     private final RoomRepository roomRepo;
 
+    // Versions for ETag
+    private final RoomJdbcRepository roomJdbcRepo;
+
     // Add to work in rooms and user relationship tables
     private final UserRepository userRepo;
 
-    // Add to FCM
-    private final FcmService fcmService;
+    // Attendance of room members for room responses
+    private final UserMemoryRepository userMemoryRepo;
+
+    // Add to FCM, sent after commit
+    private final FcmOutboxService fcmOutboxService;
+
+    // Calendar month view, share rooms of memories are changed by room changes
+    private final MemoryMonthCache memoryMonthCache;
 
     @Transactional
     public RoomRspDto insert(RoomReqDto reqDto) {
@@ -45,7 +61,8 @@ public class RoomService {
                     // Relation room and members
                     return addMemberToRoom(room, reqDto.getMember());
                 })
-                .map(RoomRspDto::new)
+                // New room has no memories yet.
+                .map(room -> new RoomRspDto(room, Map.of()))
                 .orElseThrow(() -> new RoomNotFoundOwnerException(reqDto.getUserId()));
     }
 
@@ -56,11 +73,8 @@ public class RoomService {
                         user.addRoom(room);
                         room.addUser(user);
 
-                        fcmService.sendMessageTo(
-                            new FcmDto.Request(
-                                    user.getPushToken(), user.getDeviceOs(),
-                                    "OurMemory - 방 참여", String.format("'%s' 방에 초대되셨습니다.", room.getName())
-                            )
+                        fcmOutboxService.reserve(
+                                user, "OurMemory - 방 참여", String.format("'%s' 방에 초대되셨습니다.", room.getName())
                         );
                         return user;
                     })
@@ -68,6 +82,8 @@ public class RoomService {
                 )
         );
 
+        // Once by all members, not by each added member.
+        room.updateMemberFingerprint();
         return room;
     }
 
@@ -96,14 +112,41 @@ public class RoomService {
 
     @Transactional
     public RoomRspDto find(Long roomId) {
+        return find(roomId, null);
+    }
+
+    /**
+     * @param month memories of the month, repeated memories are expanded in the month.(null: memories not ended)
+     */
+    @Transactional
+    public RoomRspDto find(Long roomId, YearMonth month) {
         var room = findRoom(roomId)
                 .filter(Room::isUsed)
                 .orElseThrow(() -> new RoomNotFoundException(roomId));
 
-        return new RoomRspDto(room);
+        return new RoomRspDto(room, month, findAttendances(room));
     }
 
-    @Transactional
+    /**
+     * ETag of find(roomId, month), empty when the room is not found.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findETag(long roomId, YearMonth month) {
+        return roomJdbcRepo.findVersion(roomId, LocalDateTime.now())
+                .map(version -> ETags.of("room", roomId, month, version));
+    }
+
+    /**
+     * ETag of findRooms, by the rooms of the same condition.
+     */
+    @Transactional(readOnly = true)
+    public String findRoomsETag(Long userId, String name) {
+        var version = roomJdbcRepo.findListVersion(userId, name, LocalDateTime.now());
+        return ETags.of("rooms", userId, name, version);
+    }
+
+    // Read only: loaded entities are not dirty checked, no snapshot is kept for them.
+    @Transactional(readOnly = true)
     public List<RoomRspDto> findRooms(Long userId, String name) {
         List<Room> findRooms = new ArrayList<>();
 
@@ -119,10 +162,25 @@ public class RoomService {
                 rooms -> findRooms.addAll(rooms.stream().filter(Room::isUsed).toList())
         );
 
-        return findRooms.stream()
+        var rooms = findRooms.stream()
                 .distinct()
                 .sorted(Comparator.comparing(Room::getRegDate).reversed())
-                .map(RoomRspDto::new)
+                .toList();
+        if (rooms.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Attendance of every room by one join, grouped by room and memory.
+        Map<Long, Map<Long, List<UserMemory>>> attendances = new HashMap<>();
+        for (var row : userMemoryRepo.findAllWithUserByRoomIdIn(rooms.stream().map(Room::getId).toList())) {
+            var userMemory = (UserMemory) row[1];
+            attendances.computeIfAbsent((Long) row[0], roomId -> new HashMap<>())
+                    .computeIfAbsent(userMemory.getMemory().getId(), memoryId -> new ArrayList<>())
+                    .add(userMemory);
+        }
+
+        return rooms.stream()
+                .map(room -> new RoomRspDto(room, attendances.getOrDefault(room.getId(), Map.of())))
                 .collect(Collectors.toList());
     }
 
@@ -147,9 +205,11 @@ public class RoomService {
                         throw new RoomNotFoundMemberException(userId);
                     }
 
+                    // Owner of the room is in share rooms of the memories.
+                    invalidateMonthCache(room);
                     return room;
                 })
-                .map(RoomRspDto::new)
+                .map(room -> new RoomRspDto(room, findAttendances(room)))
                 .orElseThrow(() -> new RoomNotFoundException(roomId));
     }
 
@@ -157,7 +217,11 @@ public class RoomService {
     public RoomRspDto update(long roomId, RoomReqDto reqDto) {
         return findRoom(roomId).map(room ->
                         room.updateRoom(reqDto)
-                                .map(RoomRspDto::new)
+                                .map(updatedRoom -> {
+                                    // Name of the room is in share rooms of the memories.
+                                    invalidateMonthCache(updatedRoom);
+                                    return new RoomRspDto(updatedRoom, findAttendances(updatedRoom));
+                                })
                                 .orElseThrow(() -> new RoomInternalServerException("Failed to update for room data."))
                 )
                 .orElseThrow(
@@ -178,6 +242,8 @@ public class RoomService {
             throw new RoomNotOwnerException(userId, roomId);
         }
 
+        memoryMonthCache.invalidate(room.getMemories());
+
         // 1. delete memories -> private room only
         if (room.getId().longValue() == privateRoomId) {
             room.getMemories().forEach(Memory::deleteMemory);
@@ -208,7 +274,7 @@ public class RoomService {
         var user = findUser(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
-        if (!room.getUsers().contains(user)) {
+        if (!isUserInRoom(room.getId(), user.getId())) {
             throw new RoomNotParticipantException(userId, roomId);
         }
 
@@ -216,6 +282,7 @@ public class RoomService {
         if (!Objects.equals(room.getOwner(), user)) {
             // 1-1. exit room(delete room-user relation)
             room.deleteUser(user);
+            room.updateMemberFingerprint();
             user.deleteRooms(List.of(room));
         }
         /* 2. room's owner */
@@ -231,7 +298,7 @@ public class RoomService {
                     throw new RoomAlreadyOwnerException(recommendUserId, roomId);
                 }
 
-                if (!room.getUsers().contains(recommendUser)) {
+                if (!isUserInRoom(room.getId(), recommendUser.getId())) {
                     throw new RoomNotParticipantException(recommendUserId, roomId);
                 }
             }
@@ -240,13 +307,19 @@ public class RoomService {
                 recommendUser = room.getUsers().stream().filter(u -> u.getId() != userId).toList().get(0);
             }
             room.recommendOwner(recommendUser);
+            // Owner of the room is in share rooms of the memories.
+            invalidateMonthCache(room);
 
             // 2) exit room(delete room-user relation)
             room.deleteUser(user);
+            room.updateMemberFingerprint();
             user.deleteRooms(List.of(room));
         }
         // 2-2. personal room (Not privateRoom, only member 1)
         else {
+            // Room is deleted, share rooms of the memories are changed.
+            memoryMonthCache.invalidate(room.getMemories());
+
             // 1) delete room-memory relation
             for (var memory : room.getMemories()) {
                 memory.deleteRoom(room);
@@ -259,6 +332,7 @@ public class RoomService {
 
             // 2) exit room(delete room-user relation)
             room.deleteUser(user);
+            room.updateMemberFingerprint();
             user.deleteRooms(List.of(room));
 
             // 3) delete room
@@ -280,6 +354,25 @@ public class RoomService {
         return Optional.ofNullable(id).flatMap(roomId -> roomRepo.findById(roomId).filter(Room::isUsed));
     }
 
+    // Attendance of room members for every memory by one join, users of each memory are not loaded.
+    private Map<Long, List<UserMemory>> findAttendances(Room room) {
+        return userMemoryRepo.findAllWithUserByRoomId(room.getId()).stream()
+                .collect(Collectors.groupingBy(userMemory -> userMemory.getMemory().getId()));
+    }
+
+    // Months of the memories by writer from one aggregate query, memories of the room are not loaded.
+    private void invalidateMonthCache(Room room) {
+        roomRepo.findMemorySpansByRoomId(room.getId()).forEach(row -> memoryMonthCache.invalidate(
+                ((Number) row[0]).longValue(),
+                ((Timestamp) row[1]).toLocalDateTime(),
+                ((Timestamp) row[2]).toLocalDateTime()
+        ));
+    }
+
+    private boolean isUserInRoom(Long roomId, Long userId) {
+        return roomRepo.existsUserInRoom(roomId, userId);
+    }
+
     private Optional<List<Room>> findRoomsByName(String name) {
         return roomRepo.findAllByName(name);
     }
@@ -0,0 +1,97 @@
+package com.kds.ourmemory.v1.service.sync;
+
+import com.kds.ourmemory.v1.advice.user.exception.UserNotFoundException;
+import com.kds.ourmemory.v1.config.CustomConfig;
+import com.kds.ourmemory.v1.controller.sync.dto.SyncRspDto;
+import com.kds.ourmemory.v1.entity.room.Room;
+import com.kds.ourmemory.v1.entity.user.User;
+import com.kds.ourmemory.v1.repository.memory.MemoryRepository;
+import com.kds.ourmemory.v1.repository.relation.UserMemoryRepository;
+import com.kds.ourmemory.v1.repository.room.RoomRepository;
+import com.kds.ourmemory.v1.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Rooms, memories and attendances of a user changed after the watermark.
+ * <p>
+ * Each kind is read by the mod_date index, so nothing is read when nothing is changed.
+ * Changes of relations(room members, room memories) set mod_date of the entities by BaseTimeEntity.touch.
+ */
+@RequiredArgsConstructor
+@Service
+public class SyncService {
+    // Watermark of the first sync, every row is changed after it.
+    private static final LocalDateTime SYNC_EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final UserRepository userRepo;
+
+    private final RoomRepository roomRepo;
+
+    private final MemoryRepository memoryRepo;
+
+    private final UserMemoryRepository userMemoryRepo;
+
+    private final CustomConfig customConfig;
+
+    /**
+     * @param since watermark of the last sync, null for the first sync.
+     */
+    @Transactional(readOnly = true)
+    public SyncRspDto sync(long userId, LocalDateTime since) {
+        var user = findUser(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+
+        // Rows flushed before now and committed after the read are found by the next sync.
+        var watermark = LocalDateTime.now().minus(customConfig.getSync().getCommitLag());
+        var from = Optional.ofNullable(since).orElse(SYNC_EPOCH);
+
+        // Rooms of the user are changed with the user(User.addRoom, deleteRooms)
+        var roomIds = Objects.isNull(user.getModDate()) || user.getModDate().isAfter(from)
+                ? roomRepo.findRoomIdsByUserId(user.getId()) : null;
+
+        // Members and memories of every changed room by two queries on the join tables
+        var rooms = roomRepo.findAllWithOwnerByUserIdAndModDateAfter(user.getId(), from);
+        var changedRoomIds = rooms.stream().filter(Room::isUsed).map(Room::getId).toList();
+        var memberIds = changedRoomIds.isEmpty() ? Map.<Long, List<Long>>of()
+                : groupByRoomId(roomRepo.findUserIdsByRoomIdIn(changedRoomIds));
+        var memoryIds = changedRoomIds.isEmpty() ? Map.<Long, List<Long>>of()
+                : groupByRoomId(roomRepo.findUsedMemoryIdsByRoomIdIn(changedRoomIds));
+
+        return new SyncRspDto(
+                watermark,
+                roomIds,
+                rooms,
+                memberIds,
+                memoryIds,
+                memoryRepo.findAllWithWriterByUserIdAndModDateAfter(user.getId(), from),
+                userMemoryRepo.findAllWithUserByUserIdAndModDateAfter(user.getId(), from)
+        );
+    }
+
+    // [room_id, id] rows -> ids by room id, numeric types of native results differ by database.
+    private static Map<Long, List<Long>> groupByRoomId(List<Object[]> rows) {
+        return rows.stream().collect(Collectors.groupingBy(
+                row -> ((Number) row[0]).longValue(),
+                Collectors.mapping(row -> ((Number) row[1]).longValue(), Collectors.toList())
+        ));
+    }
+
+    /**
+     * User Repository
+     * <p>
+     * When working with a service code, the service code is connected to each other
+     * and is caught in an infinite loop in the injection of dependencies.
+     */
+    private Optional<User> findUser(Long id) {
+        return Optional.ofNullable(id).flatMap(userRepo::findById).filter(User::isUsed);
+    }
+}
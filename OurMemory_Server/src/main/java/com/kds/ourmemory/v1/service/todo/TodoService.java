@@ -15,13 +15,9 @@ import org.springframework.stereotype.Service;
 import javax.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalQueries;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
-import static java.util.stream.Collectors.toList;
-
 @RequiredArgsConstructor
 @Service
 public class TodoService {
@@ -49,22 +45,12 @@ public class TodoService {
 
     @Transactional
     public List<TodoRspDto> findTodos(long userId) {
-        List<Todo> findTodos = new ArrayList<>();
-
-        findTodolistByWriterId(userId).ifPresent(findTodos::addAll);
-
-        return findTodos.stream()
-                .filter(Todo::isUsed)
-                .filter(todo -> todo.getTodoDate().isAfter(LocalDateTime.now().minusDays(1))) // filtering past
-                .filter(todo -> todo.getTodoDate().isBefore(
-                        LocalDateTime.now().plusDays(2).query(TemporalQueries.localDate()).atStartOfDay()) // filtering 2days more
-                )
-                .sorted(
-                        Comparator.comparing(Todo::getTodoDate)
-                                .thenComparing(Todo::getRegDate)
-                )
-                .map(TodoRspDto::new)
-                .collect(toList());
+        // Used flag, period and order are applied by query, and todos are read as dto.
+        return findTodoRspsByWriterIdAndTodoDateBetween(
+                userId,
+                LocalDateTime.now().minusDays(1), // filtering past
+                LocalDateTime.now().plusDays(2).query(TemporalQueries.localDate()).atStartOfDay() // filtering 2days more
+        );
     }
 
     @Transactional
@@ -102,8 +88,8 @@ public class TodoService {
         return Optional.ofNullable(todoId).flatMap(id -> todoRepository.findById(id).filter(Todo::isUsed));
     }
 
-    private Optional<List<Todo>> findTodolistByWriterId(Long userId) {
-        return todoRepository.findAllByWriterId(userId);
+    private List<TodoRspDto> findTodoRspsByWriterIdAndTodoDateBetween(Long userId, LocalDateTime from, LocalDateTime to) {
+        return todoRepository.findRspByWriterIdAndTodoDateBetween(userId, from, to);
     }
 
     /**
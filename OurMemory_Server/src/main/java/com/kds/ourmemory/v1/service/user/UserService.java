@@ -10,6 +10,7 @@ import com.kds.ourmemory.v1.entity.friend.Friend;
 import com.kds.ourmemory.v1.entity.user.User;
 import com.kds.ourmemory.v1.repository.friend.FriendRepository;
 import com.kds.ourmemory.v1.repository.user.UserRepository;
+import com.kds.ourmemory.v1.service.firebase.FcmTokenRegistry;
 import com.kds.ourmemory.v1.service.room.RoomService;
 import com.kds.ourmemory.v1.util.S3Uploader;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +37,9 @@ public class UserService {
     // When searching for a user, add to pass the friend status
     private final FriendRepository friendRepository;
 
+    // Token registered again is valid for push
+    private final FcmTokenRegistry fcmTokenRegistry;
+
     @Transactional
     public UserRspDto signUp(UserReqDto reqDto) {
         checkNotNull(reqDto, "가입할 사용자 정보");
@@ -70,7 +74,10 @@ public class UserService {
     public UserRspDto patchToken(long userId, UserReqDto reqDto) {
         return findUser(userId).map(user ->
                 user.changePushToken(reqDto.getPushToken())
-                        .map(UserRspDto::new)
+                        .map(changedUser -> {
+                            fcmTokenRegistry.register(changedUser.getPushToken());
+                            return new UserRspDto(changedUser);
+                        })
                         .orElseThrow(UserInternalServerException::new)
                 )
                 .orElseThrow(() -> new UserNotFoundException(userId));
@@ -160,6 +167,7 @@ public class UserService {
 
                             // Related rooms - 1) owner room, 2) participant room
                             room.deleteUser(user);
+                            room.updateMemberFingerprint();
                         }
 
                         // Related rooms - 3) private room
@@ -0,0 +1,24 @@
+package com.kds.ourmemory.v1.util;
+
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Strong entity tag of a response from the versions(modified dates, counts) of the entities in it.
+ * <p>
+ * Versions are hashed, so modified dates and counts are not exposed to clients.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(Object... versions) {
+        var joined = Arrays.stream(versions).map(Objects::toString).collect(Collectors.joining("|"));
+        return Hashing.sha256().hashString(joined, StandardCharsets.UTF_8).toString();
+    }
+}
@@ -0,0 +1,189 @@
+package com.kds.ourmemory.v1.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Hierarchical timing wheel of tasks with a deadline in epoch millis
+ * <p>
+ * Each level has wheelSize buckets of one tick, and the next level has buckets of the whole range of the level below.
+ * A task is put in the bucket of its deadline at the lowest level that covers it, and moved down when the bucket of
+ * the upper level expires. So schedule and cancel cost O(1) for any number of tasks.
+ * <p>
+ * Only buckets having tasks are kept in the queue by their expiration, so advancing the clock doesn't visit empty ticks.
+ * Deadline is truncated to the tick, a task is due when the tick of its deadline starts.
+ * Tasks are identified by equals(), a task scheduled again replaces the previous one.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final Level root;
+
+    // Bucket of each task for cancel
+    private final Map<T, Entry<T>> entries = new HashMap<>();
+
+    // Buckets having tasks of every level, ordered by expiration
+    private final PriorityQueue<Bucket<T>> queue = new PriorityQueue<>(Comparator.comparingLong(bucket -> bucket.expiration));
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        checkArgument(tickMillis > 0, "Tick must be positive. tick: %s", tickMillis);
+        checkArgument(wheelSize > 1, "Wheel size must be bigger than 1. size: %s", wheelSize);
+
+        this.root = new Level(tickMillis, wheelSize, startMillis);
+    }
+
+    /**
+     * @return false when the deadline is in the current tick, the task is due and not added.
+     */
+    public synchronized boolean schedule(T task, long deadlineMillis) {
+        cancel(task);
+
+        var entry = new Entry<>(task, deadlineMillis);
+        if (!root.add(entry)) {
+            return false;
+        }
+
+        entries.put(task, entry);
+        return true;
+    }
+
+    public synchronized boolean cancel(T task) {
+        var entry = entries.remove(task);
+        if (entry == null) {
+            return false;
+        }
+
+        entry.bucket.entries.remove(entry);
+        entry.bucket = null;
+        return true;
+    }
+
+    /**
+     * Move the clock to now.
+     *
+     * @return tasks whose deadline is passed, in order of the bucket expiration
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        var due = new ArrayList<T>();
+
+        while (!queue.isEmpty() && queue.peek().expiration <= nowMillis) {
+            var bucket = queue.poll();
+            root.advanceClock(bucket.expiration);
+
+            // Tasks of an upper level bucket go down to a lower level, tasks of the current tick are due.
+            for (var entry : bucket.flush()) {
+                if (!root.add(entry)) {
+                    entries.remove(entry.task);
+                    due.add(entry.task);
+                }
+            }
+        }
+
+        root.advanceClock(nowMillis);
+        return due;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private class Level {
+        private final long tickMillis;
+
+        private final int wheelSize;
+
+        // Range of the whole wheel, tick of the next level
+        private final long intervalMillis;
+
+        private final List<Bucket<T>> buckets;
+
+        // Start of the current tick
+        private long currentMillis;
+
+        // Made when a deadline is out of the range
+        private Level overflow;
+
+        private Level(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.intervalMillis = tickMillis * wheelSize;
+            this.currentMillis = startMillis - (startMillis % tickMillis);
+
+            this.buckets = new ArrayList<>(wheelSize);
+            for (var i = 0; i < wheelSize; i++) {
+                buckets.add(new Bucket<>());
+            }
+        }
+
+        private boolean add(Entry<T> entry) {
+            if (entry.deadlineMillis < currentMillis + tickMillis) {
+                return false;
+            }
+
+            if (entry.deadlineMillis >= currentMillis + intervalMillis) {
+                if (overflow == null) {
+                    overflow = new Level(intervalMillis, wheelSize, currentMillis);
+                }
+                return overflow.add(entry);
+            }
+
+            var virtualId = entry.deadlineMillis / tickMillis;
+            var bucket = buckets.get((int) (virtualId % wheelSize));
+            bucket.entries.add(entry);
+            entry.bucket = bucket;
+
+            // Bucket is queued once for each expiration, it is reused after flush.
+            var expiration = virtualId * tickMillis;
+            if (bucket.expiration != expiration) {
+                bucket.expiration = expiration;
+                queue.offer(bucket);
+            }
+            return true;
+        }
+
+        private void advanceClock(long millis) {
+            if (millis < currentMillis + tickMillis) {
+                return;
+            }
+
+            currentMillis = millis - (millis % tickMillis);
+            if (overflow != null) {
+                overflow.advanceClock(currentMillis);
+            }
+        }
+    }
+
+    private static class Bucket<T> {
+        private final Set<Entry<T>> entries = new LinkedHashSet<>();
+
+        private long expiration = -1;
+
+        private List<Entry<T>> flush() {
+            var flushed = new ArrayList<>(entries);
+            entries.clear();
+            expiration = -1;
+
+            return flushed;
+        }
+    }
+
+    private static class Entry<T> {
+        private final T task;
+
+        private final long deadlineMillis;
+
+        private Bucket<T> bucket;
+
+        private Entry(T task, long deadlineMillis) {
+            this.task = task;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
@@ -5,7 +5,14 @@ import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.kds.ourmemory.v1.advice.user.exception.UserProfileImageUploadException;
+import com.kds.ourmemory.v1.config.ResilienceConfig;
 import com.kds.ourmemory.v1.config.S3Config;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -19,6 +26,7 @@ import java.net.URL;
 import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -29,6 +37,11 @@ public class S3Uploader {
 
     private final S3Config s3Config;
 
+    // Fail fast when S3 is unhealthy, and limit request threads waiting for S3.(ResilienceConfig)
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private final BulkheadRegistry bulkheadRegistry;
+
     public String upload(MultipartFile multipartFile) {
         File uploadFile = convert(multipartFile)  // 파일 변환할 수 없으면 에러
                 .orElseThrow(() -> new UserProfileImageUploadException("Failed to convert multipartFile to file"));
@@ -44,6 +57,8 @@ public class S3Uploader {
             return Optional.of(true);
         } catch (MalformedURLException e) {
             log.error(e.getMessage());
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            log.warn("S3 delete rejected. {}", e.getMessage());
         }
 
         return Optional.empty();
@@ -51,21 +66,38 @@ public class S3Uploader {
 
     private void deleteFromS3(String key) {
         DeleteObjectRequest deleteObjectRequest = new DeleteObjectRequest(s3Config.getBucket(), key);
-        amazonS3Client.deleteObject(deleteObjectRequest);
+        guard(() -> {
+            amazonS3Client.deleteObject(deleteObjectRequest);
+            return key;
+        });
     }
 
     // S3로 파일 업로드하기
     private String upload(File uploadFile, String dirName) {
         String fileName = dirName + "/" + UUID.randomUUID();   // S3에 저장된 파일 이름
-        String uploadImageUrl = putS3(uploadFile, fileName); // s3로 업로드
-        removeNewFile(uploadFile);
-        return uploadImageUrl;
+        try {
+            return putS3(uploadFile, fileName); // s3로 업로드
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw new UserProfileImageUploadException("S3 is unavailable. " + e.getMessage());
+        } finally {
+            removeNewFile(uploadFile);
+        }
     }
 
     // S3로 업로드
     private String putS3(File uploadFile, String fileName) {
-        amazonS3Client.putObject(new PutObjectRequest(s3Config.getBucket(), fileName, uploadFile).withCannedAcl(CannedAccessControlList.PublicRead));
-        return amazonS3Client.getUrl(s3Config.getBucket(), fileName).toString();
+        return guard(() -> {
+            amazonS3Client.putObject(new PutObjectRequest(s3Config.getBucket(), fileName, uploadFile).withCannedAcl(CannedAccessControlList.PublicRead));
+            return amazonS3Client.getUrl(s3Config.getBucket(), fileName).toString();
+        });
+    }
+
+    // S3 호출 보호: 회로가 열렸거나 동시 호출 수를 초과하면 대기하지 않고 바로 실패
+    private <T> T guard(Supplier<T> s3Call) {
+        var circuitBreaker = circuitBreakerRegistry.circuitBreaker(ResilienceConfig.S3);
+        var bulkhead = bulkheadRegistry.bulkhead(ResilienceConfig.S3);
+
+        return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, s3Call)).get();
     }
 
     // 로컬에 저장된 이미지 지우기
@@ -0,0 +1,31 @@
+package com.kds.ourmemory.v1.util.ics;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * VEVENT of an iCalendar file, only properties stored in a memory and UID, LAST-MODIFIED.
+ * <p>
+ * Text values are unescaped, and null when the property is missing.
+ * startDate is null when DTSTART is missing or can't be parsed.
+ * Repeated events have RRULE(recurrence) and EXDATE(exclusionDates), the reader doesn't read them.
+ */
+public record IcsEvent(String uid, String summary, String description, String location,
+                       LocalDateTime startDate, LocalDateTime endDate, LocalDateTime lastModified,
+                       Recurrence recurrence, List<LocalDateTime> exclusionDates) {
+
+    // Not repeated
+    public IcsEvent(String uid, String summary, String description, String location,
+                    LocalDateTime startDate, LocalDateTime endDate, LocalDateTime lastModified) {
+        this(uid, summary, description, location, startDate, endDate, lastModified, null, List.of());
+    }
+
+    /**
+     * RRULE of the event.
+     *
+     * @param frequency FREQ: DAILY, WEEKLY, MONTHLY, YEARLY
+     * @param until     UNTIL: start date of the last occurrence, null when repeated without end
+     */
+    public record Recurrence(String frequency, int interval, LocalDateTime until) {
+    }
+}
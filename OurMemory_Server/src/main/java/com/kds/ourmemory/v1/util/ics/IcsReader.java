@@ -0,0 +1,273 @@
+package com.kds.ourmemory.v1.util.ics;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming reader of VEVENT components in an iCalendar(RFC 5545) file.
+ * <p>
+ * Lines are read one by one and each event is passed to the consumer at END:VEVENT,
+ * so the file is never loaded in memory at once.
+ * <p>
+ * Dates are converted to the given zone(default: server zone).
+ * 1. UTC('Z' suffix), TZID parameter - converted. Unknown TZID is read as local time.
+ * 2. Floating time - read as it is.
+ * 3. All-day(VALUE=DATE) - 00:00 of the first day to 23:59:59 of the last day. (DTEND date is exclusive)
+ * End date is DTEND, else DTSTART + DURATION, else the end of the start day for all-day events and DTSTART.
+ */
+public class IcsReader implements Closeable {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    // java.time.Duration doesn't read weeks.
+    private static final Pattern WEEKS = Pattern.compile("([+-]?)P(\\d+)W");
+
+    private final BufferedReader reader;
+
+    private final ZoneId zoneId;
+
+    // First line after a folded line, already read for unfolding
+    private String lookahead;
+
+    public IcsReader(Reader reader) {
+        this(reader, ZoneId.systemDefault());
+    }
+
+    public IcsReader(Reader reader, ZoneId zoneId) {
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+        this.zoneId = zoneId;
+    }
+
+    /**
+     * @return number of events passed to the consumer
+     */
+    public int readEvents(Consumer<IcsEvent> consumer) throws IOException {
+        var count = 0;
+
+        // Properties of the current event, null outside VEVENT
+        Map<String, Property> properties = null;
+
+        // Depth of sub components in the event(VALARM), their properties are not of the event.
+        var depth = 0;
+
+        String line;
+        while ((line = nextLine()) != null) {
+            var property = Property.parse(line);
+            if (Objects.isNull(property)) {
+                continue;
+            }
+
+            if (property.is("BEGIN")) {
+                if (Objects.nonNull(properties)) {
+                    depth++;
+                } else if ("VEVENT".equalsIgnoreCase(property.value())) {
+                    properties = new HashMap<>();
+                }
+            } else if (property.is("END") && Objects.nonNull(properties)) {
+                if (depth > 0) {
+                    depth--;
+                } else {
+                    consumer.accept(toEvent(properties));
+                    count++;
+                    properties = null;
+                }
+            } else if (Objects.nonNull(properties) && depth == 0) {
+                properties.putIfAbsent(property.name(), property);
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // Long lines are folded into lines starting with a space or a tab.
+    private String nextLine() throws IOException {
+        var line = Objects.nonNull(lookahead) ? lookahead : reader.readLine();
+        lookahead = null;
+        if (Objects.isNull(line)) {
+            return null;
+        }
+
+        StringBuilder unfolded = null;
+        String next;
+        while ((next = reader.readLine()) != null && (next.startsWith(" ") || next.startsWith("\t"))) {
+            unfolded = Objects.isNull(unfolded) ? new StringBuilder(line) : unfolded;
+            unfolded.append(next, 1, next.length());
+        }
+        lookahead = next;
+
+        return Objects.isNull(unfolded) ? line : unfolded.toString();
+    }
+
+    private IcsEvent toEvent(Map<String, Property> properties) {
+        var start = toDate(properties.get("DTSTART"));
+        var end = toDate(properties.get("DTEND"));
+        var duration = toDuration(properties.get("DURATION"));
+
+        LocalDateTime startDate = null;
+        LocalDateTime endDate = null;
+        if (Objects.nonNull(start)) {
+            startDate = start.dateTime();
+
+            if (Objects.nonNull(end)) {
+                endDate = end.allDay() ? end.dateTime().minusSeconds(1) : end.dateTime();
+            } else if (Objects.nonNull(duration)) {
+                endDate = start.allDay() ? startDate.plus(duration).minusSeconds(1) : startDate.plus(duration);
+            } else {
+                endDate = start.allDay() ? startDate.plusDays(1).minusSeconds(1) : startDate;
+            }
+
+            endDate = endDate.isBefore(startDate) ? startDate : endDate;
+        }
+
+        var lastModified = toDate(properties.get("LAST-MODIFIED"));
+
+        return new IcsEvent(
+                toText(properties.get("UID")),
+                toText(properties.get("SUMMARY")),
+                toText(properties.get("DESCRIPTION")),
+                toText(properties.get("LOCATION")),
+                startDate,
+                endDate,
+                Objects.isNull(lastModified) ? null : lastModified.dateTime()
+        );
+    }
+
+    private DateValue toDate(Property property) {
+        if (Objects.isNull(property)) {
+            return null;
+        }
+
+        var value = property.value().strip();
+        try {
+            if ("DATE".equalsIgnoreCase(property.params().get("VALUE")) || value.length() == 8) {
+                return new DateValue(LocalDate.parse(value, DateTimeFormatter.BASIC_ISO_DATE).atStartOfDay(), true);
+            }
+
+            if (value.endsWith("Z") || value.endsWith("z")) {
+                var utc = LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME);
+                return new DateValue(utc.atOffset(ZoneOffset.UTC).atZoneSameInstant(zoneId).toLocalDateTime(), false);
+            }
+
+            var local = LocalDateTime.parse(value, DATE_TIME);
+            var zone = toZone(property.params().get("TZID"));
+            return new DateValue(Objects.isNull(zone) ? local
+                    : local.atZone(zone).withZoneSameInstant(zoneId).toLocalDateTime(), false);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static ZoneId toZone(String tzid) {
+        if (Objects.isNull(tzid)) {
+            return null;
+        }
+
+        try {
+            return ZoneId.of(tzid.startsWith("/") ? tzid.substring(1) : tzid);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static Duration toDuration(Property property) {
+        if (Objects.isNull(property)) {
+            return null;
+        }
+
+        var value = property.value().strip().toUpperCase(Locale.ROOT);
+        try {
+            var weeks = WEEKS.matcher(value);
+            if (weeks.matches()) {
+                var days = Duration.ofDays(7 * Long.parseLong(weeks.group(2)));
+                return "-".equals(weeks.group(1)) ? days.negated() : days;
+            }
+
+            return Duration.parse(value);
+        } catch (DateTimeException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Escaped characters in text: \\ \; \, \n(\N)
+    private static String toText(Property property) {
+        if (Objects.isNull(property) || property.value().isEmpty()) {
+            return null;
+        }
+
+        var value = property.value();
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+
+        var text = new StringBuilder(value.length());
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                var escaped = value.charAt(++i);
+                text.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                text.append(c);
+            }
+        }
+
+        return text.toString();
+    }
+
+    private record DateValue(LocalDateTime dateTime, boolean allDay) {
+    }
+
+    /**
+     * Content line: NAME;PARAM=VALUE;...:VALUE
+     */
+    private record Property(String name, Map<String, String> params, String value) {
+
+        static Property parse(String line) {
+            // Parameter values can contain ':' in double quotes.
+            var colon = -1;
+            var quoted = false;
+            for (var i = 0; i < line.length() && colon < 0; i++) {
+                var c = line.charAt(i);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (c == ':' && !quoted) {
+                    colon = i;
+                }
+            }
+
+            if (colon < 0) {
+                return null;
+            }
+
+            var segments = line.substring(0, colon).replace("\uFEFF", "").split(";");
+            var params = new HashMap<String, String>();
+            for (var i = 1; i < segments.length; i++) {
+                var equals = segments[i].indexOf('=');
+                if (equals > 0) {
+                    params.put(segments[i].substring(0, equals).strip().toUpperCase(Locale.ROOT),
+                            segments[i].substring(equals + 1).replace("\"", "").strip());
+                }
+            }
+
+            return new Property(segments[0].strip().toUpperCase(Locale.ROOT), params, line.substring(colon + 1));
+        }
+
+        boolean is(String name) {
+            return this.name.equals(name);
+        }
+    }
+}
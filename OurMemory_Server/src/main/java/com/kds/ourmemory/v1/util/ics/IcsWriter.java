@@ -0,0 +1,141 @@
+package com.kds.ourmemory.v1.util.ics;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming writer of an iCalendar(RFC 5545) file.
+ * <p>
+ * Each event is written to the output as it is passed, nothing is kept but the buffer of the writer.
+ * Dates of the given zone(default: server zone) are written in UTC, so calendars of any zone read the same time.
+ * Lines are folded at 75 octets without splitting a character.
+ */
+public class IcsWriter implements Closeable, Flushable {
+
+    private static final String CRLF = "\r\n";
+
+    private static final int LINE_MAX_OCTETS = 75;
+
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final Writer writer;
+
+    private final ZoneId zoneId;
+
+    public IcsWriter(OutputStream output) {
+        this(output, ZoneId.systemDefault());
+    }
+
+    public IcsWriter(OutputStream output, ZoneId zoneId) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        this.zoneId = zoneId;
+    }
+
+    public void writeHeader(String calendarName) throws IOException {
+        writeLine("BEGIN:VCALENDAR");
+        writeLine("VERSION:2.0");
+        writeLine("PRODID:-//KDS//OurMemory//KO");
+        writeLine("CALSCALE:GREGORIAN");
+        if (Objects.nonNull(calendarName)) {
+            writeLine("X-WR-CALNAME:" + escape(calendarName));
+        }
+    }
+
+    public void writeEvent(IcsEvent event) throws IOException {
+        writeLine("BEGIN:VEVENT");
+        writeLine("UID:" + escape(event.uid()));
+        writeLine("DTSTAMP:" + toUtc(Objects.nonNull(event.lastModified()) ? event.lastModified() : LocalDateTime.now()));
+        if (Objects.nonNull(event.lastModified())) {
+            writeLine("LAST-MODIFIED:" + toUtc(event.lastModified()));
+        }
+        writeLine("DTSTART:" + toUtc(event.startDate()));
+        writeLine("DTEND:" + toUtc(event.endDate()));
+        if (Objects.nonNull(event.recurrence())) {
+            writeLine("RRULE:" + toRule(event.recurrence()));
+        }
+        if (Objects.nonNull(event.exclusionDates()) && !event.exclusionDates().isEmpty()) {
+            writeLine("EXDATE:" + event.exclusionDates().stream().sorted().map(this::toUtc)
+                    .collect(Collectors.joining(",")));
+        }
+        writeLine("SUMMARY:" + escape(event.summary()));
+        if (Objects.nonNull(event.description())) {
+            writeLine("DESCRIPTION:" + escape(event.description()));
+        }
+        if (Objects.nonNull(event.location())) {
+            writeLine("LOCATION:" + escape(event.location()));
+        }
+        writeLine("END:VEVENT");
+    }
+
+    public void writeFooter() throws IOException {
+        writeLine("END:VCALENDAR");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    // UNTIL is in UTC as DTSTART is.
+    private String toRule(IcsEvent.Recurrence recurrence) {
+        var rule = "FREQ=" + recurrence.frequency() + ";INTERVAL=" + recurrence.interval();
+        return Objects.isNull(recurrence.until()) ? rule : rule + ";UNTIL=" + toUtc(recurrence.until());
+    }
+
+    private String toUtc(LocalDateTime dateTime) {
+        return dateTime.atZone(zoneId).withZoneSameInstant(ZoneOffset.UTC).format(UTC_DATE_TIME);
+    }
+
+    private void writeLine(String line) throws IOException {
+        var octets = 0;
+        for (var i = 0; i < line.length(); ) {
+            var codePoint = line.codePointAt(i);
+            var length = utf8Length(codePoint);
+
+            // Folded line starts with a space, which is counted in the line.
+            if (octets + length > LINE_MAX_OCTETS) {
+                writer.write(CRLF);
+                writer.write(' ');
+                octets = 1;
+            }
+
+            writer.write(line, i, Character.charCount(codePoint));
+            octets += length;
+            i += Character.charCount(codePoint);
+        }
+
+        writer.write(CRLF);
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) return 1;
+        if (codePoint < 0x800) return 2;
+        if (codePoint < 0x10000) return 3;
+        return 4;
+    }
+
+    // Reversed by IcsReader: \\ \; \, \n
+    private static String escape(String text) {
+        if (Objects.isNull(text)) {
+            return "";
+        }
+
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n")
+                .replace("\r", "\\n");
+    }
+}
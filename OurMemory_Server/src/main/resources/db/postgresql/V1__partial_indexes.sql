@@ -0,0 +1,9 @@
+-- Partial indexes for used(soft delete) rows, applied once on startup after hibernate ddl.
+-- Composite indexes for every lookup are declared on entities(@Table, @JoinTable).
+create index concurrently if not exists pidx_users_sns_used on users (user_sns_type, user_sns_id) where user_used_flag = true;
+create index concurrently if not exists pidx_memories_writer_start_date_used on memories (memory_writer, memory_start_date) where memory_used_flag = true;
+create index concurrently if not exists pidx_memories_name_start_date_used on memories (memory_name, memory_start_date) where memory_used_flag = true;
+create index concurrently if not exists pidx_rooms_name_used on rooms (room_name) where room_used_flag = true;
+create index concurrently if not exists pidx_notices_user_used on notices (user_id) where notice_used_flag = true;
+create index concurrently if not exists pidx_todos_writer_date_used on todos (todo_writer, todo_date) where todo_used_flag = true;
+create index concurrently if not exists pidx_fcm_outboxes_wait on fcm_outboxes (reg_date) where fcm_outbox_status = 'WAIT';
@@ -0,0 +1,6 @@
+-- Memory text search(MemorySearchJdbcRepository): trigram index answers LIKE '%term%' on name, contents and place.
+-- The indexed expression must be the same as the search document of the query.
+create extension if not exists pg_trgm;
+create index concurrently if not exists gidx_memories_search_trgm on memories using gin (
+    lower(coalesce(memory_name, '') || ' ' || coalesce(memory_contents, '') || ' ' || coalesce(memory_place, '')) gin_trgm_ops
+) where memory_used_flag = true;
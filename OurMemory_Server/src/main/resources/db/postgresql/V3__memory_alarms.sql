@@ -0,0 +1,4 @@
+-- Memory alarm scheduler(MemoryAlarmScheduler): alarms due in the next window are read by a range scan.
+-- Most memories have no alarm, so only set alarms of used memories are indexed.
+create index concurrently if not exists pidx_memories_first_alarm_used on memories (memory_first_alarm) where memory_used_flag = true and memory_first_alarm is not null;
+create index concurrently if not exists pidx_memories_second_alarm_used on memories (memory_second_alarm) where memory_used_flag = true and memory_second_alarm is not null;
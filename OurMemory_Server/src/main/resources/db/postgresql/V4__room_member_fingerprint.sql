@@ -0,0 +1,13 @@
+-- Room member fingerprint(Room.memberFingerprint): rooms of the same members are found for share.
+-- Rooms made before the column are filled once, by the same value as Java(sha256 of sorted member ids joined by comma).
+update rooms r
+set room_member_fingerprint = f.fingerprint
+from (
+    select ur.room_id, encode(sha256(convert_to(string_agg(ur.user_id::text, ',' order by ur.user_id), 'UTF8')), 'hex') as fingerprint
+    from (select distinct room_id, user_id from users_rooms) ur
+    join rooms nr on nr.room_id = ur.room_id and nr.room_member_fingerprint is null
+    group by ur.room_id
+    having count(*) > 1
+) f
+where r.room_id = f.room_id;
+create index concurrently if not exists pidx_rooms_member_fingerprint_used on rooms (room_member_fingerprint) where room_used_flag = true and room_member_fingerprint is not null;
@@ -0,0 +1,15 @@
+-- Attendance counters of memories(Memory.attendCount, absenceCount), changed with users_memories by the service.
+-- Memories attended before the columns are filled once, counters already changed by the service are not overwritten.
+update memories m
+set memory_attend_count = c.attend_count,
+    memory_absence_count = c.absence_count
+from (
+    select um.memory_id,
+           count(*) filter (where um.user_memory_attendance_status = 'ATTEND') as attend_count,
+           count(*) filter (where um.user_memory_attendance_status = 'ABSENCE') as absence_count
+    from users_memories um
+    join memories nm on nm.memory_id = um.memory_id
+                    and nm.memory_attend_count = 0 and nm.memory_absence_count = 0
+    group by um.memory_id
+) c
+where m.memory_id = c.memory_id;
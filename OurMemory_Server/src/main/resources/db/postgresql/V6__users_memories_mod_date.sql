@@ -0,0 +1,6 @@
+-- Attendances(users_memories) have reg_date, mod_date for the delta sync.
+-- Rows made before the columns are filled once, so they are found by the first sync(since the epoch).
+update users_memories
+set reg_date = coalesce(reg_date, now()),
+    mod_date = now()
+where mod_date is null;
@@ -16,6 +16,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.LocalDateTime;
 import java.time.YearMonth;
@@ -126,11 +129,13 @@ class MemoryControllerTest {
                 YearMonth.now().plusMonths(1).format(dateFormat), dateFormat);
 
         // when
+        when(memoryService.findMemoriesETag(writer.getId(), null, startMonth, endMonth)).thenReturn("\"memoriesETag\"");
         when(memoryService.findMemories(writer.getId(), null, startMonth, endMonth)).thenReturn(memories);
 
         // then
         var responseDto = memoryController
-                .findMemories(writer.getId(), null, startMonth, endMonth);
+                .findMemories(writer.getId(), null, startMonth, endMonth,
+                        new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse()));
 
         assertThat(responseDto.getResultCode()).isEqualTo("S001");
         assertThat(responseDto.getResponse().size()).isEqualTo(3);
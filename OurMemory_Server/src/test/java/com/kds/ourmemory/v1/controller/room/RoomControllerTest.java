@@ -15,10 +15,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -74,17 +82,40 @@ class RoomControllerTest {
                 .opened(true)
                 .build();
 
-        var rooms = Stream.of(room1, room2, room3).map(RoomRspDto::new).collect(Collectors.toList());
+        var rooms = Stream.of(room1, room2, room3).map(room -> new RoomRspDto(room, Map.of())).collect(Collectors.toList());
 
         // when
+        when(roomService.findRoomsETag(owner.getId(), null)).thenReturn("\"roomsETag\"");
         when(roomService.findRooms(owner.getId(), null)).thenReturn(rooms);
 
         // then
-        var responseDto = roomController.findRooms(owner.getId(), null);
+        var response = new MockHttpServletResponse();
+        var responseDto = roomController.findRooms(owner.getId(), null,
+                new ServletWebRequest(new MockHttpServletRequest(), response));
         assertThat(responseDto.getResultCode()).isEqualTo("S001");
         assertThat(responseDto.getResponse().size()).isEqualTo(3);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"roomsETag\"");
 
         // check response data
         log.debug(mapper.writerWithDefaultPrettyPrinter().writeValueAsString(responseDto));
     }
+
+    @Test
+    @DisplayName("방 목록 조회 요청-응답 | 성공 | 변경 없음")
+    void findRoomsSuccessToNotModified() {
+        // given
+        var request = new MockHttpServletRequest("GET", "/v1/rooms");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"roomsETag\"");
+        var response = new MockHttpServletResponse();
+
+        // when
+        when(roomService.findRoomsETag(1L, null)).thenReturn("\"roomsETag\"");
+
+        // then
+        var responseDto = roomController.findRooms(1L, null, new ServletWebRequest(request, response));
+        assertThat(responseDto).isNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"roomsETag\"");
+        verify(roomService, never()).findRooms(1L, null);
+    }
 }
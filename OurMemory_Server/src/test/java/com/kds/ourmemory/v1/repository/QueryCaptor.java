@@ -0,0 +1,118 @@
+package com.kds.ourmemory.v1.repository;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Capture statements executed by repositories, with their parameters.
+ * <p>
+ * DataSource is wrapped, so sql made by hibernate(JPQL, derived queries, collections) and JdbcTemplate are captured as they are.
+ * Only statements executed on the calling thread of capture() are captured.
+ */
+class QueryCaptor implements BeanPostProcessor {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate");
+
+    private static final ThreadLocal<List<Query>> captured = new ThreadLocal<>();
+
+    static List<Query> capture(Runnable call) {
+        var queries = new ArrayList<Query>();
+        captured.set(queries);
+        try {
+            call.run();
+        } finally {
+            captured.remove();
+        }
+
+        return queries;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, (method, args) -> {
+                var result = invoke(dataSource, method, args);
+                return "getConnection".equals(method.getName()) ? connection((Connection) result) : result;
+            });
+        }
+
+        return bean;
+    }
+
+    private static Connection connection(Connection connection) {
+        return proxy(Connection.class, (method, args) -> {
+            var result = invoke(connection, method, args);
+            return "prepareStatement".equals(method.getName())
+                    ? statement((PreparedStatement) result, new Query((String) args[0]))
+                    : result;
+        });
+    }
+
+    private static PreparedStatement statement(PreparedStatement statement, Query query) {
+        return proxy(PreparedStatement.class, (method, args) -> {
+            // setXxx(index, value, ...) is kept to be bound again on EXPLAIN.
+            if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                query.binds().add(new Bind(method, args));
+            }
+
+            if (EXECUTE_METHODS.contains(method.getName()) && (args == null || args.length == 0)
+                    && captured.get() != null) {
+                captured.get().add(query);
+            }
+
+            return invoke(statement, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Call call) {
+        InvocationHandler handler = (proxy, method, args) -> call.invoke(method, args);
+        return (T) Proxy.newProxyInstance(QueryCaptor.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+
+    record Query(String sql, List<Bind> binds) {
+        Query(String sql) {
+            this(sql, new ArrayList<>());
+        }
+
+        /**
+         * Same parameters are bound to the statement of "explain " + sql.
+         */
+        void bind(PreparedStatement statement) throws SQLException {
+            for (var bind : binds) {
+                try {
+                    bind.method().invoke(statement, bind.args());
+                } catch (ReflectiveOperationException e) {
+                    throw new SQLException("Parameter bind failed. " + bind.method().getName(), e);
+                }
+            }
+        }
+    }
+
+    record Bind(Method method, Object[] args) {
+    }
+}
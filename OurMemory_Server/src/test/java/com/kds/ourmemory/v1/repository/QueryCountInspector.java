@@ -0,0 +1,32 @@
+package com.kds.ourmemory.v1.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts sql statements prepared by hibernate on the current thread.
+ * <p>
+ * Registered by 'spring.jpa.properties.hibernate.session_factory.statement_inspector'.
+ * Counted per thread, so statements of schedulers and async listeners are not mixed in.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    public static final String PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                    "com.kds.ourmemory.v1.repository.QueryCountInspector";
+
+    private static final ThreadLocal<Integer> count = ThreadLocal.withInitial(() -> 0);
+
+    @Override
+    public String inspect(String sql) {
+        count.set(count.get() + 1);
+        return sql;
+    }
+
+    public static void reset() {
+        count.set(0);
+    }
+
+    public static int count() {
+        return count.get();
+    }
+}
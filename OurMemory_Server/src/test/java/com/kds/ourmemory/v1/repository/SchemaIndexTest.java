@@ -0,0 +1,296 @@
+package com.kds.ourmemory.v1.repository;
+
+import com.kds.ourmemory.v1.controller.friend.dto.FriendReqDto;
+import com.kds.ourmemory.v1.controller.memory.dto.MemoryReqDto;
+import com.kds.ourmemory.v1.controller.room.dto.RoomReqDto;
+import com.kds.ourmemory.v1.controller.todo.dto.TodoReqDto;
+import com.kds.ourmemory.v1.entity.firebase.FcmOutboxStatus;
+import com.kds.ourmemory.v1.repository.firebase.FcmOutboxRepository;
+import com.kds.ourmemory.v1.repository.friend.FriendRepository;
+import com.kds.ourmemory.v1.repository.memory.MemoryJdbcRepository;
+import com.kds.ourmemory.v1.repository.memory.MemoryRepository;
+import com.kds.ourmemory.v1.repository.notice.NoticeRepository;
+import com.kds.ourmemory.v1.repository.relation.UserMemoryRepository;
+import com.kds.ourmemory.v1.repository.room.RoomRepository;
+import com.kds.ourmemory.v1.repository.todo.TodoRepository;
+import com.kds.ourmemory.v1.repository.user.UserRepository;
+import com.kds.ourmemory.v1.service.friend.FriendService;
+import com.kds.ourmemory.v1.service.memory.MemoryService;
+import com.kds.ourmemory.v1.service.room.RoomService;
+import com.kds.ourmemory.v1.service.todo.TodoService;
+import com.kds.ourmemory.v1.service.user.UserFixture;
+import com.kds.ourmemory.v1.service.user.UserService;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every lookup of repositories is served by an index, not a full table scan.
+ * <p>
+ * Repository methods are called, and every statement executed by them is checked by EXPLAIN of H2 with the same parameters.
+ * So the plan follows the sql of the repository when it is changed.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(QueryCaptor.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SchemaIndexTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2100, 1, 1, 0, 0);
+
+    private static final LocalDateTime TO = FROM.plusMinutes(10);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final UserRepository userRepo;
+
+    private final MemoryRepository memoryRepo;
+
+    private final MemoryJdbcRepository memoryJdbcRepo;
+
+    private final RoomRepository roomRepo;
+
+    private final UserMemoryRepository userMemoryRepo;
+
+    private final FriendRepository friendRepo;
+
+    private final NoticeRepository noticeRepo;
+
+    private final TodoRepository todoRepo;
+
+    private final FcmOutboxRepository fcmOutboxRepo;
+
+    private final UserService userService;
+
+    private final RoomService roomService;
+
+    private final MemoryService memoryService;
+
+    private final TodoService todoService;
+
+    private final FriendService friendService;
+
+    // Ids of the base data
+    private Long userId;
+
+    private Long roomId;
+
+    private Long memoryId;
+
+    @Autowired
+    private SchemaIndexTest(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                            UserRepository userRepo, MemoryRepository memoryRepo, MemoryJdbcRepository memoryJdbcRepo,
+                            RoomRepository roomRepo, UserMemoryRepository userMemoryRepo, FriendRepository friendRepo,
+                            NoticeRepository noticeRepo, TodoRepository todoRepo, FcmOutboxRepository fcmOutboxRepo,
+                            UserService userService, RoomService roomService,
+                            MemoryService memoryService, TodoService todoService, FriendService friendService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.userRepo = userRepo;
+        this.memoryRepo = memoryRepo;
+        this.memoryJdbcRepo = memoryJdbcRepo;
+        this.roomRepo = roomRepo;
+        this.userMemoryRepo = userMemoryRepo;
+        this.friendRepo = friendRepo;
+        this.noticeRepo = noticeRepo;
+        this.todoRepo = todoRepo;
+        this.fcmOutboxRepo = fcmOutboxRepo;
+        this.userService = userService;
+        this.roomService = roomService;
+        this.memoryService = memoryService;
+        this.todoService = todoService;
+        this.friendService = friendService;
+    }
+
+    @BeforeAll
+    void setBaseData() {
+        var userIds = new ArrayList<Long>();
+        IntStream.range(0, 30).forEach(i -> userIds.add(insertUser("index" + i)));
+
+        for (var i = 0; i < userIds.size(); i++) {
+            var userId = userIds.get(i);
+            var next = userIds.get((i + 1) % userIds.size());
+
+            var memoryId = insertMemory(userId, "index memory " + i, LocalDateTime.now().plusDays(i));
+            insertMemory(userId, "index memory " + (i + 100), LocalDateTime.now().minusMonths(1).plusDays(i));
+            todoService.insert(TodoReqDto.builder()
+                    .writerId(userId)
+                    .contents("index todo " + i)
+                    .todoDate(LocalDate.now().plusDays(i))
+                    .build()
+            );
+            friendService.requestFriend(new FriendReqDto(userId, next));
+
+            if (i % 3 == 0) {
+                var roomId = roomService.insert(RoomReqDto.builder()
+                        .name("index room " + i)
+                        .userId(userId)
+                        .opened(false)
+                        .member(List.of(next))
+                        .build()
+                ).getRoomId();
+
+                if (i == 0) {
+                    this.userId = userId;
+                    this.roomId = roomId;
+                    this.memoryId = memoryId;
+                }
+            }
+        }
+
+        // Update statistics for the optimizer
+        jdbcTemplate.execute("analyze");
+    }
+
+    Stream<Arguments> repositoryCalls() {
+        return Stream.of(
+                call("UserRepository.findByUsedAndSnsIdAndSnsType",
+                        () -> userRepo.findByUsedAndSnsIdAndSnsType(true, "index1_snsId", 1)),
+                call("UserRepository.clearPushToken",
+                        () -> userRepo.clearPushToken("index1 Token", FROM.minusYears(200))),
+                call("MemoryJdbcRepository.streamAlarmsInRange",
+                        () -> memoryJdbcRepo.streamAlarmsInRange(FROM, TO, alarm -> {})),
+                call("MemoryJdbcRepository.streamAlarmsChangedAfter",
+                        () -> memoryJdbcRepo.streamAlarmsChangedAfter(FROM, FROM, TO, alarm -> {})),
+                call("MemoryRepository.findAllWithWriterByUserIdAndModDateAfter",
+                        () -> memoryRepo.findAllWithWriterByUserIdAndModDateAfter(userId, FROM)),
+                call("RoomRepository.findAllWithOwnerByUserIdAndModDateAfter",
+                        () -> roomRepo.findAllWithOwnerByUserIdAndModDateAfter(userId, FROM)),
+                call("UserMemoryRepository.findAllWithUserByUserIdAndModDateAfter",
+                        () -> userMemoryRepo.findAllWithUserByUserIdAndModDateAfter(userId, FROM)),
+                call("RoomRepository.findAllByName",
+                        () -> roomRepo.findAllByName("index room 0")),
+                call("RoomRepository.findAllByMemberFingerprintInAndUsedTrueAndOpenedFalse",
+                        () -> roomRepo.findAllByMemberFingerprintInAndUsedTrueAndOpenedFalse(List.of("index fingerprint"))),
+                call("RoomRepository.findRoomIdsByUserId",
+                        () -> roomRepo.findRoomIdsByUserId(userId)),
+                call("RoomRepository.findUserIdsByRoomIdIn",
+                        () -> roomRepo.findUserIdsByRoomIdIn(List.of(roomId))),
+                call("RoomRepository.findUsedMemoryIdsByRoomIdIn",
+                        () -> roomRepo.findUsedMemoryIdsByRoomIdIn(List.of(roomId))),
+                call("RoomRepository.findMemorySpansByRoomId",
+                        () -> roomRepo.findMemorySpansByRoomId(roomId)),
+                call("FriendRepository.findAllByUserId",
+                        () -> friendRepo.findAllByUserId(userId)),
+                call("NoticeRepository.findAllByUserId",
+                        () -> noticeRepo.findAllByUserId(userId)),
+                call("TodoRepository.findRspByWriterIdAndTodoDateBetween",
+                        () -> todoRepo.findRspByWriterIdAndTodoDateBetween(userId, FROM, TO)),
+                call("UserMemoryRepository.findByMemoryIdAndUserId",
+                        () -> userMemoryRepo.findByMemoryIdAndUserId(memoryId, userId)),
+                call("User.memories",
+                        () -> Hibernate.initialize(userRepo.findById(userId).orElseThrow().getMemories())),
+                call("User.rooms",
+                        () -> Hibernate.initialize(userRepo.findById(userId).orElseThrow().getRooms())),
+                call("Room.users",
+                        () -> Hibernate.initialize(roomRepo.findById(roomId).orElseThrow().getUsers())),
+                call("Room.memories",
+                        () -> Hibernate.initialize(roomRepo.findById(roomId).orElseThrow().getMemories())),
+                call("Memory.rooms",
+                        () -> Hibernate.initialize(memoryRepo.findById(memoryId).orElseThrow().getRooms())),
+                call("Memory.recurrenceExclusions",
+                        () -> Hibernate.initialize(memoryRepo.findById(memoryId).orElseThrow().getRecurrenceExclusions())),
+                call("RoomRepository.existsMemoryInRoom",
+                        () -> roomRepo.existsMemoryInRoom(roomId, memoryId)),
+                call("RoomRepository.existsUserInRoom",
+                        () -> roomRepo.existsUserInRoom(roomId, userId)),
+                call("FcmOutboxRepository.findAllForUpdateByStatusAndTokenRegDateBefore",
+                        () -> fcmOutboxRepo.findAllForUpdateByStatusAndTokenRegDateBefore(
+                                FcmOutboxStatus.WAIT, FROM, PageRequest.of(0, 100)))
+        );
+    }
+
+    /*
+     * H2 doesn't use indexes for OR of different columns, PostgreSQL answers it by the index of each column(BitmapOr).
+     * So each side of OR is checked alone.
+     */
+    Stream<Arguments> orBranchQueries() {
+        return Stream.of(
+                Arguments.of("UserRepository.findAllByUsedAndIdOrName(name)",
+                        "select * from users where user_used_flag = true and user_name = 'index1'"),
+                Arguments.of("MemoryRepository.findAllByWriterIdOrNameInRange(writer)",
+                        "select * from memories where memory_used_flag = true and memory_writer = 1" +
+                                " and memory_start_date < timestamp '2100-01-01 00:00:00'"),
+                Arguments.of("MemoryRepository.findAllByWriterIdOrNameInRange(name)",
+                        "select * from memories where memory_used_flag = true and memory_name = 'index memory 1'" +
+                                " and memory_start_date < timestamp '2100-01-01 00:00:00'"),
+                Arguments.of("FriendRepository.findAllByUserOrFriendUser(friendUser)",
+                        "select * from friends where friend_id = 1")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryCalls")
+    @DisplayName("조회 실행 계획 | 인덱스 사용")
+    void explainUsesIndex(String method, Runnable call) {
+        // Changes of modifying queries are rolled back.
+        var queries = QueryCaptor.capture(() -> transactionTemplate.executeWithoutResult(status -> {
+            call.run();
+            status.setRollbackOnly();
+        }));
+        assertThat(queries).as(method).isNotEmpty();
+
+        for (var query : queries) {
+            var plan = String.join("\n", jdbcTemplate.query(
+                    con -> {
+                        var statement = con.prepareStatement("explain " + query.sql());
+                        query.bind(statement);
+                        return statement;
+                    },
+                    (rs, rowNum) -> rs.getString(1)
+            ));
+
+            assertThat(plan).as("%s\n%s", method, plan).doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("orBranchQueries")
+    @DisplayName("조회 실행 계획 | 인덱스 사용 | OR 조건")
+    void explainOrBranchUsesIndex(String method, String sql) {
+        var plan = String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class));
+
+        assertThat(plan).as("%s\n%s", method, plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    private static Arguments call(String method, Runnable call) {
+        return Arguments.of(method, call);
+    }
+
+    private Long insertUser(String name) {
+        return userService.signUp(UserFixture.signUpReq(name)).getUserId();
+    }
+
+    private Long insertMemory(Long writerId, String name, LocalDateTime startDate) {
+        return memoryService.insert(MemoryReqDto.builder()
+                .userId(writerId)
+                .name(name)
+                .startDate(startDate)
+                .endDate(startDate.plusHours(1))
+                .bgColor("#FFFFFF")
+                .build()
+        ).getMemoryId();
+    }
+}
@@ -0,0 +1,117 @@
+package com.kds.ourmemory.v1.service.firebase;
+
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.kds.ourmemory.v1.config.CustomConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FcmAccessTokenProviderTest {
+
+    @Test
+    @DisplayName("액세스 토큰 조회 | 만료 여유시간 밖 | 발급된 토큰 재사용")
+    void getAccessTokenToReuse() throws IOException {
+        var credentials = new StubCredentials(Duration.ofHours(1));
+        var provider = provider(new CustomConfig(), credentials);
+
+        assertThat(provider.getAccessToken()).isEqualTo("token-1");
+        assertThat(provider.getAccessToken()).isEqualTo("token-1");
+
+        provider.refreshBeforeExpire();
+        assertThat(provider.getAccessToken()).isEqualTo("token-1");
+        assertThat(credentials.refreshCount.get()).isOne();
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 조회 | 만료 여유시간 안 | 토큰 갱신")
+    void getAccessTokenToRefreshInMargin() throws IOException {
+        // Issued tokens remain 4 minutes, less than the default margin(5 minutes).
+        var credentials = new StubCredentials(Duration.ofMinutes(4));
+        var provider = provider(new CustomConfig(), credentials);
+
+        assertThat(provider.getAccessToken()).isEqualTo("token-1");
+        assertThat(provider.getAccessToken()).isEqualTo("token-2");
+
+        provider.refreshBeforeExpire();
+        assertThat(credentials.refreshCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 조회 | 여유시간 변경 | 변경된 여유시간 기준 갱신")
+    void getAccessTokenToRefreshByMarginOption() throws IOException {
+        var customConfig = new CustomConfig();
+        customConfig.getFcm().setTokenRefreshMargin(Duration.ofMinutes(3));
+        var credentials = new StubCredentials(Duration.ofMinutes(4));
+        var provider = provider(customConfig, credentials);
+
+        assertThat(provider.getAccessToken()).isEqualTo("token-1");
+        assertThat(provider.getAccessToken()).isEqualTo("token-1");
+        assertThat(credentials.refreshCount.get()).isOne();
+    }
+
+    @Test
+    @DisplayName("스케줄 갱신 | 첫 푸시 전 | 서비스 계정 키 읽지 않음")
+    void refreshBeforeExpireToNotLoaded() {
+        var credentials = new StubCredentials(Duration.ofMinutes(4));
+        var loadCount = new AtomicInteger();
+        var provider = new FcmAccessTokenProvider(new CustomConfig()) {
+            @Override
+            GoogleCredentials loadCredentials() {
+                loadCount.incrementAndGet();
+                return credentials;
+            }
+        };
+
+        provider.refreshBeforeExpire();
+        assertThat(loadCount.get()).isZero();
+        assertThat(credentials.refreshCount.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 조회 | 고정 토큰 설정 | 서비스 계정 키 읽지 않음")
+    void getAccessTokenToStaticToken() throws IOException {
+        var customConfig = new CustomConfig();
+        customConfig.getFcm().setAccessToken("static token");
+        var credentials = new StubCredentials(Duration.ofHours(1));
+        var provider = provider(customConfig, credentials);
+
+        assertThat(provider.getAccessToken()).isEqualTo("static token");
+        assertThat(credentials.refreshCount.get()).isZero();
+    }
+
+    private FcmAccessTokenProvider provider(CustomConfig customConfig, GoogleCredentials credentials) {
+        return new FcmAccessTokenProvider(customConfig) {
+            @Override
+            GoogleCredentials loadCredentials() {
+                return credentials;
+            }
+        };
+    }
+
+    /**
+     * Issues token-1, token-2, ... valid for the given time from the refresh, without google oauth server.
+     */
+    private static class StubCredentials extends GoogleCredentials {
+
+        private final Duration validity;
+
+        private final AtomicInteger refreshCount = new AtomicInteger();
+
+        private StubCredentials(Duration validity) {
+            this.validity = validity;
+        }
+
+        @Override
+        public AccessToken refreshAccessToken() {
+            var count = refreshCount.incrementAndGet();
+            return new AccessToken("token-" + count, new Date(System.currentTimeMillis() + validity.toMillis()));
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.kds.ourmemory.v1.service.firebase;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.net.HttpHeaders;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local FCM stand-in server for test
+ * <p>
+ * Answers like FCM HTTP v1 send api, and records received messages.
+ * Latency, 429, 5xx and UNREGISTERED can be injected, so push flows can be tested without network.
+ * <p>
+ * custom.fcm.url: {@link #url()}, custom.fcm.access-token: {@link #ACCESS_TOKEN}
+ */
+public class FcmEmulator implements Closeable {
+
+    public static final String ACCESS_TOKEN = "emulator-access-token";
+
+    private static final String SEND_PATH = "/v1/projects/emulator/messages:send";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final MockWebServer server = new MockWebServer();
+
+    private final List<JsonNode> messages = new CopyOnWriteArrayList<>();
+
+    private final Set<String> unregisteredTokens = ConcurrentHashMap.newKeySet();
+
+    // Status code returned to the next requests in order
+    private final ConcurrentLinkedQueue<Integer> nextErrors = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private volatile Duration latency = Duration.ZERO;
+
+    private volatile int randomErrorStatus;
+
+    private volatile double randomErrorRate;
+
+    public FcmEmulator start() {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return respond(request);
+            }
+        });
+
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("FCM emulator start failed.", e);
+        }
+
+        return this;
+    }
+
+    public String url() {
+        return server.url(SEND_PATH).toString();
+    }
+
+    public FcmEmulator latency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Next count requests are answered with the status.(429, 500, 503, ...)
+     */
+    public FcmEmulator failNext(int count, int status) {
+        for (var i = 0; i < count; i++) {
+            nextErrors.add(status);
+        }
+        return this;
+    }
+
+    /**
+     * Requests are answered with the status at the rate.(for load test)
+     */
+    public FcmEmulator failRandomly(double rate, int status) {
+        this.randomErrorStatus = status;
+        this.randomErrorRate = rate;
+        return this;
+    }
+
+    public FcmEmulator unregister(String token) {
+        unregisteredTokens.add(token);
+        return this;
+    }
+
+    public List<JsonNode> messages() {
+        return List.copyOf(messages);
+    }
+
+    public List<JsonNode> messagesTo(String token) {
+        return messages.stream()
+                .filter(message -> token.equals(message.path("message").path("token").asText()))
+                .toList();
+    }
+
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    public void reset() {
+        messages.clear();
+        unregisteredTokens.clear();
+        nextErrors.clear();
+        requestCount.set(0);
+        latency = Duration.ZERO;
+        randomErrorRate = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    private MockResponse respond(RecordedRequest request) {
+        requestCount.incrementAndGet();
+
+        if (!SEND_PATH.equals(request.getPath())) {
+            return error(404, "NOT_FOUND", null);
+        }
+
+        if (!("Bearer " + ACCESS_TOKEN).equals(request.getHeader(HttpHeaders.AUTHORIZATION))) {
+            return error(401, "UNAUTHENTICATED", "THIRD_PARTY_AUTH_ERROR");
+        }
+
+        var nextError = nextErrors.poll();
+        if (nextError != null) {
+            return delay(errorOf(nextError));
+        }
+
+        if (randomErrorRate > 0 && ThreadLocalRandom.current().nextDouble() < randomErrorRate) {
+            return delay(errorOf(randomErrorStatus));
+        }
+
+        JsonNode message;
+        try {
+            message = objectMapper.readTree(request.getBody().readUtf8());
+        } catch (IOException e) {
+            return error(400, "INVALID_ARGUMENT", "INVALID_ARGUMENT");
+        }
+
+        var token = message.path("message").path("token").asText();
+        if (unregisteredTokens.contains(token)) {
+            return delay(error(404, "NOT_FOUND", "UNREGISTERED"));
+        }
+
+        messages.add(message);
+        return delay(new MockResponse()
+                .setHeader(HttpHeaders.CONTENT_TYPE, "application/json; charset=UTF-8")
+                .setBody(String.format("{\"name\": \"projects/emulator/messages/%d\"}", messages.size()))
+        );
+    }
+
+    private MockResponse errorOf(int status) {
+        return switch (status) {
+            case 400 -> error(400, "INVALID_ARGUMENT", "INVALID_ARGUMENT");
+            case 429 -> error(429, "RESOURCE_EXHAUSTED", "QUOTA_EXCEEDED").setHeader(HttpHeaders.RETRY_AFTER, "1");
+            case 503 -> error(503, "UNAVAILABLE", "UNAVAILABLE");
+            default -> error(status, "INTERNAL", "INTERNAL");
+        };
+    }
+
+    private MockResponse error(int status, String errorStatus, String errorCode) {
+        var details = errorCode == null ? "[]" : String.format(
+                "[{\"@type\": \"type.googleapis.com/google.firebase.fcm.v1.FcmError\", \"errorCode\": \"%s\"}]",
+                errorCode
+        );
+
+        return new MockResponse()
+                .setResponseCode(status)
+                .setHeader(HttpHeaders.CONTENT_TYPE, "application/json; charset=UTF-8")
+                .setBody(String.format(
+                        "{\"error\": {\"code\": %d, \"message\": \"emulated\", \"status\": \"%s\", \"details\": %s}}",
+                        status, errorStatus, details
+                ));
+    }
+
+    private MockResponse delay(MockResponse response) {
+        var millis = latency.toMillis();
+        return millis > 0 ? response.setHeadersDelay(millis, TimeUnit.MILLISECONDS) : response;
+    }
+}
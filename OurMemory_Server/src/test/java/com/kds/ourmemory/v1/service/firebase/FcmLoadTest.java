@@ -0,0 +1,223 @@
+package com.kds.ourmemory.v1.service.firebase;
+
+import com.kds.ourmemory.v1.controller.firebase.dto.FcmDto;
+import com.kds.ourmemory.v1.controller.room.dto.RoomReqDto;
+import com.kds.ourmemory.v1.controller.user.dto.UserReqDto;
+import com.kds.ourmemory.v1.entity.user.DeviceOs;
+import com.kds.ourmemory.v1.repository.user.UserRepository;
+import com.kds.ourmemory.v1.service.room.RoomService;
+import com.kds.ourmemory.v1.service.user.UserFixture;
+import com.kds.ourmemory.v1.service.user.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Push flows against the local FCM emulator, without network.
+ * Tagged 'load': assertions depend on wall clock time, so it runs by ./gradlew loadTest, not by the default test task.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FcmLoadTest {
+
+    private static final FcmEmulator emulator = new FcmEmulator().start();
+
+    private final RoomService roomService;
+
+    private final UserService userService;
+
+    private final UserRepository userRepo;
+
+    private final FcmOutboxDispatcher fcmOutboxDispatcher;
+
+    private final FcmTokenRegistry fcmTokenRegistry;
+
+    private final FcmService fcmService;
+
+    @Autowired
+    private FcmLoadTest(RoomService roomService, UserService userService, UserRepository userRepo,
+                        FcmOutboxDispatcher fcmOutboxDispatcher, FcmTokenRegistry fcmTokenRegistry,
+                        FcmService fcmService) {
+        this.roomService = roomService;
+        this.userService = userService;
+        this.userRepo = userRepo;
+        this.fcmOutboxDispatcher = fcmOutboxDispatcher;
+        this.fcmTokenRegistry = fcmTokenRegistry;
+        this.fcmService = fcmService;
+    }
+
+    @DynamicPropertySource
+    static void fcmProperties(DynamicPropertyRegistry registry) {
+        registry.add("custom.fcm.url", emulator::url);
+        registry.add("custom.fcm.access-token", () -> FcmEmulator.ACCESS_TOKEN);
+        registry.add("custom.fcm.coalesce-window", () -> "0s");
+    }
+
+    @AfterEach
+    void reset() {
+        emulator.reset();
+    }
+
+    @AfterAll
+    void shutdown() throws IOException {
+        emulator.close();
+    }
+
+    @Test
+    @DisplayName("방 초대 푸시 처리량 | 지연 20ms | 전체 전송")
+    void roomInviteThroughput() throws InterruptedException {
+        emulator.latency(Duration.ofMillis(20));
+
+        var owner = insertUser("loadOwner");
+        var members = IntStream.rangeClosed(1, 50)
+                .mapToObj(i -> insertUser("loadMember" + i))
+                .toList();
+
+        var start = System.nanoTime();
+        roomService.insert(RoomReqDto.builder()
+                .name("load room")
+                .userId(owner)
+                .opened(false)
+                .member(members)
+                .build()
+        );
+        var reserved = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(waitMessages(members.size(), "loadMember")).isTrue();
+        var delivered = Duration.ofNanos(System.nanoTime() - start);
+
+        log.info("room invite push. members: {}, reserved: {}ms, delivered: {}ms, {} msg/s",
+                members.size(), reserved.toMillis(), delivered.toMillis(),
+                members.size() * 1000L / Math.max(delivered.toMillis(), 1));
+
+        // Sequential 20ms calls take 1s at least, fan-out is expected to be faster.
+        assertThat(delivered).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("푸시 전송 | 서버 오류 | 재시도 후 전송")
+    void serverErrorRetried() throws InterruptedException {
+        emulator.failNext(2, 503);
+
+        var owner = insertUser("retryOwner");
+        var member = insertUser("retryMember");
+
+        roomService.insert(RoomReqDto.builder().name("retry room").userId(owner).member(List.of(member)).build());
+
+        assertThat(waitMessages(1, "retryMember")).isTrue();
+        assertThat(emulator.requestCount()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("푸시 전송 | UNREGISTERED | 토큰 정리")
+    void unregisteredTokenPruned() throws InterruptedException {
+        emulator.unregister("unregisteredMember Token");
+
+        var owner = insertUser("unregisteredOwner");
+        var member = insertUser("unregisteredMember");
+
+        roomService.insert(RoomReqDto.builder().name("unregistered room").userId(owner).member(List.of(member)).build());
+
+        // Rejected token is pruned from the user in batch.
+        for (var i = 0; i < 50 && hasPushToken(member); i++) {
+            fcmOutboxDispatcher.dispatch();
+            fcmTokenRegistry.prune();
+            Thread.sleep(100);
+        }
+
+        assertThat(hasPushToken(member)).isFalse();
+        assertThat(emulator.messagesTo("unregisteredMember Token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("푸시 전송 | INVALID_ARGUMENT | 토큰 유지")
+    void invalidArgumentTokenKept() {
+        var member = insertUser("invalidArgumentMember");
+        var token = "invalidArgumentMember Token";
+
+        // Payload error is a failure of the message, the token is still sent.
+        emulator.failNext(1, 400);
+        var result = fcmService.send(new FcmDto.Request(token, DeviceOs.AOS, "title", "body"));
+        fcmTokenRegistry.prune();
+
+        assertThat(result).isEqualTo(FcmSendResult.FAILED);
+        assertThat(fcmTokenRegistry.isSendable(token)).isTrue();
+        assertThat(hasPushToken(member)).isTrue();
+    }
+
+    @Test
+    @DisplayName("푸시 전송 | 할당량 초과(429) | Retry-After 동안 보류")
+    void quotaExceededDeferred() throws InterruptedException {
+        var member = insertUser("quotaMember");
+        var request = new FcmDto.Request("quotaMember Token", DeviceOs.AOS, "title", "body");
+
+        /* 1. Deferred, not failed */
+        emulator.failNext(1, 429);
+        assertThat(fcmService.send(request)).isEqualTo(FcmSendResult.DEFERRED);
+        assertThat(fcmService.isAvailable()).isFalse();
+
+        /* 2. FCM is not called until Retry-After */
+        var requestCount = emulator.requestCount();
+        assertThat(fcmService.send(request)).isEqualTo(FcmSendResult.DEFERRED);
+        assertThat(emulator.requestCount()).isEqualTo(requestCount);
+
+        /* 3. Sent after Retry-After */
+        Thread.sleep(1100);
+        assertThat(fcmService.isAvailable()).isTrue();
+        assertThat(fcmService.send(request)).isEqualTo(FcmSendResult.SENT);
+        assertThat(hasPushToken(member)).isTrue();
+    }
+
+    @Test
+    @DisplayName("토큰 정리 | 재등록된 토큰 | 토큰 유지")
+    void registeredAgainTokenKept() {
+        var member = insertUser("registeredAgainMember");
+        var token = "registeredAgainMember Token";
+
+        // Token is registered again by the app after it is rejected, before the prune.
+        fcmTokenRegistry.invalidate(token);
+        userService.patchToken(member, UserReqDto.builder().pushToken(token).build());
+        fcmTokenRegistry.prune();
+
+        assertThat(hasPushToken(member)).isTrue();
+        assertThat(fcmTokenRegistry.isSendable(token)).isTrue();
+    }
+
+    private Long insertUser(String name) {
+        return userService.signUp(UserFixture.signUpReq(name)).getUserId();
+    }
+
+    private boolean hasPushToken(Long userId) {
+        return userRepo.findById(userId).orElseThrow().getPushToken() != null;
+    }
+
+    private boolean waitMessages(int count, String tokenPrefix) throws InterruptedException {
+        for (var i = 0; i < 100; i++) {
+            var received = emulator.messages().stream()
+                    .filter(message -> message.path("message").path("token").asText().startsWith(tokenPrefix))
+                    .count();
+            if (received >= count) {
+                return true;
+            }
+
+            fcmOutboxDispatcher.dispatch();
+            Thread.sleep(100);
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,294 @@
+package com.kds.ourmemory.v1.service.firebase;
+
+import com.kds.ourmemory.v1.controller.firebase.dto.FcmDto;
+import com.kds.ourmemory.v1.entity.firebase.FcmOutbox;
+import com.kds.ourmemory.v1.entity.firebase.FcmOutboxStatus;
+import com.kds.ourmemory.v1.entity.user.User;
+import com.kds.ourmemory.v1.repository.firebase.FcmOutboxRepository;
+import com.kds.ourmemory.v1.repository.user.UserRepository;
+import com.kds.ourmemory.v1.service.user.UserFixture;
+import com.kds.ourmemory.v1.service.user.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = "custom.fcm.coalesce-window=1s")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FcmOutboxServiceTest {
+    private static final Duration COALESCE_WINDOW = Duration.ofSeconds(1);
+
+    private final FcmOutboxService fcmOutboxService;
+
+    private final FcmOutboxDispatcher fcmOutboxDispatcher;
+
+    private final FcmOutboxRepository fcmOutboxRepo;
+
+    private final UserService userService;  // Create push target
+
+    private final UserRepository userRepo;
+
+    private final MeterRegistry meterRegistry;
+
+    private final FcmTokenRegistry fcmTokenRegistry;
+
+    // Shared scheduler of @Scheduled jobs
+    private final TaskScheduler taskScheduler;
+
+    @MockBean
+    private FcmService fcmService;
+
+    @Autowired
+    private FcmOutboxServiceTest(
+            FcmOutboxService fcmOutboxService, FcmOutboxDispatcher fcmOutboxDispatcher,
+            FcmOutboxRepository fcmOutboxRepo, UserService userService, UserRepository userRepo,
+            MeterRegistry meterRegistry, FcmTokenRegistry fcmTokenRegistry, TaskScheduler taskScheduler
+    ) {
+        this.fcmOutboxService = fcmOutboxService;
+        this.fcmOutboxDispatcher = fcmOutboxDispatcher;
+        this.fcmOutboxRepo = fcmOutboxRepo;
+        this.userService = userService;
+        this.userRepo = userRepo;
+        this.meterRegistry = meterRegistry;
+        this.fcmTokenRegistry = fcmTokenRegistry;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(fcmService.isAvailable()).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("푸시 예약 후 전송 | 성공")
+    void reserveAndDispatchSuccess() throws InterruptedException {
+        given(fcmService.send(any())).willReturn(FcmSendResult.SENT);
+
+        var target = insertUser();
+
+        /* 1. Reserve -> WAIT or already sent by after commit event */
+        fcmOutboxService.reserve(target, "test title", "test body");
+        assertThat(findOutboxes(target)).hasSize(1);
+
+        /* 2. Dispatch */
+        fcmOutboxDispatcher.dispatch();
+        assertThat(waitStatus(target, FcmOutboxStatus.SENT)).isTrue();
+    }
+
+    @Test
+    @DisplayName("푸시 예약 후 전송 | 실패 | 재시도 횟수 초과")
+    void reserveAndDispatchFailToRetryOver() throws InterruptedException {
+        given(fcmService.send(any())).willReturn(FcmSendResult.FAILED);
+
+        var target = insertUser();
+
+        fcmOutboxService.reserve(target, "test title", "test body");
+
+        // Failed message returns to WAIT, and it is FAILED when retry count is over.
+        for (var i = 0; i < 5; i++) {
+            fcmOutboxDispatcher.dispatch();
+        }
+        assertThat(waitStatus(target, FcmOutboxStatus.FAILED)).isTrue();
+    }
+
+    @Test
+    @DisplayName("방 참여자 전체 푸시 예약 후 동시 전송 | 성공")
+    void reserveAllAndFanOutSuccess() throws InterruptedException {
+        given(fcmService.send(any())).willReturn(FcmSendResult.SENT);
+
+        var targets = List.of(insertUser("fanOut1"), insertUser("fanOut2"), insertUser("fanOut3"));
+        var fanOutCount = meterRegistry.get("fcm.fanout.size").summary().count();
+
+        fcmOutboxService.reserveAll(targets, "test title", "test body");
+        for (var target : targets) {
+            assertThat(findOutboxes(target)).hasSize(1);
+        }
+
+        fcmOutboxDispatcher.dispatch();
+        for (var target : targets) {
+            assertThat(waitStatus(target, FcmOutboxStatus.SENT)).isTrue();
+        }
+        assertThat(meterRegistry.get("fcm.fanout.size").summary().count()).isGreaterThan(fanOutCount);
+        assertThat(meterRegistry.get("fcm.fanout.duration").timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("같은 기기 푸시 병합 전송 | 성공")
+    void reserveSameDeviceCoalesced() {
+        given(fcmService.send(any())).willReturn(FcmSendResult.SENT);
+
+        var target = insertUser("coalesce");
+        var coalescedCount = meterRegistry.get("fcm.push.coalesced").counter().count();
+
+        /* 1. Reserve in the coalesce window */
+        for (var i = 1; i <= 3; i++) {
+            fcmOutboxService.reserve(target, "OurMemory - 방 참여", "room" + i + " 방에 초대받으셨습니다.");
+        }
+
+        /* 2. Only the first is out of the window, every message to the device is sent as one notification */
+        var firstRegDate = findOutboxes(target).stream().map(FcmOutbox::getRegDate).min(Comparator.naturalOrder()).orElseThrow();
+        // regDate of the entity is truncated to millis.
+        fcmOutboxDispatcher.drain(firstRegDate.plus(COALESCE_WINDOW).plusNanos(1_000_000));
+
+        assertThat(findOutboxes(target)).allMatch(outbox -> FcmOutboxStatus.SENT.equals(outbox.getStatus()));
+        assertThat(meterRegistry.get("fcm.push.coalesced").counter().count()).isEqualTo(coalescedCount + 2);
+        verify(fcmService, times(1)).send(argThat(request ->
+                "room3 방에 초대받으셨습니다. 외 2건".equals(request.getBody())
+        ));
+    }
+
+    @Test
+    @DisplayName("푸시 전송 | FCM 장애(회로 열림) | 전송 보류")
+    void dispatchDeferredWhileUnavailable() throws InterruptedException {
+        given(fcmService.isAvailable()).willReturn(false);
+
+        var target = insertUser("unavailable");
+        fcmOutboxService.reserve(target, "test title", "test body");
+
+        /* 1. Not claimed while FCM is unavailable */
+        Thread.sleep(1500);
+        fcmOutboxDispatcher.dispatch();
+        assertThat(findOutboxes(target)).allMatch(outbox -> FcmOutboxStatus.WAIT.equals(outbox.getStatus()));
+        verify(fcmService, never()).send(any());
+
+        /* 2. Sent when FCM is back */
+        given(fcmService.isAvailable()).willReturn(true);
+        given(fcmService.send(any())).willReturn(FcmSendResult.SENT);
+        assertThat(waitStatus(target, FcmOutboxStatus.SENT)).isTrue();
+        assertThat(findOutboxes(target)).allMatch(outbox -> outbox.getRetryCount() == 0);
+    }
+
+    @Test
+    @DisplayName("푸시 전송 중 | 공용 스케줄러 예약 작업 실행")
+    void scheduledJobsRunWhileDraining() throws InterruptedException {
+        var sending = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        given(fcmService.send(any())).willAnswer(invocation -> {
+            sending.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return FcmSendResult.SENT;
+        });
+
+        var target = insertUser("draining");
+        fcmOutboxService.reserve(target, "test title", "test body");
+
+        try {
+            /* 1. Drain is blocked in FCM call on the outbox thread */
+            assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+            /* 2. Poll and the next job(alarm tick, token refresh) on the shared scheduler are not held by the drain */
+            var polled = new CountDownLatch(1);
+            var ticked = new CountDownLatch(1);
+            taskScheduler.schedule(() -> {
+                fcmOutboxDispatcher.poll();
+                polled.countDown();
+            }, Instant.now());
+            taskScheduler.schedule(ticked::countDown, Instant.now());
+
+            assertThat(polled.await(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(ticked.await(1, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(waitStatus(target, FcmOutboxStatus.SENT)).isTrue();
+    }
+
+    @Test
+    @DisplayName("푸시 예약 | 푸시 미사용 회원 제외")
+    void reservePushOffUserSkipped() {
+        var pushOff = insertUser("pushOff", false);
+        var skippedCount = skippedCount("push_off");
+
+        fcmOutboxService.reserve(pushOff, "test title", "test body");
+
+        assertThat(findOutboxes(pushOff)).isEmpty();
+        assertThat(skippedCount("push_off")).isGreaterThan(skippedCount);
+    }
+
+    @Test
+    @DisplayName("푸시 전송 | 만료된 토큰 | 전송 제외 후 토큰 정리")
+    void dispatchInvalidTokenPruned() throws InterruptedException {
+        given(fcmService.send(any())).willAnswer(invocation -> {
+            FcmDto.Request request = invocation.getArgument(0);
+            fcmTokenRegistry.invalidate(request.getToken());
+            return FcmSendResult.INVALID_TOKEN;
+        });
+
+        var target = insertUser("invalidToken", true);
+
+        /* 1. Rejected token is not retried */
+        fcmOutboxService.reserve(target, "test title", "test body");
+        fcmOutboxDispatcher.dispatch();
+        assertThat(waitStatus(target, FcmOutboxStatus.SKIPPED)).isTrue();
+
+        /* 2. Next push is not reserved */
+        var skippedCount = skippedCount("invalid_token");
+        fcmOutboxService.reserve(target, "test title", "test body");
+        assertThat(findOutboxes(target)).hasSize(1);
+        assertThat(skippedCount("invalid_token")).isGreaterThan(skippedCount);
+
+        /* 3. Prune token of user */
+        fcmTokenRegistry.prune();
+        assertThat(userRepo.findById(target.getId()).orElseThrow().getPushToken()).isNull();
+    }
+
+    private User insertUser() {
+        return insertUser("outbox");
+    }
+
+    private User insertUser(String name) {
+        return insertUser(name, true);
+    }
+
+    private User insertUser(String name, boolean push) {
+        var insertUserRsp = userService.signUp(UserFixture.signUpReq(name, push));
+
+        return userRepo.findById(insertUserRsp.getUserId()).orElseThrow();
+    }
+
+    private List<FcmOutbox> findOutboxes(User target) {
+        return fcmOutboxRepo.findAll().stream()
+                .filter(outbox -> target.getId().equals(outbox.getUserId()))
+                .toList();
+    }
+
+    private double skippedCount(String reason) {
+        return meterRegistry.get("fcm.push.skipped").tag("reason", reason).counter().count();
+    }
+
+    // Dispatcher also runs on the async thread after commit, so wait for the status.
+    private boolean waitStatus(User target, FcmOutboxStatus status) throws InterruptedException {
+        for (var i = 0; i < 50; i++) {
+            if (findOutboxes(target).stream().allMatch(outbox -> status.equals(outbox.getStatus()))) {
+                return true;
+            }
+            fcmOutboxDispatcher.dispatch();
+            Thread.sleep(100);
+        }
+
+        return false;
+    }
+}
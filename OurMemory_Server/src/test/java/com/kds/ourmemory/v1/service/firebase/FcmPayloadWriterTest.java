@@ -0,0 +1,45 @@
+package com.kds.ourmemory.v1.service.firebase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kds.ourmemory.v1.controller.firebase.dto.FcmDto;
+import com.kds.ourmemory.v1.entity.user.DeviceOs;
+import okio.Buffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FcmPayloadWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final FcmPayloadWriter fcmPayloadWriter = new FcmPayloadWriter();
+
+    @Test
+    @DisplayName("안드로이드 푸시 메시지 | 기존 dto 직렬화 결과와 동일")
+    void writeAndroid() throws IOException {
+        var request = new FcmDto.Request("android token", DeviceOs.AOS, "제목 \"quote\"", "내용\n줄바꿈",
+                false, "FRIEND_REQUEST", "1");
+
+        assertThat(objectMapper.readTree(write(request)))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(new FcmDto.RequestAndroid(request))));
+    }
+
+    @Test
+    @DisplayName("iOS 푸시 메시지 | 데이터 없음 | 기존 dto 직렬화 결과와 동일")
+    void writeiOSWithoutData() throws IOException {
+        var request = new FcmDto.Request("ios token", DeviceOs.IOS, "제목", "내용");
+
+        assertThat(objectMapper.readTree(write(request)))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(new FcmDto.RequestiOS(request))));
+    }
+
+    private String write(FcmDto.Request request) throws IOException {
+        var buffer = new Buffer();
+        fcmPayloadWriter.requestBody(request).writeTo(buffer);
+
+        return buffer.readUtf8();
+    }
+}
@@ -0,0 +1,153 @@
+package com.kds.ourmemory.v1.service.memory;
+
+import com.kds.ourmemory.v1.controller.memory.dto.MemoryReqDto;
+import com.kds.ourmemory.v1.controller.room.dto.RoomReqDto;
+import com.kds.ourmemory.v1.entity.relation.AttendanceStatus;
+import com.kds.ourmemory.v1.service.room.RoomService;
+import com.kds.ourmemory.v1.service.user.UserFixture;
+import com.kds.ourmemory.v1.service.user.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Scheduler is disabled by default and started by the test with explicit dates, the scheduled load is not run in the test.
+@SpringBootTest(properties = "custom.alarm.load-millis=3600000")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MemoryAlarmSchedulerTest {
+
+    private static final String ALARM_TARGETS_SQL =
+            "select fcm_outbox_user_id from fcm_outboxes where fcm_outbox_title = 'OurMemory - 일정 알림'" +
+                    " and fcm_outbox_body like ?";
+
+    // Memory inserted by another server, without the entity and its after commit event
+    private static final String INSERT_MEMORY_SQL = """
+            insert into memories (
+                memory_writer, memory_name, memory_start_date, memory_end_date, memory_bg_color,
+                memory_first_alarm, memory_used_flag, reg_date, mod_date
+            ) values (?, ?, ?, ?, '#FFFFFF', ?, true, ?, ?)
+            """;
+
+    private final MemoryService memoryService;
+
+    private final RoomService roomService;
+
+    private final UserService userService;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final MemoryAlarmScheduler memoryAlarmScheduler;
+
+    @Autowired
+    private MemoryAlarmSchedulerTest(MemoryService memoryService, RoomService roomService, UserService userService,
+                                     JdbcTemplate jdbcTemplate, MemoryAlarmScheduler memoryAlarmScheduler) {
+        this.memoryService = memoryService;
+        this.roomService = roomService;
+        this.userService = userService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.memoryAlarmScheduler = memoryAlarmScheduler;
+    }
+
+    @Test
+    @DisplayName("일정 알람 -> 작성자, 참석자 | 성공 | 수정, 삭제된 알람 제외")
+    void fireAlarmSuccess() {
+        /* 0. Set base data */
+        var writerId = insertUser("alarmWriter");
+        var attendId = insertUser("alarmAttend");
+        var absenceId = insertUser("alarmAbsence");
+        var roomId = roomService.insert(RoomReqDto.builder()
+                .name("alarm room")
+                .userId(writerId)
+                .opened(false)
+                .member(List.of(attendId, absenceId))
+                .build()
+        ).getRoomId();
+
+        // Dates of the test are after the real clock, real ticks of the scheduler don't fire them.
+        var base = LocalDateTime.now().plusDays(1).withNano(0);
+        var alarmDate = base.plusMinutes(2);
+        var firedMemoryId = insertMemory(writerId, roomId, "fired alarm memory", alarmDate);
+        var updatedMemoryId = insertMemory(writerId, roomId, "updated alarm memory", alarmDate);
+        var deletedMemoryId = insertMemory(writerId, roomId, "deleted alarm memory", alarmDate);
+
+        memoryService.setAttendanceStatus(firedMemoryId, MemoryReqDto.builder()
+                .userId(attendId).attendanceStatus(AttendanceStatus.ATTEND).build());
+        memoryService.setAttendanceStatus(firedMemoryId, MemoryReqDto.builder()
+                .userId(absenceId).attendanceStatus(AttendanceStatus.ABSENCE).build());
+
+        /* 1. Load alarms, then change alarms before they are fired */
+        memoryAlarmScheduler.start(base);
+        memoryService.update(updatedMemoryId, writerId, MemoryReqDto.builder()
+                .firstAlarm(alarmDate.plusHours(1))
+                .build());
+        memoryService.delete(deletedMemoryId, writerId, userService.find(writerId).getPrivateRoomId());
+
+        /* 2. Before the alarm -> not fired */
+        memoryAlarmScheduler.tick(alarmDate.minusSeconds(1));
+        assertThat(alarmTargets("fired alarm memory")).isEmpty();
+
+        /* 3. Alarm date -> fired, changed alarms are checked with the memory */
+        memoryAlarmScheduler.tick(alarmDate.plusSeconds(1));
+        assertThat(alarmTargets("fired alarm memory")).containsExactlyInAnyOrder(writerId, attendId);
+        assertThat(alarmTargets("updated alarm memory")).isEmpty();
+        assertThat(alarmTargets("deleted alarm memory")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일정 알람 -> 다른 서버에서 추가된 알람 | 성공 | 다음 로드에서 예약")
+    void fireAlarmSuccessToChangedOnOtherServer() {
+        /* 0. Set base data */
+        var writerId = insertUser("otherServerAlarmWriter");
+        var base = LocalDateTime.now().plusDays(1).withNano(0);
+        var alarmDate = base.plusMinutes(3);
+
+        /* 1. Start, then a memory is inserted by another server in the loaded window -> no event on this server */
+        memoryAlarmScheduler.start(base);
+        jdbcTemplate.update(INSERT_MEMORY_SQL, writerId, "other server alarm memory",
+                Timestamp.valueOf(alarmDate.plusMinutes(10)), Timestamp.valueOf(alarmDate.plusHours(1)),
+                Timestamp.valueOf(alarmDate), Timestamp.valueOf(base.plusMinutes(1)), Timestamp.valueOf(base.plusMinutes(1)));
+
+        memoryAlarmScheduler.tick(alarmDate.plusSeconds(1));
+        assertThat(alarmTargets("other server alarm memory")).isEmpty();
+
+        /* 2. Next load reads the changed memory again from the last load -> passed alarm is fired late, not lost */
+        memoryAlarmScheduler.load(alarmDate.plusSeconds(2));
+        assertThat(alarmTargets("other server alarm memory")).containsExactly(writerId);
+
+        /* 3. Loaded again -> not fired twice */
+        memoryAlarmScheduler.load(alarmDate.plusMinutes(1));
+        memoryAlarmScheduler.tick(alarmDate.plusMinutes(1));
+        assertThat(alarmTargets("other server alarm memory")).containsExactly(writerId);
+    }
+
+    private List<Long> alarmTargets(String memoryName) {
+        return jdbcTemplate.queryForList(ALARM_TARGETS_SQL, Long.class, "'" + memoryName + "'%");
+    }
+
+    private long insertMemory(Long writerId, Long roomId, String name, LocalDateTime alarmDate) {
+        return memoryService.insert(MemoryReqDto.builder()
+                .userId(writerId)
+                .roomId(roomId)
+                .name(name)
+                .startDate(alarmDate.plusMinutes(10))
+                .endDate(alarmDate.plusHours(1))
+                .bgColor("#FFFFFF")
+                .firstAlarm(alarmDate)
+                .build()
+        ).getMemoryId();
+    }
+
+    private Long insertUser(String name) {
+        return userService.signUp(UserFixture.signUpReq(name)).getUserId();
+    }
+}
@@ -0,0 +1,153 @@
+package com.kds.ourmemory.v1.service.memory;
+
+import com.kds.ourmemory.v1.advice.memory.exception.MemoryNotFoundRoomException;
+import com.kds.ourmemory.v1.controller.memory.dto.MemoryReqDto;
+import com.kds.ourmemory.v1.controller.room.dto.RoomReqDto;
+import com.kds.ourmemory.v1.entity.memory.RecurrenceType;
+import com.kds.ourmemory.v1.service.room.RoomService;
+import com.kds.ourmemory.v1.service.user.UserFixture;
+import com.kds.ourmemory.v1.service.user.UserService;
+import com.kds.ourmemory.v1.util.ics.IcsEvent;
+import com.kds.ourmemory.v1.util.ics.IcsReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MemoryExportServiceTest {
+
+    private final MemoryExportService memoryExportService;
+
+    private final MemoryService memoryService;
+
+    private final RoomService roomService;
+
+    private final UserService userService;
+
+    @Autowired
+    private MemoryExportServiceTest(MemoryExportService memoryExportService, MemoryService memoryService,
+                                    RoomService roomService, UserService userService) {
+        this.memoryExportService = memoryExportService;
+        this.memoryService = memoryService;
+        this.roomService = roomService;
+        this.userService = userService;
+    }
+
+    @Test
+    @DisplayName("일정 내보내기 -> 사용자, 방 | 성공")
+    void exportMemoriesSuccess() throws IOException {
+        /* 0. Set base data */
+        var writerId = insertUser("exportWriter");
+        var memberId = insertUser("exportMember");
+        var roomId = roomService.insert(RoomReqDto.builder()
+                .name("export room")
+                .userId(memberId)
+                .opened(false)
+                .member(List.of(writerId))
+                .build()
+        ).getRoomId();
+
+        var startDate = LocalDateTime.now().withNano(0);
+        insertMemory(writerId, null, "private memory", startDate);
+        insertMemory(writerId, roomId, "shared memory", startDate.plusDays(1));
+        var deletedMemory = insertMemory(writerId, null, "deleted memory", startDate.plusDays(2));
+        memoryService.delete(deletedMemory, writerId, userService.find(writerId).getPrivateRoomId());
+
+        /* 1. Export */
+        var userEvents = read(memoryExportService.exportUserMemories(writerId));
+        var roomEvents = read(memoryExportService.exportRoomMemories(roomId));
+
+        /* 2. Assert */
+        assertThat(userEvents).extracting(IcsEvent::summary)
+                .containsExactlyInAnyOrder("private memory", "shared memory");
+        assertThat(roomEvents).extracting(IcsEvent::summary).containsExactly("shared memory");
+        assertThat(roomEvents.get(0).startDate()).isEqualTo(startDate.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("일정 내보내기 -> 반복 일정 | 성공 | 반복 규칙, 제외 일정")
+    void exportRecurringMemoriesSuccess() throws IOException {
+        /* 0. Set base data */
+        var writerId = insertUser("exportRecurringWriter");
+        var startDate = LocalDateTime.of(2022, 3, 1, 10, 0);
+        var recurringMemoryId = memoryService.insert(MemoryReqDto.builder()
+                .userId(writerId)
+                .name("recurring memory")
+                .startDate(startDate)
+                .endDate(startDate.plusHours(1))
+                .bgColor("#FFFFFF")
+                .recurrenceType(RecurrenceType.WEEKLY)
+                .recurrenceInterval(2)
+                .recurrenceEndDate(startDate.plusWeeks(5))
+                .build()
+        ).getMemoryId();
+        memoryService.excludeOccurrence(recurringMemoryId, writerId, startDate.plusWeeks(2));
+
+        /* 1. Export */
+        var output = new ByteArrayOutputStream();
+        memoryExportService.exportUserMemories(writerId).writeTo(output);
+        var ics = output.toString(StandardCharsets.UTF_8);
+
+        /* 2. Assert: last occurrence starts at 4 weeks, the removed one is excluded */
+        assertThat(ics).contains("RRULE:FREQ=WEEKLY;INTERVAL=2;UNTIL=" + toUtc(startDate.plusWeeks(4)) + "\r\n");
+        assertThat(ics).contains("EXDATE:" + toUtc(startDate.plusWeeks(2)) + "\r\n");
+    }
+
+    @Test
+    @DisplayName("일정 내보내기 -> 방 | 실패 | 없는 방")
+    void exportRoomMemoriesFailToNotFoundRoom() {
+        assertThatThrownBy(() -> memoryExportService.exportRoomMemories(-1L))
+                .isInstanceOf(MemoryNotFoundRoomException.class);
+    }
+
+    // Export writes dates of the server zone in UTC.
+    private static String toUtc(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC)
+                .format(DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'"));
+    }
+
+    private List<IcsEvent> read(StreamingResponseBody body) throws IOException {
+        var output = new ByteArrayOutputStream();
+        body.writeTo(output);
+
+        var events = new ArrayList<IcsEvent>();
+        new IcsReader(new StringReader(output.toString(StandardCharsets.UTF_8))).readEvents(events::add);
+        return events;
+    }
+
+    private long insertMemory(Long writerId, Long roomId, String name, LocalDateTime startDate) {
+        return memoryService.insert(MemoryReqDto.builder()
+                .userId(writerId)
+                .roomId(roomId)
+                .name(name)
+                .startDate(startDate)
+                .endDate(startDate.plusHours(1))
+                .bgColor("#FFFFFF")
+                .build()
+        ).getMemoryId();
+    }
+
+    private Long insertUser(String name) {
+        return userService.signUp(UserFixture.signUpReq(name)).getUserId();
+    }
+}
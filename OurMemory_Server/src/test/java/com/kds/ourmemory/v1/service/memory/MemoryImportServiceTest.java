@@ -0,0 +1,108 @@
+package com.kds.ourmemory.v1.service.memory;
+
+import com.kds.ourmemory.v1.controller.user.dto.UserReqDto;
+import com.kds.ourmemory.v1.entity.user.DeviceOs;
+import com.kds.ourmemory.v1.service.user.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "custom.ics.import-chunk-size=1000")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MemoryImportServiceTest {
+
+    private static final DateTimeFormatter ICS_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final MemoryImportService memoryImportService;
+
+    private final MemoryService memoryService;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final UserService userService;
+
+    @Autowired
+    private MemoryImportServiceTest(MemoryImportService memoryImportService, MemoryService memoryService,
+                                    JdbcTemplate jdbcTemplate, UserService userService) {
+        this.memoryImportService = memoryImportService;
+        this.memoryService = memoryService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.userService = userService;
+    }
+
+    @Test
+    @DisplayName("일정 가져오기 -> 개인방 | 성공")
+    void importIcsSuccess() {
+        /* 0-1. Set base data */
+        var user = userService.signUp(UserReqDto.builder()
+                .snsType(1)
+                .snsId("importer_snsId")
+                .pushToken("importer Token")
+                .push(true)
+                .name("importer")
+                .birthday("0101")
+                .solar(true)
+                .birthdayOpen(false)
+                .deviceOs(DeviceOs.AOS)
+                .build()
+        );
+        var startDate = LocalDateTime.of(2022, 3, 1, 0, 0);
+        var month = YearMonth.from(startDate);
+
+        /* 0-2. Load month view before import */
+        assertThat(memoryService.findMemories(user.getUserId(), null, month, month)).isEmpty();
+
+        /* 1. Import 2,500 events and 1 event without summary */
+        var ics = new StringBuilder("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n");
+        for (var i = 0; i < 2_500; i++) {
+            ics.append("BEGIN:VEVENT\r\n")
+                    .append("SUMMARY:imported memory ").append(i).append("\r\n")
+                    .append("LOCATION:place ").append(i).append("\r\n")
+                    .append("DTSTART:").append(startDate.plusHours(i).format(ICS_DATE_TIME)).append("\r\n")
+                    .append("DTEND:").append(startDate.plusHours(i + 1).format(ICS_DATE_TIME)).append("\r\n")
+                    .append("END:VEVENT\r\n");
+        }
+        ics.append("BEGIN:VEVENT\r\nDTSTART:20220301T000000\r\nEND:VEVENT\r\nEND:VCALENDAR\r\n");
+
+        var importRsp = memoryImportService.importIcs(user.getUserId(), new MockMultipartFile(
+                "file", "calendar.ics", "text/calendar", ics.toString().getBytes(StandardCharsets.UTF_8)
+        ));
+        assertThat(importRsp.getImported()).isEqualTo(2_500);
+        assertThat(importRsp.getSkipped()).isEqualTo(1);
+        assertThat(importRsp.getChunks()).isEqualTo(3);
+
+        /* 2. Check memories in private room and month view */
+        var memories = memoryService.findMemories(user.getUserId(), null, null, null);
+        assertThat(memories).hasSize(2_500);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from rooms_memories where room_id = ?",
+                Long.class, user.getPrivateRoomId())).isEqualTo(2_500L);
+
+        var monthMemories = memoryService.findMemories(user.getUserId(), null, month, month);
+        assertThat(monthMemories).isNotEmpty();
+        assertThat(monthMemories.get(0).getName()).isEqualTo("imported memory 0");
+        assertThat(monthMemories.get(0).getPlace()).isEqualTo("place 0");
+    }
+
+    @Test
+    @DisplayName("일정 가져오기 | 실패 | 빈 파일")
+    void importIcsFailToEmptyFile() {
+        var emptyFile = new MockMultipartFile("file", "calendar.ics", "text/calendar", new byte[0]);
+
+        assertThatThrownBy(() -> memoryImportService.importIcs(1L, emptyFile))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.kds.ourmemory.v1.service.memory;
+
+import com.kds.ourmemory.v1.controller.memory.dto.MemoryReqDto;
+import com.kds.ourmemory.v1.controller.room.dto.RoomReqDto;
+import com.kds.ourmemory.v1.repository.QueryCountInspector;
+import com.kds.ourmemory.v1.service.room.RoomService;
+import com.kds.ourmemory.v1.service.user.UserFixture;
+import com.kds.ourmemory.v1.service.user.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Memory list costs the same number of queries regardless of the number of memories and share rooms.
+ */
+@SpringBootTest(properties = QueryCountInspector.PROPERTY)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MemoryQueryCountTest {
+
+    private final MemoryService memoryService;
+
+    private final RoomService roomService;
+
+    private final UserService userService;
+
+    @Autowired
+    private MemoryQueryCountTest(MemoryService memoryService, RoomService roomService, UserService userService) {
+        this.memoryService = memoryService;
+        this.roomService = roomService;
+        this.userService = userService;
+    }
+
+    @Test
+    @DisplayName("일정 목록 조회 -> 쿼리 수 | 일정 수와 무관")
+    void findMemoriesQueryCount() {
+        var fewWriterId = insertWriterWithMemories("queryFew", 2);
+        var manyWriterId = insertWriterWithMemories("queryMany", 20);
+
+        var fewQueryCount = countQueries(() -> assertThat(
+                memoryService.findMemories(fewWriterId, null, null, null)).hasSize(2));
+        var manyQueryCount = countQueries(() -> assertThat(
+                memoryService.findMemories(manyWriterId, null, null, null)).hasSize(20));
+
+        assertThat(manyQueryCount).isEqualTo(fewQueryCount);
+    }
+
+    @Test
+    @DisplayName("일정 목록 페이지 조회 -> 쿼리 수 | 페이지 크기와 무관")
+    void findMemoriesPageQueryCount() {
+        var writerId = insertWriterWithMemories("queryPage", 20);
+
+        var smallPageQueryCount = countQueries(() -> assertThat(
+                memoryService.findMemoriesPage(writerId, null, null, null, null, 2).getMemories()).hasSize(2));
+        var largePageQueryCount = countQueries(() -> assertThat(
+                memoryService.findMemoriesPage(writerId, null, null, null, null, 15).getMemories()).hasSize(15));
+
+        assertThat(largePageQueryCount).isEqualTo(smallPageQueryCount);
+    }
+
+    private int countQueries(Runnable runnable) {
+        QueryCountInspector.reset();
+        runnable.run();
+        return QueryCountInspector.count();
+    }
+
+    /**
+     * Each memory is shared to its own room owned by another user, so rooms and room owners differ by memory.
+     */
+    private Long insertWriterWithMemories(String name, int count) {
+        var writerId = insertUser(name + "Writer");
+        var startDate = LocalDateTime.now().withNano(0);
+
+        IntStream.range(0, count).forEach(i -> {
+            var ownerId = insertUser(name + "Owner" + i);
+            var roomId = roomService.insert(RoomReqDto.builder()
+                    .name(name + " room " + i)
+                    .userId(ownerId)
+                    .opened(false)
+                    .member(List.of(writerId))
+                    .build()
+            ).getRoomId();
+
+            memoryService.insert(MemoryReqDto.builder()
+                    .userId(writerId)
+                    .roomId(roomId)
+                    .name(name + " memory " + i)
+                    .startDate(startDate.plusDays(i))
+                    .endDate(startDate.plusDays(i).plusHours(1))
+                    .bgColor("#FFFFFF")
+                    .build()
+            );
+        });
+
+        return writerId;
+    }
+
+    private Long insertUser(String name) {
+        return userService.signUp(UserFixture.signUpReq(name)).getUserId();
+    }
+}
@@ -10,10 +10,12 @@ import com.kds.ourmemory.v1.controller.room.dto.RoomReqDto;
 import com.kds.ourmemory.v1.controller.room.dto.RoomRspDto;
 import com.kds.ourmemory.v1.controller.user.dto.UserReqDto;
 import com.kds.ourmemory.v1.controller.user.dto.UserRspDto;
+import com.kds.ourmemory.v1.entity.memory.RecurrenceType;
 import com.kds.ourmemory.v1.entity.relation.AttendanceStatus;
 import com.kds.ourmemory.v1.entity.user.DeviceOs;
 import com.kds.ourmemory.v1.service.room.RoomService;
 import com.kds.ourmemory.v1.service.user.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -23,6 +25,7 @@ import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,6 +42,8 @@ class MemoryServiceTest {
 
     private final UserService userService;  // The creation process from adding to the deletion of the memory.
 
+    private final MeterRegistry meterRegistry;  // Month view cache metrics
+
     /**
      * Assert time format -> delete sec
      * <p>
@@ -56,11 +61,12 @@ class MemoryServiceTest {
 
     @Autowired
     private MemoryServiceTest(
-            MemoryService memoryService, UserService userService, RoomService roomService
+            MemoryService memoryService, UserService userService, RoomService roomService, MeterRegistry meterRegistry
     ) {
         this.memoryService = memoryService;
         this.userService = userService;
         this.roomService = roomService;
+        this.meterRegistry = meterRegistry;
     }
 
     @BeforeAll
@@ -1281,6 +1287,171 @@ class MemoryServiceTest {
         assertThat(afterFindMemoryRsp.getUserAttendances().size()).isOne();
     }
 
+    @Test
+    @DisplayName("일정 참석 여부 변경 | 성공 | 참석 인원 수")
+    void setAttendanceStatusSuccessToCountAttendance() {
+        /* 0-1. Set base data */
+        setBaseData();
+
+        /* 0-2. Create request */
+        var insertMemoryReq = MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .roomId(insertRoomRsp.getRoomId())
+                .name("Test Memory")
+                .startDate(LocalDateTime.parse(
+                        LocalDateTime.now().plusDays(3).format(alertTimeFormat), alertTimeFormat)
+                ) // 시작시간
+                .endDate(LocalDateTime.parse(
+                        LocalDateTime.now().plusDays(3).plusHours(1).format(alertTimeFormat), alertTimeFormat)
+                ) // 종료시간
+                .bgColor("#FFFFFF")
+                .build();
+
+        var memberAttendReq = MemoryReqDto.builder()
+                .userId(insertMemberRsp.getUserId())
+                .attendanceStatus(AttendanceStatus.ATTEND)
+                .build();
+        var memberAbsenceReq = MemoryReqDto.builder()
+                .userId(insertMemberRsp.getUserId())
+                .attendanceStatus(AttendanceStatus.ABSENCE)
+                .build();
+        var writerAttendReq = MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .attendanceStatus(AttendanceStatus.ATTEND)
+                .build();
+
+        /* 1. Make memory */
+        var insertMemoryRsp = memoryService.insert(insertMemoryReq);
+        var memoryId = insertMemoryRsp.getMemoryId();
+
+        var beforeFindMemoryRsp = memoryService.find(memoryId, insertMemoryRsp.getAddedRoomId());
+        assertThat(beforeFindMemoryRsp.getAttendCount()).isZero();
+        assertThat(beforeFindMemoryRsp.getAbsenceCount()).isZero();
+
+        /* 2. Attend of writer and member, then member changes to absence twice */
+        memoryService.setAttendanceStatus(memoryId, writerAttendReq);
+        var memberAttendRsp = memoryService.setAttendanceStatus(memoryId, memberAttendReq);
+        assertThat(memberAttendRsp.getAttendCount()).isEqualTo(2);
+        assertThat(memberAttendRsp.getAbsenceCount()).isZero();
+
+        var memberAbsenceRsp = memoryService.setAttendanceStatus(memoryId, memberAbsenceReq);
+        assertThat(memberAbsenceRsp.getAttendCount()).isOne();
+        assertThat(memberAbsenceRsp.getAbsenceCount()).isOne();
+
+        var memberAbsenceAgainRsp = memoryService.setAttendanceStatus(memoryId, memberAbsenceReq);
+        assertThat(memberAbsenceAgainRsp.getAttendCount()).isOne();
+
+        /* 3. Check counters from memory and room */
+        var afterFindMemoryRsp = memoryService.find(memoryId, insertMemoryRsp.getAddedRoomId());
+        assertThat(afterFindMemoryRsp.getAttendCount()).isOne();
+        assertThat(afterFindMemoryRsp.getAbsenceCount()).isOne();
+        assertThat(afterFindMemoryRsp.getUserAttendances().size()).isEqualTo(2);
+
+        var findRoomRsp = roomService.find(insertRoomRsp.getRoomId());
+        assertThat(findRoomRsp.getMemories().size()).isOne();
+        assertThat(findRoomRsp.getMemories().get(0).getAttendCount()).isOne();
+        assertThat(findRoomRsp.getMemories().get(0).getAbsenceCount()).isOne();
+        assertThat(findRoomRsp.getMemories().get(0).getUserAttendances().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일정 참석 여부 변경 | 성공 | 방 목록, 방 수정 응답의 방 인원 기준 참석 여부")
+    void setAttendanceStatusSuccessToRoomScopedAttendance() {
+        /* 0-1. Set base data */
+        setBaseData();
+
+        /* 0-2. Create request */
+        var insertMemoryReq = MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .roomId(insertRoomRsp.getRoomId())
+                .name("Test Memory")
+                .startDate(LocalDateTime.parse(
+                        LocalDateTime.now().plusDays(3).format(alertTimeFormat), alertTimeFormat)
+                ) // 시작시간
+                .endDate(LocalDateTime.parse(
+                        LocalDateTime.now().plusDays(3).plusHours(1).format(alertTimeFormat), alertTimeFormat)
+                ) // 종료시간
+                .bgColor("#FFFFFF")
+                .build();
+
+        var writerAttendReq = MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .attendanceStatus(AttendanceStatus.ATTEND)
+                .build();
+        var memberAttendReq = MemoryReqDto.builder()
+                .userId(insertMemberRsp.getUserId())
+                .attendanceStatus(AttendanceStatus.ATTEND)
+                .build();
+
+        /* 1. Make memory, attend of writer and member */
+        var memoryId = memoryService.insert(insertMemoryReq).getMemoryId();
+        memoryService.setAttendanceStatus(memoryId, writerAttendReq);
+        memoryService.setAttendanceStatus(memoryId, memberAttendReq);
+
+        /* 2. Share room in the room list: writer and member */
+        var findRoomsRsp = roomService.findRooms(insertWriterRsp.getUserId(), null);
+        assertThat(findRoomsRsp.size()).isOne();
+        var shareRoomMemoryRsp = findRoomsRsp.get(0).getMemories().get(0);
+        assertThat(shareRoomMemoryRsp.getAttendCount()).isEqualTo(2);
+        assertThat(shareRoomMemoryRsp.getUserAttendances().size()).isEqualTo(2);
+
+        /* 3. Private room of the writer: writer only */
+        var updateRoomReq = RoomReqDto.builder().name("private room").opened(false).build();
+        var updateRoomRsp = roomService.update(insertWriterRsp.getPrivateRoomId(), updateRoomReq);
+        var privateRoomMemoryRsp = updateRoomRsp.getMemories().get(0);
+        assertThat(privateRoomMemoryRsp.getAttendCount()).isOne();
+        assertThat(privateRoomMemoryRsp.getAbsenceCount()).isZero();
+        assertThat(privateRoomMemoryRsp.getUserAttendances().size()).isOne();
+    }
+
+    @Test
+    @DisplayName("일정 ETag 조회 | 성공 | 참석 여부 변경 시 변경")
+    void findETagSuccessToChangeByAttendance() {
+        /* 0-1. Set base data */
+        setBaseData();
+
+        /* 0-2. Create request */
+        var insertMemoryReq = MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .roomId(insertRoomRsp.getRoomId())
+                .name("Test Memory")
+                .startDate(LocalDateTime.parse(
+                        LocalDateTime.now().plusDays(3).format(alertTimeFormat), alertTimeFormat)
+                ) // 시작시간
+                .endDate(LocalDateTime.parse(
+                        LocalDateTime.now().plusDays(3).plusHours(1).format(alertTimeFormat), alertTimeFormat)
+                ) // 종료시간
+                .bgColor("#FFFFFF")
+                .build();
+
+        var memberAttendReq = MemoryReqDto.builder()
+                .userId(insertMemberRsp.getUserId())
+                .attendanceStatus(AttendanceStatus.ATTEND)
+                .build();
+
+        /* 1. Make memory */
+        var insertMemoryRsp = memoryService.insert(insertMemoryReq);
+        var memoryId = insertMemoryRsp.getMemoryId();
+        var roomId = insertMemoryRsp.getAddedRoomId();
+
+        /* 2. Same ETag without changes */
+        var beforeMemoryETag = memoryService.findETag(memoryId, roomId);
+        var beforeRoomETag = roomService.findETag(roomId, null);
+        assertThat(beforeMemoryETag).isPresent();
+        assertThat(beforeRoomETag).isPresent();
+        assertThat(memoryService.findETag(memoryId, roomId)).isEqualTo(beforeMemoryETag);
+        assertThat(roomService.findETag(roomId, null)).isEqualTo(beforeRoomETag);
+
+        /* 3. Changed ETag by attendance */
+        memoryService.setAttendanceStatus(memoryId, memberAttendReq);
+
+        assertThat(memoryService.findETag(memoryId, roomId)).isPresent().isNotEqualTo(beforeMemoryETag);
+        assertThat(roomService.findETag(roomId, null)).isPresent().isNotEqualTo(beforeRoomETag);
+
+        /* 4. No ETag of the wrong memory */
+        assertThat(memoryService.findETag(memoryId + 1000, roomId)).isEmpty();
+    }
+
     @Test
     @DisplayName("일정 불참 | 실패 | 잘못된 사용자번호")
     void absentMemoryFailToWrongUserId() {
@@ -1447,29 +1618,18 @@ class MemoryServiceTest {
                 insertMemoryRsp.getMemoryId(), insertWriterRsp.getUserId(), shareMemoryUsersReq
         );
         assertThat(shareMemoryRsp).isNotNull();
-        assertThat(shareMemoryRsp.getShareRooms().size()).isEqualTo(3);
+        assertThat(shareMemoryRsp.getShareRooms().size()).isEqualTo(2);
 
         /* 3. find share memory */
-        // 1) Check from member
+        // 1) Check from member: room of the same members(writer, member) is reused.
         var findMemberRooms = roomService.findRooms(insertMemberRsp.getUserId(), null);
-        assertThat(findMemberRooms.size()).isEqualTo(2);
-
-        var isValidMember = false;
-        Long memberRoomId = null;
-        for (var findMemberRoomRsp : findMemberRooms) {
-            if (findMemberRoomRsp.getRoomId() == insertRoomRsp.getRoomId()
-                    || findMemberRoomRsp.getRoomId() == insertMemberRsp.getPrivateRoomId()
-            ) {
-                continue;
-            }
+        assertThat(findMemberRooms.size()).isOne();
 
-            assertThat(findMemberRoomRsp.getMemories().size()).isOne();
-            var memoryRsp = findMemberRoomRsp.getMemories().get(0);
-            assertThat(memoryRsp.getMemoryId()).isEqualTo(insertMemoryRsp.getMemoryId());
-            isValidMember = true;
-            memberRoomId = findMemberRoomRsp.getRoomId();
-        }
-        assertTrue(isValidMember);
+        var findMemberRoomRsp = findMemberRooms.get(0);
+        assertThat(findMemberRoomRsp.getRoomId()).isEqualTo(insertRoomRsp.getRoomId());
+        assertThat(findMemberRoomRsp.getMemories().size()).isOne();
+        assertThat(findMemberRoomRsp.getMemories().get(0).getMemoryId()).isEqualTo(insertMemoryRsp.getMemoryId());
+        var memberRoomId = findMemberRoomRsp.getRoomId();
 
         // 2) Check from member2
         var findMemberRooms2 = roomService.findRooms(insertMemberRsp2.getUserId(), null);
@@ -1483,6 +1643,110 @@ class MemoryServiceTest {
         assertNotEquals(findMemberRoomRsp2.getRoomId(), memberRoomId);
     }
 
+    @Test
+    @DisplayName("일정 공유 -> 개별 사용자 목록 | 성공 | 같은 구성원의 방 재사용")
+    void shareMemoryForUsersSuccessToReuseRoomOfSameMembers() {
+        /* 0-1. Set base data */
+        setBaseData();
+
+        /* 0-2. Create request */
+        var insertMemoryReq = MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .roomId(insertRoomRsp.getRoomId())
+                .name("Test Memory")
+                .startDate(LocalDateTime.parse(
+                        LocalDateTime.now().plusDays(3).format(alertTimeFormat), alertTimeFormat)
+                ) // 시작시간
+                .endDate(LocalDateTime.parse(
+                        LocalDateTime.now().plusDays(3).plusHours(1).format(alertTimeFormat), alertTimeFormat)
+                ) // 종료시간
+                .bgColor("#FFFFFF")
+                .build();
+
+        var insertMember2Req = UserReqDto.builder()
+                .snsType(2)
+                .snsId("member2_snsId")
+                .pushToken("member2 Token")
+                .push(true)
+                .name("member2")
+                .birthday("0527")
+                .solar(true)
+                .birthdayOpen(false)
+                .deviceOs(DeviceOs.IOS)
+                .build();
+        var insertMemberRsp2 = userService.signUp(insertMember2Req);
+        assertThat(insertMemberRsp2.getUserId()).isNotNull();
+
+        var shareMemoryUsersReq = MemoryReqDto.builder()
+                .shareType(ShareType.USERS)
+                .shareIds(List.of(insertMemberRsp2.getUserId()))
+                .build();
+
+        /* 1. Make memories */
+        var insertMemoryRsp = memoryService.insert(insertMemoryReq);
+        var insertMemoryRsp2 = memoryService.insert(insertMemoryReq);
+
+        /* 2. Share memories for the same user */
+        var shareMemoryRsp = memoryService.shareMemory(
+                insertMemoryRsp.getMemoryId(), insertWriterRsp.getUserId(), shareMemoryUsersReq
+        );
+        var shareMemoryRsp2 = memoryService.shareMemory(
+                insertMemoryRsp2.getMemoryId(), insertWriterRsp.getUserId(), shareMemoryUsersReq
+        );
+        // Room of the memory and share room
+        assertThat(shareMemoryRsp.getShareRooms().size()).isEqualTo(2);
+        assertThat(shareMemoryRsp2.getShareRooms().size()).isEqualTo(2);
+
+        /* 3. Check both memories are shared to one room */
+        var findMemberRooms2 = roomService.findRooms(insertMemberRsp2.getUserId(), null);
+        assertThat(findMemberRooms2.size()).isOne();
+        assertThat(findMemberRooms2.get(0).getMemories().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일정 공유 -> 개별 사용자 목록 | 성공 | 생성, 나가기로 변경된 구성원의 방")
+    void shareMemoryForUsersSuccessToRoomOfChangedMembers() {
+        /* 0-1. Set base data */
+        setBaseData();
+
+        /* 0-2. Create request */
+        var insertMemoryReq = MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .roomId(insertWriterRsp.getPrivateRoomId())
+                .name("Test Memory")
+                .startDate(LocalDateTime.parse(
+                        LocalDateTime.now().plusDays(3).format(alertTimeFormat), alertTimeFormat)
+                ) // 시작시간
+                .endDate(LocalDateTime.parse(
+                        LocalDateTime.now().plusDays(3).plusHours(1).format(alertTimeFormat), alertTimeFormat)
+                ) // 종료시간
+                .bgColor("#FFFFFF")
+                .build();
+
+        var shareMemoryUsersReq = MemoryReqDto.builder()
+                .shareType(ShareType.USERS)
+                .shareIds(List.of(insertMemberRsp.getUserId()))
+                .build();
+
+        /* 1. Make memories */
+        var insertMemoryRsp = memoryService.insert(insertMemoryReq);
+        var insertMemoryRsp2 = memoryService.insert(insertMemoryReq);
+
+        /* 2. Share to the member -> room made with the member is reused */
+        memoryService.shareMemory(insertMemoryRsp.getMemoryId(), insertWriterRsp.getUserId(), shareMemoryUsersReq);
+        var findMemberRooms = roomService.findRooms(insertMemberRsp.getUserId(), null);
+        assertThat(findMemberRooms.size()).isOne();
+        assertThat(findMemberRooms.get(0).getRoomId()).isEqualTo(insertRoomRsp.getRoomId());
+        assertThat(findMemberRooms.get(0).getMemories().size()).isOne();
+
+        /* 3. Member exits the room, share again -> new room */
+        roomService.exit(insertRoomRsp.getRoomId(), insertMemberRsp.getUserId(), null);
+        memoryService.shareMemory(insertMemoryRsp2.getMemoryId(), insertWriterRsp.getUserId(), shareMemoryUsersReq);
+        var findExitedMemberRooms = roomService.findRooms(insertMemberRsp.getUserId(), null);
+        assertThat(findExitedMemberRooms.size()).isOne();
+        assertThat(findExitedMemberRooms.get(0).getRoomId()).isNotEqualTo(insertRoomRsp.getRoomId());
+    }
+
     @Test
     @DisplayName("일정 공유 -> 개별 사용자 목록 | 실패 | 잘못된 공유자번호")
     void shareMemoryForUsersFailToWrongSharerId() {
@@ -2014,6 +2278,60 @@ class MemoryServiceTest {
         assertThat(findRoom3Rsp.getMemories().get(0).getMemoryId()).isEqualTo(insertMemoryRsp.getMemoryId());
     }
 
+    @Test
+    @DisplayName("일정 공유 -> 방 목록 | 성공 | 이미 공유된 방 제외")
+    void shareMemoryForRoomsSuccessToSkipSharedRooms() {
+        /* 0-1. Set base data */
+        setBaseData();
+
+        /* 0-2. Create request */
+        var insertMemoryReq = MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .roomId(insertRoomRsp.getRoomId())
+                .name("Test Memory")
+                .startDate(LocalDateTime.parse(
+                        LocalDateTime.now().plusDays(3).format(alertTimeFormat), alertTimeFormat)
+                ) // 시작시간
+                .endDate(LocalDateTime.parse(
+                        LocalDateTime.now().plusDays(3).plusHours(1).format(alertTimeFormat), alertTimeFormat)
+                ) // 종료시간
+                .bgColor("#FFFFFF")
+                .build();
+
+        var insertRoomRsp2 = roomService.insert(RoomReqDto.builder()
+                .name("room name2")
+                .userId(insertMemberRsp.getUserId())
+                .opened(false)
+                .member(List.of(insertWriterRsp.getUserId()))
+                .build()
+        );
+
+        // Room of the memory and duplicated room
+        var shareMemoryRoomsReq = MemoryReqDto.builder()
+                .shareType(ShareType.ROOMS)
+                .shareIds(List.of(insertRoomRsp.getRoomId(), insertRoomRsp2.getRoomId(), insertRoomRsp2.getRoomId()))
+                .build();
+
+        /* 1. Make memory */
+        var insertMemoryRsp = memoryService.insert(insertMemoryReq);
+        assertThat(insertMemoryRsp.getAddedRoomId()).isEqualTo(insertRoomRsp.getRoomId());
+
+        /* 2. Share memory for rooms twice */
+        var shareMemoryRsp = memoryService.shareMemory(
+                insertMemoryRsp.getMemoryId(), insertWriterRsp.getUserId(), shareMemoryRoomsReq
+        );
+        assertThat(shareMemoryRsp.getShareRooms().size()).isEqualTo(2);
+
+        var shareAgainMemoryRsp = memoryService.shareMemory(
+                insertMemoryRsp.getMemoryId(), insertWriterRsp.getUserId(), shareMemoryRoomsReq
+        );
+        assertThat(shareAgainMemoryRsp.getShareRooms().size()).isEqualTo(2);
+
+        /* 3. Check memory is shared once for each room */
+        assertThat(roomService.find(insertRoomRsp.getRoomId()).getMemories().size()).isOne();
+        assertThat(roomService.find(insertRoomRsp2.getRoomId()).getMemories().size()).isOne();
+    }
+
     @Test
     @DisplayName("일정 공유 -> 방 목록 | 실패 | 잘못된 공유자번호")
     void shareMemoryForRoomsFailToWrongSharerId() {
@@ -3805,6 +4123,431 @@ class MemoryServiceTest {
         assertThat(findMemoriesRsp5.getMemoryId()).isEqualTo(insertMemoryRsp7.getMemoryId());
     }
 
+    @Test
+    @DisplayName("일정 목록 페이지 조회 -> 커서 | 성공")
+    void findMemoriesPageSuccess() {
+        /* 0-1. Set base data */
+        setBaseData();
+
+        /* 0-2. Create request */
+        // Same start date: order is decided by reg date and memory id.
+        var startDate = LocalDateTime.parse(LocalDateTime.now().format(alertTimeFormat), alertTimeFormat);
+        var insertMemoryReqs = List.of(
+                startDate.plusDays(1), startDate, startDate, startDate, startDate.minusDays(1)
+        ).stream().map(memoryStartDate -> MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .roomId(insertRoomRsp.getRoomId())
+                .name("Test Memory")
+                .contents("Test Contents")
+                .place("Test Place")
+                .startDate(memoryStartDate) // 시작시간
+                .endDate(memoryStartDate.plusHours(1)) // 종료시간
+                .bgColor("#FFFFFF")
+                .build()
+        ).toList();
+
+        /* 1. Make memories */
+        insertMemoryReqs.forEach(insertMemoryReq -> assertThat(memoryService.insert(insertMemoryReq)).isNotNull());
+
+        /* 2. Find memories by page */
+        var expectedMemoryIds = memoryService.findMemories(insertWriterRsp.getUserId(), null, null, null)
+                .stream().map(MemoryRspDto::getMemoryId).toList();
+        assertThat(expectedMemoryIds.size()).isEqualTo(5);
+
+        var pagedMemoryIds = new ArrayList<Long>();
+        String cursor = null;
+        var pageCount = 0;
+        do {
+            var findMemoriesPageRsp = memoryService.findMemoriesPage(
+                    insertWriterRsp.getUserId(), null, null, null, cursor, 2
+            );
+            assertThat(findMemoriesPageRsp.getMemories().size()).isLessThanOrEqualTo(2);
+
+            findMemoriesPageRsp.getMemories().forEach(memory -> pagedMemoryIds.add(memory.getMemoryId()));
+            cursor = findMemoriesPageRsp.getNextCursor();
+            pageCount++;
+        } while (cursor != null);
+
+        assertThat(pageCount).isEqualTo(3);
+        assertThat(pagedMemoryIds).containsExactlyElementsOf(expectedMemoryIds);
+    }
+
+    @Test
+    @DisplayName("일정 목록 페이지 조회 -> 커서 | 실패 | 잘못된 커서")
+    void findMemoriesPageFailToWrongCursor() {
+        /* 0. Set base data */
+        setBaseData();
+
+        /* 1. Find memories by wrong cursor */
+        var writerId = insertWriterRsp.getUserId();
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> memoryService.findMemoriesPage(writerId, null, null, null, "wrong cursor", 2)
+        );
+    }
+
+    @Test
+    @DisplayName("일정 목록 조회 -> 월 캐시 | 성공")
+    void findMonthMemoriesCacheSuccess() {
+        /* 0-1. Set base data */
+        setBaseData();
+
+        /* 0-2. Create request */
+        var month = YearMonth.now();
+        var startDate = LocalDateTime.parse(month.atDay(10).atTime(9, 0).format(alertTimeFormat), alertTimeFormat);
+        var insertMemoryReq = MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .roomId(insertRoomRsp.getRoomId())
+                .name("Test Memory")
+                .contents("Test Contents")
+                .place("Test Place")
+                .startDate(startDate) // 시작시간
+                .endDate(startDate.plusHours(1)) // 종료시간
+                .bgColor("#FFFFFF")
+                .build();
+
+        /* 1. Make memory */
+        var insertMemoryRsp = memoryService.insert(insertMemoryReq);
+        assertThat(insertMemoryRsp).isNotNull();
+
+        /* 2. Find month memories twice -> second is cache hit */
+        var hitCount = cacheHitCount();
+        var findMemoriesList = memoryService.findMemories(insertWriterRsp.getUserId(), null, month, month);
+        assertThat(findMemoriesList.size()).isOne();
+
+        var findCachedMemoriesList = memoryService.findMemories(insertWriterRsp.getUserId(), null, month, month);
+        assertThat(findCachedMemoriesList).isSameAs(findMemoriesList);
+        assertThat(cacheHitCount()).isEqualTo(hitCount + 1);
+
+        /* 3. Insert memory -> month view is removed */
+        var insertMemoryRsp2 = memoryService.insert(insertMemoryReq);
+        assertThat(insertMemoryRsp2).isNotNull();
+
+        var findInsertedMemoriesList = memoryService.findMemories(insertWriterRsp.getUserId(), null, month, month);
+        assertThat(findInsertedMemoriesList.size()).isEqualTo(2);
+
+        /* 4. Update memory to next month -> both months are removed */
+        var updateMemoryReq = MemoryReqDto.builder()
+                .startDate(startDate.plusMonths(1))
+                .endDate(startDate.plusMonths(1).plusHours(1))
+                .build();
+        memoryService.update(insertMemoryRsp2.getMemoryId(), insertWriterRsp.getUserId(), updateMemoryReq);
+
+        var findUpdatedMemoriesList = memoryService.findMemories(insertWriterRsp.getUserId(), null, month, month);
+        assertThat(findUpdatedMemoriesList.size()).isOne();
+
+        var nextMonth = month.plusMonths(1);
+        var findNextMonthMemoriesList = memoryService.findMemories(
+                insertWriterRsp.getUserId(), null, nextMonth, nextMonth
+        );
+        assertThat(findNextMonthMemoriesList.size()).isOne();
+        assertThat(findNextMonthMemoriesList.get(0).getMemoryId()).isEqualTo(insertMemoryRsp2.getMemoryId());
+
+        /* 5. Delete memory -> month view is removed */
+        memoryService.delete(insertMemoryRsp.getMemoryId(), insertWriterRsp.getUserId(),
+                insertWriterRsp.getPrivateRoomId());
+
+        var findDeletedMemoriesList = memoryService.findMemories(insertWriterRsp.getUserId(), null, month, month);
+        assertThat(findDeletedMemoriesList).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일정 목록 조회 -> 월 캐시 | 성공 | 방장 변경 시 삭제")
+    void findMonthMemoriesCacheSuccessToInvalidateByRecommendOwner() {
+        /* 0. Set base data and cached month view */
+        var month = insertMonthMemory();
+        var findMemoriesList = memoryService.findMemories(insertWriterRsp.getUserId(), null, month, month);
+
+        /* 1. Owner of the share room is changed -> month view is removed */
+        roomService.recommendOwner(insertRoomRsp.getRoomId(), insertMemberRsp.getUserId());
+
+        var findChangedMemoriesList = memoryService.findMemories(insertWriterRsp.getUserId(), null, month, month);
+        assertThat(findChangedMemoriesList).isNotSameAs(findMemoriesList);
+        assertThat(findChangedMemoriesList.size()).isOne();
+    }
+
+    @Test
+    @DisplayName("일정 목록 조회 -> 월 캐시 | 성공 | 방 이름 변경 시 삭제")
+    void findMonthMemoriesCacheSuccessToInvalidateByRoomUpdate() {
+        /* 0. Set base data and cached month view */
+        var month = insertMonthMemory();
+        var findMemoriesList = memoryService.findMemories(insertWriterRsp.getUserId(), null, month, month);
+
+        /* 1. Name of the share room is changed -> month view is removed */
+        roomService.update(insertRoomRsp.getRoomId(), RoomReqDto.builder().name("Update room name").build());
+
+        var findChangedMemoriesList = memoryService.findMemories(insertWriterRsp.getUserId(), null, month, month);
+        assertThat(findChangedMemoriesList).isNotSameAs(findMemoriesList);
+        assertThat(findChangedMemoriesList.size()).isOne();
+    }
+
+    @Test
+    @DisplayName("일정 목록 조회 -> 월 캐시 | 성공 | 방장 퇴장 시 삭제")
+    void findMonthMemoriesCacheSuccessToInvalidateByOwnerExit() {
+        /* 0. Set base data and cached month view */
+        var month = insertMonthMemory();
+        var findMemoriesList = memoryService.findMemories(insertWriterRsp.getUserId(), null, month, month);
+
+        /* 1. Owner exits the share room -> owner is changed, month view is removed */
+        roomService.exit(insertRoomRsp.getRoomId(), insertWriterRsp.getUserId(), insertMemberRsp.getUserId());
+
+        var findChangedMemoriesList = memoryService.findMemories(insertWriterRsp.getUserId(), null, month, month);
+        assertThat(findChangedMemoriesList).isNotSameAs(findMemoriesList);
+    }
+
+    @Test
+    @DisplayName("일정 검색 -> 제목, 내용, 장소 | 성공")
+    void searchMemoriesSuccess() {
+        /* 0-1. Set base data */
+        setBaseData();
+
+        /* 0-2. Create request */
+        var startDate = LocalDateTime.parse(LocalDateTime.now().format(alertTimeFormat), alertTimeFormat);
+        var keyword = "Search" + System.nanoTime();
+
+        // 1) contents match, shared room
+        var insertContentsMemoryReq = MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .roomId(insertRoomRsp.getRoomId())
+                .name("Test Memory")
+                .contents("weekly " + keyword.toLowerCase() + " notes")
+                .place("Test Place")
+                .startDate(startDate) // 시작시간
+                .endDate(startDate.plusHours(1)) // 종료시간
+                .bgColor("#FFFFFF")
+                .build();
+
+        // 2) name prefix match, private room
+        var insertNameMemoryReq = MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .name(keyword + " Meeting")
+                .contents("Test Contents")
+                .place("Test Place")
+                .startDate(startDate) // 시작시간
+                .endDate(startDate.plusHours(1)) // 종료시간
+                .bgColor("#FFFFFF")
+                .build();
+
+        // 3) place match, private room
+        var insertPlaceMemoryReq = MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .name("Test Memory")
+                .contents("Test Contents")
+                .place(keyword + " Cafe")
+                .startDate(startDate) // 시작시간
+                .endDate(startDate.plusHours(1)) // 종료시간
+                .bgColor("#FFFFFF")
+                .build();
+
+        // 4) name match, member's private room -> not visible to writer
+        var insertMemberMemoryReq = MemoryReqDto.builder()
+                .userId(insertMemberRsp.getUserId())
+                .name(keyword)
+                .contents("Test Contents")
+                .place("Test Place")
+                .startDate(startDate) // 시작시간
+                .endDate(startDate.plusHours(1)) // 종료시간
+                .bgColor("#FFFFFF")
+                .build();
+
+        /* 1. Make memories */
+        var insertContentsMemoryRsp = memoryService.insert(insertContentsMemoryReq);
+        var insertNameMemoryRsp = memoryService.insert(insertNameMemoryReq);
+        var insertPlaceMemoryRsp = memoryService.insert(insertPlaceMemoryReq);
+        var insertMemberMemoryRsp = memoryService.insert(insertMemberMemoryReq);
+
+        /* 2. Search by writer -> rank order, own rooms only */
+        var searchRsp = memoryService.search(insertWriterRsp.getUserId(), keyword.toUpperCase(), null, null);
+        assertThat(searchRsp.isHasNext()).isFalse();
+        assertThat(searchRsp.getMemories().stream().map(MemoryRspDto::getMemoryId).toList())
+                .containsExactly(
+                        insertNameMemoryRsp.getMemoryId(),
+                        insertPlaceMemoryRsp.getMemoryId(),
+                        insertContentsMemoryRsp.getMemoryId()
+                );
+
+        /* 3. Search by member -> shared room memory and own memory */
+        var memberSearchRsp = memoryService.search(insertMemberRsp.getUserId(), keyword, 0, 1);
+        assertThat(memberSearchRsp.isHasNext()).isTrue();
+        assertThat(memberSearchRsp.getMemories().size()).isOne();
+        assertThat(memberSearchRsp.getMemories().get(0).getMemoryId()).isEqualTo(insertMemberMemoryRsp.getMemoryId());
+
+        var memberNextSearchRsp = memoryService.search(insertMemberRsp.getUserId(), keyword, 1, 1);
+        assertThat(memberNextSearchRsp.isHasNext()).isFalse();
+        assertThat(memberNextSearchRsp.getMemories().get(0).getMemoryId())
+                .isEqualTo(insertContentsMemoryRsp.getMemoryId());
+
+        /* 4. Wildcard is matched as it is */
+        var wildcardSearchRsp = memoryService.search(insertWriterRsp.getUserId(), keyword + "%", null, null);
+        assertThat(wildcardSearchRsp.getMemories()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일정 검색 -> 검색어 앞뒤 공백, 큰 페이지 번호 | 성공")
+    void searchMemoriesSuccessToTrimmedQueryAndLargePage() {
+        /* 0-1. Set base data */
+        setBaseData();
+
+        /* 0-2. Create request */
+        var startDate = LocalDateTime.parse(LocalDateTime.now().format(alertTimeFormat), alertTimeFormat);
+        var keyword = "Search" + System.nanoTime();
+        var insertMemoryReq = MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .name(keyword)
+                .startDate(startDate) // 시작시간
+                .endDate(startDate.plusHours(1)) // 종료시간
+                .bgColor("#FFFFFF")
+                .build();
+
+        /* 1. Make memory */
+        var insertMemoryRsp = memoryService.insert(insertMemoryReq);
+        assertThat(insertMemoryRsp).isNotNull();
+
+        /* 2. Query of max length with spaces around -> trimmed before the length check */
+        var paddedKeyword = "  " + keyword + "x".repeat(MemoryService.SEARCH_QUERY_MAX_LENGTH - keyword.length()) + "  ";
+        var paddedSearchRsp = memoryService.search(insertWriterRsp.getUserId(), paddedKeyword, null, null);
+        assertThat(paddedSearchRsp.getMemories()).isEmpty();
+
+        var trimmedSearchRsp = memoryService.search(insertWriterRsp.getUserId(), " " + keyword + " ", null, null);
+        assertThat(trimmedSearchRsp.getMemories().stream().map(MemoryRspDto::getMemoryId).toList())
+                .containsExactly(insertMemoryRsp.getMemoryId());
+
+        /* 3. Blank query -> fail */
+        var writerId = insertWriterRsp.getUserId();
+        assertThrows(IllegalArgumentException.class, () -> memoryService.search(writerId, "   ", null, null));
+
+        /* 4. Shorter than the min length after trim -> fail */
+        var shortKeyword = " " + keyword.substring(0, MemoryService.SEARCH_QUERY_MIN_LENGTH - 1) + " ";
+        assertThrows(IllegalArgumentException.class, () -> memoryService.search(writerId, shortKeyword, null, null));
+
+        /* 5. Page number * page size over int -> empty page, not a negative offset */
+        var largePageSearchRsp = memoryService.search(writerId, keyword, Integer.MAX_VALUE, MemoryService.PAGE_SIZE_MAX);
+        assertThat(largePageSearchRsp.getMemories()).isEmpty();
+        assertThat(largePageSearchRsp.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("일정 목록 조회 -> 반복 일정 | 성공")
+    void findRecurringMemoriesSuccess() {
+        /* 0-1. Set base data */
+        setBaseData();
+
+        /* 0-2. Create request */
+        var startDate = LocalDateTime.of(2022, 1, 31, 9, 0);
+        var insertWeeklyMemoryReq = MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .name("Biweekly Memory")
+                .startDate(startDate) // 시작시간
+                .endDate(startDate.plusHours(1)) // 종료시간
+                .bgColor("#FFFFFF")
+                .recurrenceType(RecurrenceType.WEEKLY)
+                .recurrenceInterval(2)
+                .build();
+        var insertMonthlyMemoryReq = MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .name("Monthly Memory")
+                .startDate(startDate.plusHours(2)) // 시작시간
+                .endDate(startDate.plusHours(3)) // 종료시간
+                .bgColor("#FFFFFF")
+                .recurrenceType(RecurrenceType.MONTHLY)
+                .recurrenceEndDate(LocalDateTime.of(2022, 4, 30, 23, 59))
+                .build();
+
+        /* 1. Make memories */
+        var insertWeeklyMemoryRsp = memoryService.insert(insertWeeklyMemoryReq);
+        var insertMonthlyMemoryRsp = memoryService.insert(insertMonthlyMemoryReq);
+        assertThat(insertWeeklyMemoryRsp.getRecurrenceType()).isEqualTo(RecurrenceType.WEEKLY);
+
+        /* 2. Find month -> occurrences in the month only */
+        var march = YearMonth.of(2022, 3);
+        var marchMemories = memoryService.findMemories(insertWriterRsp.getUserId(), null, march, march);
+        assertThat(marchMemories.stream().map(MemoryRspDto::getStartDate).toList()).containsExactly(
+                LocalDateTime.of(2022, 3, 14, 9, 0),
+                LocalDateTime.of(2022, 3, 28, 9, 0),
+                LocalDateTime.of(2022, 3, 31, 11, 0)
+        );
+        assertThat(marchMemories.get(0).getMemoryId()).isEqualTo(insertWeeklyMemoryRsp.getMemoryId());
+        assertThat(marchMemories.get(0).getEndDate()).isEqualTo(LocalDateTime.of(2022, 3, 14, 10, 0));
+
+        var april = YearMonth.of(2022, 4);
+        var aprilMemories = memoryService.findMemories(insertWriterRsp.getUserId(), null, april, april);
+        assertThat(aprilMemories.stream().map(MemoryRspDto::getStartDate).toList()).containsExactly(
+                LocalDateTime.of(2022, 4, 11, 9, 0),
+                LocalDateTime.of(2022, 4, 25, 9, 0),
+                LocalDateTime.of(2022, 4, 30, 11, 0)
+        );
+
+        var may = YearMonth.of(2022, 5);
+        assertThat(memoryService.findMemories(insertWriterRsp.getUserId(), null, may, may).stream()
+                .map(MemoryRspDto::getMemoryId).distinct().toList())
+                .containsExactly(insertWeeklyMemoryRsp.getMemoryId());
+
+        /* 3. Find without month -> series */
+        assertThat(memoryService.findMemories(insertWriterRsp.getUserId(), null, null, null).size()).isEqualTo(2);
+
+        /* 4. Exclude one occurrence */
+        var excludeDate = LocalDateTime.of(2022, 3, 14, 9, 0);
+        memoryService.excludeOccurrence(insertWeeklyMemoryRsp.getMemoryId(), insertWriterRsp.getUserId(), excludeDate);
+        assertThrows(
+                IllegalArgumentException.class, () -> memoryService.excludeOccurrence(
+                        insertWeeklyMemoryRsp.getMemoryId(), insertWriterRsp.getUserId(), excludeDate.plusDays(1)
+                )
+        );
+
+        var excludedMarchMemories = memoryService.findMemories(insertWriterRsp.getUserId(), null, march, march);
+        assertThat(excludedMarchMemories.stream().map(MemoryRspDto::getStartDate).toList()).containsExactly(
+                LocalDateTime.of(2022, 3, 28, 9, 0),
+                LocalDateTime.of(2022, 3, 31, 11, 0)
+        );
+
+        /* 5. Room view of the month -> same occurrences */
+        var roomMarchMemories = roomService.find(insertWriterRsp.getPrivateRoomId(), march).getMemories();
+        assertThat(roomMarchMemories.stream().map(MemoryRspDto::getStartDate).toList())
+                .containsExactlyInAnyOrder(
+                        LocalDateTime.of(2022, 3, 28, 9, 0),
+                        LocalDateTime.of(2022, 3, 31, 11, 0)
+                );
+        assertThat(insertMonthlyMemoryRsp.getRecurrenceEndDate()).isEqualTo(LocalDateTime.of(2022, 4, 30, 23, 59));
+    }
+
+    @Test
+    @DisplayName("반복 일정 수정 -> 시작시간 변경 | 성공 | 삭제한 반복 일정 유지")
+    void updateRecurringMemorySuccessToMoveExclusions() {
+        /* 0-1. Set base data */
+        setBaseData();
+
+        /* 0-2. Create request */
+        var startDate = LocalDateTime.of(2022, 3, 7, 9, 0);
+        var insertWeeklyMemoryReq = MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .name("Weekly Memory")
+                .startDate(startDate) // 시작시간
+                .endDate(startDate.plusHours(1)) // 종료시간
+                .bgColor("#FFFFFF")
+                .recurrenceType(RecurrenceType.WEEKLY)
+                .recurrenceEndDate(LocalDateTime.of(2022, 3, 31, 23, 59))
+                .build();
+        var moveStartReq = MemoryReqDto.builder()
+                .startDate(startDate.plusDays(1).plusHours(1)) // 시작시간
+                .endDate(startDate.plusDays(1).plusHours(2)) // 종료시간
+                .build();
+
+        /* 1. Make memory, exclude 2nd occurrence */
+        var memoryId = memoryService.insert(insertWeeklyMemoryReq).getMemoryId();
+        memoryService.excludeOccurrence(memoryId, insertWriterRsp.getUserId(), startDate.plusWeeks(1));
+
+        /* 2. Move start without recurrence type -> 2nd occurrence of the new start is removed */
+        memoryService.update(memoryId, insertWriterRsp.getUserId(), moveStartReq);
+
+        var march = YearMonth.of(2022, 3);
+        var marchMemories = memoryService.findMemories(insertWriterRsp.getUserId(), null, march, march);
+        assertThat(marchMemories.stream().map(MemoryRspDto::getStartDate).toList()).containsExactly(
+                LocalDateTime.of(2022, 3, 8, 10, 0),
+                LocalDateTime.of(2022, 3, 22, 10, 0),
+                LocalDateTime.of(2022, 3, 29, 10, 0)
+        );
+    }
+
     // life cycle: @Before -> @Test => separate => Not maintained 
     // Call function in @Test function => maintained 
     void setBaseData() {
@@ -3850,4 +4593,30 @@ class MemoryServiceTest {
         assertThat(insertRoomRsp.getMembers().size()).isEqualTo(2);
     }
 
+    // Base data and a memory of this month in the share room
+    private YearMonth insertMonthMemory() {
+        setBaseData();
+
+        var month = YearMonth.now();
+        var startDate = LocalDateTime.parse(month.atDay(10).atTime(9, 0).format(alertTimeFormat), alertTimeFormat);
+        var insertMemoryRsp = memoryService.insert(MemoryReqDto.builder()
+                .userId(insertWriterRsp.getUserId())
+                .roomId(insertRoomRsp.getRoomId())
+                .name("Test Memory")
+                .startDate(startDate) // 시작시간
+                .endDate(startDate.plusHours(1)) // 종료시간
+                .bgColor("#FFFFFF")
+                .build());
+        assertThat(insertMemoryRsp).isNotNull();
+
+        return month;
+    }
+
+    private double cacheHitCount() {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", MemoryMonthCache.CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+    }
 }
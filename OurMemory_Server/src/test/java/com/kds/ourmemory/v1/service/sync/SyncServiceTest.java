@@ -0,0 +1,135 @@
+package com.kds.ourmemory.v1.service.sync;
+
+import com.kds.ourmemory.v1.controller.memory.dto.MemoryReqDto;
+import com.kds.ourmemory.v1.controller.memory.dto.MemoryRspDto;
+import com.kds.ourmemory.v1.controller.room.dto.RoomReqDto;
+import com.kds.ourmemory.v1.controller.sync.dto.SyncRspDto;
+import com.kds.ourmemory.v1.entity.memory.RecurrenceType;
+import com.kds.ourmemory.v1.entity.relation.AttendanceStatus;
+import com.kds.ourmemory.v1.service.memory.MemoryService;
+import com.kds.ourmemory.v1.service.room.RoomService;
+import com.kds.ourmemory.v1.service.user.UserFixture;
+import com.kds.ourmemory.v1.service.user.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SyncServiceTest {
+
+    private final SyncService syncService;
+
+    private final MemoryService memoryService;
+
+    private final RoomService roomService;
+
+    private final UserService userService;
+
+    @Autowired
+    private SyncServiceTest(SyncService syncService, MemoryService memoryService, RoomService roomService,
+                            UserService userService) {
+        this.syncService = syncService;
+        this.memoryService = memoryService;
+        this.roomService = roomService;
+        this.userService = userService;
+    }
+
+    @Test
+    @DisplayName("변경 내역 동기화 | 성공 | 변경 없음, 참석 여부, 방 일정 삭제")
+    void syncSuccess() {
+        /* 0. Set base data */
+        var writerId = insertUser("syncWriter");
+        var memberId = insertUser("syncMember");
+        var roomId = roomService.insert(RoomReqDto.builder()
+                .name("sync room")
+                .userId(writerId)
+                .opened(false)
+                .member(List.of(memberId))
+                .build()
+        ).getRoomId();
+
+        var memoryId = memoryService.insert(MemoryReqDto.builder()
+                .userId(writerId)
+                .roomId(roomId)
+                .name("sync memory")
+                .startDate(LocalDateTime.now().plusDays(1))
+                .endDate(LocalDateTime.now().plusDays(1).plusHours(1))
+                .bgColor("#FFFFFF")
+                .build()
+        ).getMemoryId();
+
+        /* 1. First sync: every room and memory of the member */
+        var firstSyncRsp = syncService.sync(memberId, null);
+        assertThat(firstSyncRsp.getWatermark()).isNotNull();
+        assertThat(firstSyncRsp.getRoomIds()).contains(roomId);
+        assertThat(firstSyncRsp.getRooms()).extracting(SyncRspDto.SyncRoom::getRoomId).contains(roomId);
+        assertThat(firstSyncRsp.getMemories()).extracting(MemoryRspDto::getMemoryId).containsExactly(memoryId);
+
+        /* 2. Nothing changed */
+        var since = LocalDateTime.now();
+        var emptySyncRsp = syncService.sync(memberId, since);
+        assertThat(emptySyncRsp.getRoomIds()).isNull();
+        assertThat(emptySyncRsp.getRooms()).isEmpty();
+        assertThat(emptySyncRsp.getMemories()).isEmpty();
+        assertThat(emptySyncRsp.getAttendances()).isEmpty();
+
+        /* 3. Attendance changed */
+        memoryService.setAttendanceStatus(memoryId, MemoryReqDto.builder()
+                .userId(writerId).attendanceStatus(AttendanceStatus.ATTEND).build());
+
+        var attendSyncRsp = syncService.sync(memberId, since);
+        assertThat(attendSyncRsp.getRooms()).isEmpty();
+        assertThat(attendSyncRsp.getMemories()).extracting(MemoryRspDto::getMemoryId).containsExactly(memoryId);
+        assertThat(attendSyncRsp.getMemories().get(0).getAttendCount()).isEqualTo(1);
+        assertThat(attendSyncRsp.getAttendances()).hasSize(1);
+        assertThat(attendSyncRsp.getAttendances().get(0).getUserId()).isEqualTo(writerId);
+        assertThat(attendSyncRsp.getAttendances().get(0).getStatus()).isEqualTo(AttendanceStatus.ATTEND);
+
+        /* 4. Memory removed from the room: the room is changed without the memory */
+        memoryService.delete(memoryId, writerId, roomId);
+
+        var deleteSyncRsp = syncService.sync(memberId, since);
+        assertThat(deleteSyncRsp.getRooms()).hasSize(1);
+        assertThat(deleteSyncRsp.getRooms().get(0).getRoomId()).isEqualTo(roomId);
+        assertThat(deleteSyncRsp.getRooms().get(0).getMemoryIds()).doesNotContain(memoryId);
+        assertThat(deleteSyncRsp.getRoomIds()).isNull();
+    }
+
+    @Test
+    @DisplayName("변경 내역 동기화 | 성공 | 반복 일정 하나 삭제")
+    void syncSuccessToExcludeOccurrence() {
+        /* 0. Set base data */
+        var writerId = insertUser("syncRecurringWriter");
+        var startDate = LocalDateTime.now().plusDays(1).withNano(0);
+        var memoryId = memoryService.insert(MemoryReqDto.builder()
+                .userId(writerId)
+                .name("sync recurring memory")
+                .startDate(startDate)
+                .endDate(startDate.plusHours(1))
+                .bgColor("#FFFFFF")
+                .recurrenceType(RecurrenceType.DAILY)
+                .build()
+        ).getMemoryId();
+
+        /* 1. One occurrence removed: only the removed occurrences of the memory are changed */
+        var since = LocalDateTime.now();
+        memoryService.excludeOccurrence(memoryId, writerId, startDate.plusDays(1));
+
+        var excludeSyncRsp = syncService.sync(writerId, since);
+        assertThat(excludeSyncRsp.getMemories()).extracting(MemoryRspDto::getMemoryId).containsExactly(memoryId);
+    }
+
+    private Long insertUser(String name) {
+        return userService.signUp(UserFixture.signUpReq(name)).getUserId();
+    }
+}
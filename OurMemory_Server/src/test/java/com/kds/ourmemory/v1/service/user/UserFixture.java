@@ -0,0 +1,32 @@
+package com.kds.ourmemory.v1.service.user;
+
+import com.kds.ourmemory.v1.controller.user.dto.UserReqDto;
+import com.kds.ourmemory.v1.entity.user.DeviceOs;
+
+/**
+ * Sign up requests shared by tests which only need some users to exist.
+ * Sns id and push token are made from the name, so names must be unique in a test.
+ */
+public final class UserFixture {
+
+    private UserFixture() {
+    }
+
+    public static UserReqDto signUpReq(String name) {
+        return signUpReq(name, true);
+    }
+
+    public static UserReqDto signUpReq(String name, boolean push) {
+        return UserReqDto.builder()
+                .snsType(1)
+                .snsId(name + "_snsId")
+                .pushToken(name + " Token")
+                .push(push)
+                .name(name)
+                .birthday("0101")
+                .solar(true)
+                .birthdayOpen(false)
+                .deviceOs(DeviceOs.AOS)
+                .build();
+    }
+}
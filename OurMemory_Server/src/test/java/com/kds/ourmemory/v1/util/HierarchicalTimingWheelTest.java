@@ -0,0 +1,59 @@
+package com.kds.ourmemory.v1.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("시간 진행 -> 모든 단계 | 마감된 작업만 반환")
+    void advanceAcrossLevels() {
+        // Levels of 4s, 16s, 64s, 256s
+        var wheel = new HierarchicalTimingWheel<String>(1_000, 4, 0);
+        assertThat(wheel.schedule("level0", 1_500)).isTrue();
+        assertThat(wheel.schedule("level1", 10_000)).isTrue();
+        assertThat(wheel.schedule("level2", 50_000)).isTrue();
+        assertThat(wheel.schedule("level3", 200_000)).isTrue();
+        assertThat(wheel.size()).isEqualTo(4);
+
+        assertThat(wheel.advance(999)).isEmpty();
+        assertThat(wheel.advance(1_000)).containsExactly("level0");
+        assertThat(wheel.advance(9_999)).isEmpty();
+        assertThat(wheel.advance(10_000)).containsExactly("level1");
+        assertThat(wheel.advance(49_999)).isEmpty();
+        assertThat(wheel.advance(50_000)).containsExactly("level2");
+        assertThat(wheel.advance(199_999)).isEmpty();
+        assertThat(wheel.advance(200_000)).containsExactly("level3");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("작업 취소, 재등록 | 마지막 마감시간만 반환")
+    void cancelAndReschedule() {
+        var wheel = new HierarchicalTimingWheel<String>(1_000, 4, 0);
+        wheel.schedule("moved", 30_000);
+        wheel.schedule("moved", 2_000);
+        wheel.schedule("canceled", 3_000);
+        assertThat(wheel.size()).isEqualTo(2);
+
+        assertThat(wheel.cancel("canceled")).isTrue();
+        assertThat(wheel.cancel("canceled")).isFalse();
+
+        assertThat(wheel.advance(5_000)).containsExactly("moved");
+        assertThat(wheel.advance(30_000)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("현재 틱 작업 등록 | 바로 마감")
+    void scheduleInCurrentTick() {
+        var wheel = new HierarchicalTimingWheel<String>(1_000, 4, 10_500);
+
+        assertThat(wheel.schedule("current", 10_900)).isFalse();
+        assertThat(wheel.schedule("past", 9_000)).isFalse();
+        assertThat(wheel.schedule("next", 11_000)).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+}
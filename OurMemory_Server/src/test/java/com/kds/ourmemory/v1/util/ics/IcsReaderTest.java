@@ -0,0 +1,104 @@
+package com.kds.ourmemory.v1.util.ics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IcsReaderTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("일정 읽기 | 접힌 줄, 이스케이프, 하위 컴포넌트")
+    void readText() throws IOException {
+        var events = read("""
+                BEGIN:VCALENDAR
+                VERSION:2.0
+                BEGIN:VEVENT
+                SUMMARY:긴 제목은 여러 줄로
+                  접힌다
+                DESCRIPTION:첫째 줄\\n둘째 줄\\, 쉼표\\; 세미콜론
+                LOCATION;LANGUAGE=ko:서울
+                DTSTART:20220301T100000
+                DTEND:20220301T110000
+                BEGIN:VALARM
+                ACTION:DISPLAY
+                DESCRIPTION:알람 설명
+                END:VALARM
+                END:VEVENT
+                END:VCALENDAR
+                """);
+
+        assertThat(events).hasSize(1);
+        var event = events.get(0);
+        assertThat(event.summary()).isEqualTo("긴 제목은 여러 줄로 접힌다");
+        assertThat(event.description()).isEqualTo("첫째 줄\n둘째 줄, 쉼표; 세미콜론");
+        assertThat(event.location()).isEqualTo("서울");
+        assertThat(event.startDate()).isEqualTo(LocalDateTime.of(2022, 3, 1, 10, 0));
+        assertThat(event.endDate()).isEqualTo(LocalDateTime.of(2022, 3, 1, 11, 0));
+    }
+
+    @Test
+    @DisplayName("일정 읽기 | 시간대, 종일 일정, 기간")
+    void readDates() throws IOException {
+        var events = read("""
+                BEGIN:VCALENDAR
+                BEGIN:VEVENT
+                SUMMARY:UTC
+                DTSTART:20220301T010000Z
+                DTEND:20220301T020000Z
+                END:VEVENT
+                BEGIN:VEVENT
+                SUMMARY:TZID
+                DTSTART;TZID=America/New_York:20220301T090000
+                DURATION:PT30M
+                END:VEVENT
+                BEGIN:VEVENT
+                SUMMARY:종일
+                DTSTART;VALUE=DATE:20220301
+                DTEND;VALUE=DATE:20220303
+                END:VEVENT
+                BEGIN:VEVENT
+                SUMMARY:종료 없음
+                DTSTART;VALUE=DATE:20220305
+                END:VEVENT
+                BEGIN:VEVENT
+                SUMMARY:시작 오류
+                DTSTART:2022-03-01
+                END:VEVENT
+                END:VCALENDAR
+                """);
+
+        assertThat(events).extracting(IcsEvent::startDate).containsExactly(
+                LocalDateTime.of(2022, 3, 1, 10, 0),
+                LocalDateTime.of(2022, 3, 1, 23, 0),
+                LocalDateTime.of(2022, 3, 1, 0, 0),
+                LocalDateTime.of(2022, 3, 5, 0, 0),
+                null
+        );
+        assertThat(events).extracting(IcsEvent::endDate).containsExactly(
+                LocalDateTime.of(2022, 3, 1, 11, 0),
+                LocalDateTime.of(2022, 3, 1, 23, 30),
+                LocalDateTime.of(2022, 3, 2, 23, 59, 59),
+                LocalDateTime.of(2022, 3, 5, 23, 59, 59),
+                null
+        );
+    }
+
+    private List<IcsEvent> read(String ics) throws IOException {
+        var events = new ArrayList<IcsEvent>();
+        try (var reader = new IcsReader(new StringReader(ics), SEOUL)) {
+            assertThat(reader.readEvents(events::add)).isEqualTo(events.size());
+        }
+
+        return events;
+    }
+}
@@ -0,0 +1,80 @@
+package com.kds.ourmemory.v1.util.ics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IcsWriterTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("일정 쓰기 -> 읽기 | 같은 일정")
+    void writeAndRead() throws IOException {
+        var event = new IcsEvent(
+                "memory-1@ourmemory",
+                "긴 제목 ".repeat(20).strip(),
+                "첫째 줄\n둘째 줄, 쉼표; 세미콜론 \\ 역슬래시",
+                "서울",
+                LocalDateTime.of(2022, 3, 1, 10, 0),
+                LocalDateTime.of(2022, 3, 1, 11, 30),
+                LocalDateTime.of(2022, 2, 27, 9, 15, 30)
+        );
+
+        var output = new ByteArrayOutputStream();
+        var writer = new IcsWriter(output, SEOUL);
+        writer.writeHeader("내 일정");
+        writer.writeEvent(event);
+        writer.writeFooter();
+        writer.flush();
+
+        var ics = output.toString(StandardCharsets.UTF_8);
+        assertThat(ics).contains("DTSTART:20220301T010000Z\r\n");
+        assertThat(ics.split("\r\n"))
+                .allMatch(line -> line.getBytes(StandardCharsets.UTF_8).length <= 75);
+
+        var events = new ArrayList<IcsEvent>();
+        new IcsReader(new StringReader(ics), SEOUL).readEvents(events::add);
+        assertThat(events).containsExactly(event);
+    }
+
+    @Test
+    @DisplayName("반복 일정 쓰기 | RRULE, EXDATE")
+    void writeRecurringEvent() throws IOException {
+        var event = new IcsEvent(
+                "memory-2@ourmemory",
+                "격주 회의",
+                null,
+                null,
+                LocalDateTime.of(2022, 3, 1, 10, 0),
+                LocalDateTime.of(2022, 3, 1, 11, 0),
+                null,
+                new IcsEvent.Recurrence("WEEKLY", 2, LocalDateTime.of(2022, 5, 10, 10, 0)),
+                List.of(LocalDateTime.of(2022, 4, 12, 10, 0), LocalDateTime.of(2022, 3, 15, 10, 0))
+        );
+
+        var output = new ByteArrayOutputStream();
+        var writer = new IcsWriter(output, SEOUL);
+        writer.writeEvent(event);
+        writer.flush();
+
+        var ics = output.toString(StandardCharsets.UTF_8);
+        assertThat(ics).contains("RRULE:FREQ=WEEKLY;INTERVAL=2;UNTIL=20220510T010000Z\r\n");
+        assertThat(ics).contains("EXDATE:20220315T010000Z,20220412T010000Z\r\n");
+
+        // Reader keeps the occurrence of DTSTART
+        var events = new ArrayList<IcsEvent>();
+        new IcsReader(new StringReader(ics), SEOUL).readEvents(events::add);
+        assertThat(events).extracting(IcsEvent::startDate).containsExactly(event.startDate());
+    }
+}